@@ -0,0 +1,104 @@
+package com.enofex.taikai.benchmarks;
+
+import com.enofex.taikai.Namespace;
+import com.enofex.taikai.Taikai;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Taikai#checkAll()} end-to-end with a starter configuration of Java and Spring
+ * rules.
+ *
+ * <p>The namespace is evicted from the cache of {@link Namespace} before each invocation, so every
+ * invocation imports the classes, builds the indexes of the rules and evaluates them, like the
+ * first check of a test run.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CheckAllBenchmark {
+
+  @Param({"500", "2500", "10000"})
+  public int classes;
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  private FixtureCorpus corpus;
+  private Taikai taikai;
+
+  @Setup
+  public void setUp() {
+    this.corpus = FixtureCorpus.of(this.classes);
+    this.corpus.activate();
+
+    this.taikai = Taikai.builder()
+        .namespace(this.corpus.namespace())
+        .parallelism(this.parallelism)
+        .java(java -> java
+            .noUsageOfDeprecatedAPIs()
+            .noUsageOfSystemOutOrErr()
+            .fieldsShouldNotBePublic()
+            .methodsShouldNotDeclareGenericExceptions()
+            .utilityClassesShouldBeFinalAndHavePrivateConstructor()
+            .classesShouldImplementHashCodeAndEquals()
+            .imports(imports -> imports
+                .shouldHaveNoCycles())
+            .naming(naming -> naming
+                .packagesShouldMatchDefault()
+                .classesShouldNotMatch(".*Impl")
+                .interfacesShouldNotHavePrefixI()))
+        .spring(spring -> spring
+            .noAutowiredFields()
+            .noSelfInvocationOfProxiedMethods()
+            .controllers(controllers -> controllers
+                .namesShouldEndWithController()
+                .shouldBeAnnotatedWithRestController()
+                .shouldBePackagePrivate()
+                .shouldNotDependOnOtherControllers()
+                .shouldNotDependOnRepositories())
+            .services(services -> services
+                .namesShouldEndWithService()
+                .shouldBeAnnotatedWithService()
+                .shouldNotDependOnControllers())
+            .repositories(repositories -> repositories
+                .namesShouldEndWithRepository()
+                .shouldBeAnnotatedWithRepository()
+                .shouldNotDependOnServices()
+                .shouldNotDependOnControllers())
+            .transactional(transactional -> transactional
+                .methodsShouldBePublic()
+                .shouldNotBeSelfInvoked()
+                .shouldNotBeUsedInControllers()))
+        .build();
+  }
+
+  @Setup(Level.Invocation)
+  public void evict() {
+    Namespace.evict(this.corpus.namespace());
+  }
+
+  @Benchmark
+  public void checkAll(Blackhole blackhole) {
+    try {
+      this.taikai.checkAll();
+    } catch (AssertionError e) {
+      blackhole.consume(e);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.enofex.taikai.benchmarks;
+
+import com.enofex.taikai.Namespace;
+import com.enofex.taikai.Taikai;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the evaluation time of the rules of a single configurer on already imported classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConfigurerBenchmark {
+
+  @Param({"500", "2500"})
+  public int classes;
+
+  @Param({"java", "naming", "imports", "deprecations", "spring"})
+  public String configurer;
+
+  private Taikai taikai;
+
+  @Setup
+  public void setUp() {
+    FixtureCorpus corpus = FixtureCorpus.of(this.classes);
+    corpus.activate();
+    Namespace.from(corpus.namespace(), Namespace.IMPORT.WITHOUT_TESTS);
+
+    Taikai.Builder builder = Taikai.builder()
+        .namespace(corpus.namespace());
+
+    Taikai.Builder configured = switch (this.configurer) {
+      case "java" -> builder.java(java -> java
+          .fieldsShouldNotBePublic()
+          .finalClassesShouldNotHaveProtectedMembers()
+          .methodsShouldNotDeclareGenericExceptions()
+          .utilityClassesShouldBeFinalAndHavePrivateConstructor()
+          .classesShouldImplementHashCodeAndEquals());
+      case "naming" -> builder.java(java -> java
+          .naming(naming -> naming
+              .packagesShouldMatchDefault()
+              .classesShouldNotMatch(".*Impl")
+              .constantsShouldFollowConventions()
+              .interfacesShouldNotHavePrefixI()));
+      case "imports" -> builder.java(java -> java
+          .imports(imports -> imports
+              .shouldHaveNoCycles()
+              .shouldNotImport("..internal..")));
+      case "deprecations" -> builder.java(java -> java
+          .noUsageOfDeprecatedAPIs());
+      case "spring" -> builder.spring(spring -> spring
+          .noAutowiredFields()
+          .controllers(controllers -> controllers
+              .namesShouldEndWithController()
+              .shouldBeAnnotatedWithRestController()
+              .shouldNotDependOnOtherControllers()
+              .shouldNotDependOnRepositories())
+          .services(services -> services
+              .namesShouldEndWithService()
+              .shouldNotDependOnControllers())
+          .repositories(repositories -> repositories
+              .namesShouldEndWithRepository()
+              .shouldNotDependOnServices()));
+      default -> throw new IllegalArgumentException("Unknown configurer " + this.configurer);
+    };
+
+    this.taikai = configured.build();
+  }
+
+  @Benchmark
+  public void checkAll(Blackhole blackhole) {
+    try {
+      this.taikai.checkAll();
+    } catch (AssertionError e) {
+      blackhole.consume(e);
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package com.enofex.taikai.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * A generated Spring style code base of a given size, compiled into a temporary directory.
+ *
+ * <p>Each corpus lives in its own package, so that the static import cache of Taikai does not
+ * share classes between corpora of different sizes. Every model class comes with a repository,
+ * a service, a controller and a utility class. Services call a deprecated method, so rules on
+ * deprecated APIs report violations.</p>
+ */
+final class FixtureCorpus {
+
+  private static final String BASE_PACKAGE = "com.enofex.taikai.benchmarks.fixture";
+  private static final int CLASSES_PER_MODEL = 5;
+  private static final Map<Integer, FixtureCorpus> CORPORA = new ConcurrentHashMap<>();
+
+  private final String namespace;
+  private final Path classes;
+  private final ClassLoader classLoader;
+
+  private FixtureCorpus(String namespace, Path classes) {
+    this.namespace = namespace;
+    this.classes = classes;
+
+    try {
+      this.classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+          FixtureCorpus.class.getClassLoader());
+    } catch (MalformedURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the corpus with roughly the given number of classes, generating it on first use.
+   */
+  static FixtureCorpus of(int size) {
+    return CORPORA.computeIfAbsent(size, FixtureCorpus::generate);
+  }
+
+  String namespace() {
+    return this.namespace;
+  }
+
+  Path classes() {
+    return this.classes;
+  }
+
+  /**
+   * Makes the corpus visible to namespace imports of the current thread.
+   */
+  void activate() {
+    Thread.currentThread().setContextClassLoader(this.classLoader);
+  }
+
+  private static FixtureCorpus generate(int size) {
+    String namespace = BASE_PACKAGE + ".c" + size;
+    int models = Math.max(1, size / CLASSES_PER_MODEL);
+
+    try {
+      Path root = Files.createTempDirectory("taikai-benchmarks");
+      Path sources = root.resolve("sources");
+      Path classes = root.resolve("classes");
+      Files.createDirectories(classes);
+
+      List<Path> files = new ArrayList<>(models * CLASSES_PER_MODEL);
+      for (int i = 0; i < models; i++) {
+        files.add(write(sources, namespace, "model", "Model" + i, model(namespace, i)));
+        files.add(write(sources, namespace, "repository", "Model" + i + "Repository",
+            repository(namespace, i)));
+        files.add(write(sources, namespace, "service", "Model" + i + "Service",
+            service(namespace, i, models)));
+        files.add(write(sources, namespace, "controller", "Model" + i + "Controller",
+            controller(namespace, i)));
+        files.add(write(sources, namespace, "util", "Model" + i + "Utils", utils(namespace, i)));
+      }
+
+      compile(files, classes);
+      return new FixtureCorpus(namespace, classes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Path write(Path sources, String namespace, String subPackage, String name,
+      String source) throws IOException {
+    Path directory = sources.resolve((namespace + "." + subPackage).replace('.', '/'));
+    Files.createDirectories(directory);
+    return Files.writeString(directory.resolve(name + ".java"), source);
+  }
+
+  private static void compile(List<Path> files, Path classes) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+    if (compiler == null) {
+      throw new IllegalStateException("Benchmarks require a JDK to compile the fixture corpus");
+    }
+
+    List<String> arguments = new ArrayList<>(List.of(
+        "-d", classes.toString(),
+        "-classpath", System.getProperty("java.class.path"),
+        "-proc:none",
+        "-nowarn"));
+    files.forEach(file -> arguments.add(file.toString()));
+
+    if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0) {
+      throw new IllegalStateException("Unable to compile the fixture corpus");
+    }
+  }
+
+  private static String model(String namespace, int i) {
+    return """
+        package %1$s.model;
+
+        import java.util.Objects;
+
+        public class Model%2$d {
+
+          private String name;
+
+          public String getName() {
+            return this.name;
+          }
+
+          public void setName(String name) {
+            this.name = name;
+          }
+
+          @Deprecated
+          public void legacy() {
+          }
+
+          @Override
+          public boolean equals(Object o) {
+            return o instanceof Model%2$d other && Objects.equals(this.name, other.name);
+          }
+
+          @Override
+          public int hashCode() {
+            return Objects.hashCode(this.name);
+          }
+        }
+        """.formatted(namespace, i);
+  }
+
+  private static String repository(String namespace, int i) {
+    return """
+        package %1$s.repository;
+
+        import %1$s.model.Model%2$d;
+        import org.springframework.stereotype.Repository;
+
+        @Repository
+        public class Model%2$dRepository {
+
+          public Model%2$d find(String name) {
+            Model%2$d model = new Model%2$d();
+            model.setName(name);
+            return model;
+          }
+        }
+        """.formatted(namespace, i);
+  }
+
+  private static String service(String namespace, int i, int models) {
+    return """
+        package %1$s.service;
+
+        import %1$s.model.Model%2$d;
+        import %1$s.repository.Model%2$dRepository;
+        import %1$s.util.Model%2$dUtils;
+        import org.springframework.stereotype.Service;
+        import org.springframework.transaction.annotation.Transactional;
+
+        @Service
+        public class Model%2$dService {
+
+          private final Model%2$dRepository repository;
+          private final Model%3$dService next;
+
+          public Model%2$dService(Model%2$dRepository repository, Model%3$dService next) {
+            this.repository = repository;
+            this.next = next;
+          }
+
+          @Transactional
+          public Model%2$d load(String name) {
+            Model%2$d model = this.repository.find(Model%2$dUtils.normalize(name));
+            model.legacy();
+            return model;
+          }
+
+          public Model%3$dService next() {
+            return this.next;
+          }
+        }
+        """.formatted(namespace, i, (i + 1) % models);
+  }
+
+  private static String controller(String namespace, int i) {
+    return """
+        package %1$s.controller;
+
+        import %1$s.model.Model%2$d;
+        import %1$s.service.Model%2$dService;
+        import org.springframework.web.bind.annotation.GetMapping;
+        import org.springframework.web.bind.annotation.PathVariable;
+        import org.springframework.web.bind.annotation.RestController;
+
+        @RestController
+        class Model%2$dController {
+
+          private final Model%2$dService service;
+
+          Model%2$dController(Model%2$dService service) {
+            this.service = service;
+          }
+
+          @GetMapping("/model%2$d/{name}")
+          Model%2$d get(@PathVariable String name) {
+            return this.service.load(name);
+          }
+        }
+        """.formatted(namespace, i);
+  }
+
+  private static String utils(String namespace, int i) {
+    return """
+        package %1$s.util;
+
+        public final class Model%2$dUtils {
+
+          private Model%2$dUtils() {
+          }
+
+          public static String normalize(String value) {
+            return value == null ? "" : value.trim();
+          }
+        }
+        """.formatted(namespace, i);
+  }
+}
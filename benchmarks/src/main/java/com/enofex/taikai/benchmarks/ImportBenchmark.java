@@ -0,0 +1,59 @@
+package com.enofex.taikai.benchmarks;
+
+import com.enofex.taikai.Namespace;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast a namespace is imported through {@link Namespace#from}.
+ *
+ * <p>{@code Namespace.from} caches its result, so the namespace is evicted before each invocation
+ * and every invocation measures a cache miss. An import takes milliseconds, so the overhead of the
+ * per invocation setup does not distort the results.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ImportBenchmark {
+
+  @Param({"500", "2500", "10000"})
+  public int classes;
+
+  private FixtureCorpus corpus;
+
+  @Setup
+  public void setUp() {
+    this.corpus = FixtureCorpus.of(this.classes);
+    this.corpus.activate();
+  }
+
+  @Setup(Level.Invocation)
+  public void evict() {
+    Namespace.evict(this.corpus.namespace());
+  }
+
+  @Benchmark
+  public JavaClasses importWithoutTests() {
+    return Namespace.from(this.corpus.namespace(), Namespace.IMPORT.WITHOUT_TESTS);
+  }
+
+  @Benchmark
+  public JavaClasses importWithTests() {
+    return Namespace.from(this.corpus.namespace(), Namespace.IMPORT.WITH_TESTS);
+  }
+}
@@ -0,0 +1,260 @@
+package com.enofex.taikai.maven;
+
+import com.enofex.taikai.EvaluationListener;
+import com.enofex.taikai.Namespace;
+import com.enofex.taikai.Taikai;
+import com.enofex.taikai.TaikaiRule;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Checks the compiled classes of the project with the rules of a {@link Taikai} configuration.
+ *
+ * <p>The configuration is created by a provider class of the project, a class implementing
+ * {@code Supplier<Taikai>} with a public no-argument constructor. The namespaces of the rules are
+ * imported from the class directories of the project instead of the whole classpath.</p>
+ *
+ * <p>Unless the configuration sets its own {@link Taikai#cacheDirectory() cache directory}, the
+ * result is cached in {@code target/taikai}. The check is skipped if neither the class files nor
+ * the rules changed since the last successful run.</p>
+ *
+ * <p>The classes imported for a project are released after its check, while the imports of other
+ * projects checked in the same build, possibly in parallel, are kept. The ArchUnit configuration
+ * is shared by all of them, so projects built in parallel should agree on
+ * {@link Taikai#failOnEmpty()}.</p>
+ */
+@Mojo(name = "check", defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES,
+    requiresDependencyResolution = ResolutionScope.TEST)
+public class CheckMojo extends AbstractMojo {
+
+  @Parameter(defaultValue = "${project}", readonly = true, required = true)
+  private MavenProject project;
+
+  /**
+   * The fully qualified name of the class providing the configuration.
+   */
+  @Parameter(property = "taikai.provider", required = true)
+  private String provider;
+
+  @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+  private File classesDirectory;
+
+  @Parameter(defaultValue = "${project.build.testOutputDirectory}", required = true)
+  private File testClassesDirectory;
+
+  /**
+   * The directory caching the result, if the configuration does not set one.
+   */
+  @Parameter(property = "taikai.cacheDirectory",
+      defaultValue = "${project.build.directory}/taikai")
+  private File cacheDirectory;
+
+  /**
+   * Whether to stop at the first violated rule instead of reporting all violations.
+   */
+  @Parameter(property = "taikai.failFast", defaultValue = "false")
+  private boolean failFast;
+
+  @Parameter(property = "taikai.skip", defaultValue = "false")
+  private boolean skip;
+
+  public CheckMojo() {
+  }
+
+  CheckMojo(String provider, File classesDirectory, File testClassesDirectory,
+      File cacheDirectory, boolean failFast) {
+    this.provider = provider;
+    this.classesDirectory = classesDirectory;
+    this.testClassesDirectory = testClassesDirectory;
+    this.cacheDirectory = cacheDirectory;
+    this.failFast = failFast;
+  }
+
+  @Override
+  public void execute() throws MojoExecutionException, MojoFailureException {
+    if (this.skip) {
+      getLog().info("Skipping Taikai check");
+      return;
+    }
+
+    try (URLClassLoader classLoader = classLoader()) {
+      execute(classLoader);
+    } catch (IOException e) {
+      throw new MojoExecutionException("Unable to close the project class loader", e);
+    }
+  }
+
+  /**
+   * Checks the classes with the configuration of the provider loaded by the given class loader.
+   * The classes the check imported are evicted from the cache of {@link Namespace} afterwards, so
+   * they are neither kept by the plugin nor reused by a later build of the same project.
+   */
+  void execute(ClassLoader classLoader) throws MojoExecutionException, MojoFailureException {
+    Thread thread = Thread.currentThread();
+    ClassLoader contextClassLoader = thread.getContextClassLoader();
+
+    try {
+      thread.setContextClassLoader(classLoader);
+      check(classLoader);
+    } catch (RuntimeException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    } finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  private void check(ClassLoader classLoader)
+      throws MojoExecutionException, MojoFailureException {
+    AtomicInteger evaluatedRules = new AtomicInteger();
+    Taikai taikai = configure(taikai(this.provider, classLoader))
+        .addListener(new EvaluationListener() {
+          @Override
+          public void ruleStarted(TaikaiRule rule) {
+            evaluatedRules.incrementAndGet();
+          }
+        })
+        .build();
+
+    try {
+      check(taikai);
+    } finally {
+      evict(taikai);
+    }
+
+    if (evaluatedRules.get() == 0 && !taikai.rules().isEmpty()) {
+      getLog().info("Classes and rules are unchanged since the last successful check");
+    } else {
+      getLog().info("Checked %d Taikai rules".formatted(evaluatedRules.get()));
+    }
+  }
+
+  private void check(Taikai taikai) throws MojoFailureException {
+    try {
+      if (this.failFast) {
+        taikai.check();
+      } else {
+        taikai.checkAll();
+      }
+    } catch (AssertionError e) {
+      throw new MojoFailureException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Evicts the namespaces of the rules imported from the locations of the configuration, which
+   * are the class directories of the project unless the configuration sets its own.
+   */
+  private static void evict(Taikai taikai) {
+    if (taikai.classes() != null) {
+      return;
+    }
+
+    Set<String> namespaces = new HashSet<>();
+
+    for (TaikaiRule rule : taikai.rules()) {
+      if (rule.configuration().javaClasses() != null) {
+        continue;
+      }
+
+      String namespace = rule.configuration().namespace() != null
+          ? rule.configuration().namespace()
+          : taikai.namespace();
+
+      if (namespace != null && namespaces.add(namespace)) {
+        Namespace.evict(namespace, taikai.locations());
+      }
+    }
+  }
+
+  /**
+   * Imports the namespaces from the class directories and caches the result, unless the
+   * configuration sets its own classes, locations or cache directory.
+   */
+  private Taikai.Builder configure(Taikai taikai) {
+    Taikai.Builder builder = taikai.toBuilder();
+
+    if (taikai.classes() == null && taikai.locations().isEmpty()) {
+      List<Path> locations = new ArrayList<>(2);
+
+      for (File directory : List.of(this.classesDirectory, this.testClassesDirectory)) {
+        if (directory.isDirectory()) {
+          locations.add(directory.toPath());
+        }
+      }
+
+      builder.locations(locations);
+    }
+
+    if (taikai.cacheDirectory() == null) {
+      builder.cacheDirectory(this.cacheDirectory.toPath());
+    }
+
+    return builder;
+  }
+
+  /**
+   * Creates a class loader for the test classpath of the project. It delegates to the class loader
+   * of the plugin first, so the configuration is built with the Taikai classes of the plugin.
+   */
+  private URLClassLoader classLoader() throws MojoExecutionException {
+    try {
+      List<String> elements = this.project.getTestClasspathElements();
+      URL[] urls = new URL[elements.size()];
+
+      for (int i = 0; i < urls.length; i++) {
+        urls[i] = new File(elements.get(i)).toURI().toURL();
+      }
+
+      return new URLClassLoader(urls, getClass().getClassLoader());
+    } catch (DependencyResolutionRequiredException | MalformedURLException e) {
+      throw new MojoExecutionException("Unable to resolve the test classpath of the project", e);
+    }
+  }
+
+  /**
+   * Creates the configuration with the provider class of the given name.
+   */
+  static Taikai taikai(String provider, ClassLoader classLoader)
+      throws MojoExecutionException {
+    Object instance;
+
+    try {
+      Class<?> providerClass = Class.forName(provider, true, classLoader);
+
+      if (!Supplier.class.isAssignableFrom(providerClass)) {
+        throw new MojoExecutionException("Provider %s does not implement %s"
+            .formatted(provider, Supplier.class.getName()));
+      }
+
+      instance = ((Supplier<?>) providerClass.getDeclaredConstructor().newInstance()).get();
+    } catch (ReflectiveOperationException e) {
+      throw new MojoExecutionException("Unable to create provider %s".formatted(provider), e);
+    }
+
+    if (instance instanceof Taikai taikai) {
+      return taikai;
+    }
+
+    throw new MojoExecutionException("Provider %s does not supply a %s"
+        .formatted(provider, Taikai.class.getName()));
+  }
+}
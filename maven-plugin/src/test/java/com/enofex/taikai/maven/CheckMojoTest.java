@@ -0,0 +1,207 @@
+package com.enofex.taikai.maven;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.enofex.taikai.Namespace;
+import com.enofex.taikai.Taikai;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckMojoTest {
+
+  private static final ClassLoader CLASS_LOADER = CheckMojoTest.class.getClassLoader();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldCreateConfigurationWithProvider() throws Exception {
+    Taikai taikai = CheckMojo.taikai(ValidProvider.class.getName(), CLASS_LOADER);
+
+    assertEquals("com.enofex.taikai", taikai.namespace());
+  }
+
+  @Test
+  void shouldThrowExceptionForMissingProvider() {
+    assertThrows(MojoExecutionException.class,
+        () -> CheckMojo.taikai("com.enofex.taikai.maven.MissingProvider", CLASS_LOADER));
+  }
+
+  @Test
+  void shouldThrowExceptionForProviderNotBeingSupplier() {
+    assertThrows(MojoExecutionException.class,
+        () -> CheckMojo.taikai(CheckMojoTest.class.getName(), CLASS_LOADER));
+  }
+
+  @Test
+  void shouldThrowExceptionForProviderNotSupplyingTaikai() {
+    assertThrows(MojoExecutionException.class,
+        () -> CheckMojo.taikai(InvalidProvider.class.getName(), CLASS_LOADER));
+  }
+
+  @Test
+  void shouldCheckClasses() {
+    List<String> messages = new ArrayList<>();
+    CheckMojo mojo = mojo(ValidClassesProvider.class, messages);
+
+    assertDoesNotThrow(() -> mojo.execute(CLASS_LOADER));
+    assertEquals(List.of("Checked 1 Taikai rules"), messages);
+  }
+
+  @Test
+  void shouldFailForViolations() {
+    CheckMojo mojo = mojo(InvalidClassesProvider.class, new ArrayList<>());
+
+    MojoFailureException exception = assertThrows(MojoFailureException.class,
+        () -> mojo.execute(CLASS_LOADER));
+
+    assertTrue(exception.getMessage().contains(Vector.class.getName()));
+  }
+
+  @Test
+  void shouldSkipUnchangedClassesAndRules() throws Exception {
+    List<String> messages = new ArrayList<>();
+
+    mojo(ValidClassesProvider.class, messages).execute(CLASS_LOADER);
+    mojo(ValidClassesProvider.class, messages).execute(CLASS_LOADER);
+
+    assertEquals(List.of("Checked 1 Taikai rules",
+        "Classes and rules are unchanged since the last successful check"), messages);
+  }
+
+  @Test
+  void shouldCheckAgainWhenDependencyChanges() throws Exception {
+    List<String> messages = new ArrayList<>();
+    Path dependency = this.directory.resolve("dependency.jar");
+    writeJar(dependency, "Dependency.class");
+
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] {dependency.toUri().toURL()}, CLASS_LOADER)) {
+      mojo(ValidClassesProvider.class, messages).execute(classLoader);
+      mojo(ValidClassesProvider.class, messages).execute(classLoader);
+
+      writeJar(dependency, "Dependency.class", "Other.class");
+      mojo(ValidClassesProvider.class, messages).execute(classLoader);
+    }
+
+    assertEquals(List.of("Checked 1 Taikai rules",
+        "Classes and rules are unchanged since the last successful check",
+        "Checked 1 Taikai rules"), messages);
+  }
+
+  @Test
+  void shouldNotCacheImportedClasses() throws Exception {
+    mojo(ValidClassesProvider.class, new ArrayList<>()).execute(CLASS_LOADER);
+
+    assertEquals(0, Namespace.statistics().entries());
+  }
+
+  @Test
+  void shouldKeepClassesImportedByOthers() throws Exception {
+    JavaClasses classes = Namespace.from("com.enofex.taikai.maven.fixtures.valid",
+        Namespace.IMPORT.WITHOUT_TESTS);
+
+    try {
+      mojo(ValidClassesProvider.class, new ArrayList<>()).execute(CLASS_LOADER);
+
+      assertSame(classes, Namespace.from("com.enofex.taikai.maven.fixtures.valid",
+          Namespace.IMPORT.WITHOUT_TESTS));
+    } finally {
+      Namespace.evict("com.enofex.taikai.maven.fixtures.valid");
+    }
+  }
+
+  private CheckMojo mojo(Class<? extends Supplier<Taikai>> provider, List<String> messages) {
+    CheckMojo mojo = new CheckMojo(provider.getName(), classesDirectory(),
+        this.directory.resolve("test-classes").toFile(),
+        this.directory.resolve("taikai").toFile(), false);
+    mojo.setLog(new SystemStreamLog() {
+      @Override
+      public void info(CharSequence content) {
+        messages.add(content.toString());
+      }
+    });
+
+    return mojo;
+  }
+
+  private static void writeJar(Path jar, String... entries) throws IOException {
+    try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (String entry : entries) {
+        output.putNextEntry(new JarEntry(entry));
+        output.write(new byte[] {1});
+        output.closeEntry();
+      }
+    }
+  }
+
+  private static File classesDirectory() {
+    try {
+      return new File(CheckMojoTest.class.getProtectionDomain().getCodeSource().getLocation()
+          .toURI());
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static class ValidProvider implements Supplier<Taikai> {
+
+    @Override
+    public Taikai get() {
+      return Taikai.builder()
+          .namespace("com.enofex.taikai")
+          .build();
+    }
+  }
+
+  public static class InvalidProvider implements Supplier<String> {
+
+    @Override
+    public String get() {
+      return "com.enofex.taikai";
+    }
+  }
+
+  public static class ValidClassesProvider implements Supplier<Taikai> {
+
+    @Override
+    public Taikai get() {
+      return Taikai.builder()
+          .namespace("com.enofex.taikai.maven.fixtures.valid")
+          .java(java -> java.noUsageOf(Vector.class))
+          .build();
+    }
+  }
+
+  public static class InvalidClassesProvider implements Supplier<Taikai> {
+
+    @Override
+    public Taikai get() {
+      return Taikai.builder()
+          .namespace("com.enofex.taikai.maven.fixtures.invalid")
+          .java(java -> java.noUsageOf(Vector.class))
+          .build();
+    }
+  }
+}
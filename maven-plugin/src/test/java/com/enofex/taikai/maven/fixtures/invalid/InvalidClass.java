@@ -0,0 +1,9 @@
+package com.enofex.taikai.maven.fixtures.invalid;
+
+import java.util.List;
+import java.util.Vector;
+
+public class InvalidClass {
+
+  private final List<String> values = new Vector<>();
+}
@@ -0,0 +1,9 @@
+package com.enofex.taikai.maven.fixtures.valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ValidClass {
+
+  private final List<String> values = new ArrayList<>();
+}
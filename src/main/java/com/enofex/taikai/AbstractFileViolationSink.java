@@ -0,0 +1,109 @@
+package com.enofex.taikai;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link ViolationSink} writing the violations of each run to a file through a buffered writer,
+ * so only the violations of the rule being written are held in memory.
+ */
+abstract class AbstractFileViolationSink implements ViolationSink {
+
+  private final Path file;
+  private @Nullable Writer writer;
+
+  AbstractFileViolationSink(Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public final void started() {
+    try {
+      Path parent = this.file.toAbsolutePath().getParent();
+
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      this.writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8);
+      writeHeader(this.writer);
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to write violations to %s".formatted(this.file), e);
+    }
+  }
+
+  @Override
+  public final void violations(TaikaiRule rule, List<String> details) {
+    if (this.writer == null) {
+      throw new IllegalStateException("Violation sink was not started");
+    }
+
+    try {
+      writeViolations(this.writer, rule, details);
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to write violations to %s".formatted(this.file), e);
+    }
+  }
+
+  @Override
+  public final void finished() {
+    if (this.writer == null) {
+      return;
+    }
+
+    try (Writer closing = this.writer) {
+      writeFooter(closing);
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to write violations to %s".formatted(this.file), e);
+    } finally {
+      this.writer = null;
+    }
+  }
+
+  @Override
+  public String description() {
+    return this.file.toString();
+  }
+
+  void writeHeader(Writer writer) throws IOException {
+  }
+
+  abstract void writeViolations(Writer writer, TaikaiRule rule, List<String> details)
+      throws IOException;
+
+  void writeFooter(Writer writer) throws IOException {
+  }
+
+  /**
+   * Writes the value as a JSON string literal.
+   */
+  static void writeString(Writer writer, String value) throws IOException {
+    writer.write('"');
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+
+      switch (c) {
+        case '"' -> writer.write("\\\"");
+        case '\\' -> writer.write("\\\\");
+        case '\n' -> writer.write("\\n");
+        case '\r' -> writer.write("\\r");
+        case '\t' -> writer.write("\\t");
+        default -> {
+          if (c < 0x20) {
+            writer.write("\\u%04x".formatted((int) c));
+          } else {
+            writer.write(c);
+          }
+        }
+      }
+    }
+
+    writer.write('"');
+  }
+}
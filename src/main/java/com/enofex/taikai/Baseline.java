@@ -0,0 +1,291 @@
+package com.enofex.taikai;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * The known violations of each rule, so that only new violations fail a {@link Taikai} run.
+ *
+ * <p>Violations are identified by a 64-bit hash of their message with line numbers and the
+ * numbers of anonymous classes and lambdas removed, so they survive unrelated edits of the same
+ * file. Violations with the same message are counted, so further occurrences of a known message
+ * are still reported. The hashes of each rule are kept as a sorted array with their counts and
+ * looked up by binary search, which keeps the file and the memory compact and the lookup fast even
+ * for hundreds of thousands of violations.</p>
+ *
+ * <p>If the file does not exist, all violations of the run are recorded and none are reported. The
+ * recording is only written after a run that evaluated all rules completely, as otherwise later
+ * runs would fail on violations that were there all along. If the file exists, known violations
+ * are filtered out, and known violations that no longer occur are removed from the file after a
+ * run that evaluated all rules completely.</p>
+ */
+final class Baseline {
+
+  private static final int MAGIC = 0x544B424C;
+  private static final int VERSION = 2;
+  private static final System.Logger LOGGER = System.getLogger(Taikai.class.getName());
+  private static final Pattern LINE_NUMBER = Pattern.compile(":\\d+\\)");
+  private static final Pattern GENERATED_NUMBER = Pattern.compile("\\$\\d+");
+
+  private final Path file;
+  private final boolean recording;
+  private final Map<Long, Violations> known;
+  private final Map<Long, int[]> seen;
+  private final Map<Long, Map<Long, Integer>> recorded;
+
+  private Baseline(Path file, boolean recording, Map<Long, Violations> known) {
+    this.file = file;
+    this.recording = recording;
+    this.known = known;
+    this.seen = new ConcurrentHashMap<>();
+    this.recorded = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Reads the baseline from the given file, or starts recording a new one if the file does not
+   * exist.
+   */
+  static Baseline load(Path file) {
+    requireNonNull(file);
+
+    if (!Files.exists(file)) {
+      return new Baseline(file, true, Map.of());
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file)))) {
+      int version = input.readInt() == MAGIC ? input.readInt() : 0;
+
+      if (version != 1 && version != VERSION) {
+        throw new TaikaiException("Unsupported baseline file %s".formatted(file));
+      }
+
+      int rules = input.readInt();
+      Map<Long, Violations> known = new TreeMap<>();
+
+      for (int i = 0; i < rules; i++) {
+        long rule = input.readLong();
+        Violations violations = new Violations(new long[input.readInt()]);
+
+        // Files of version 1 store each message once, without a count.
+        for (int j = 0; j < violations.hashes().length; j++) {
+          violations.hashes()[j] = input.readLong();
+          violations.counts()[j] = version == 1 ? 1 : input.readInt();
+        }
+
+        known.put(rule, violations);
+      }
+
+      return new Baseline(file, false, known);
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to read baseline file %s".formatted(file), e);
+    }
+  }
+
+  /**
+   * Returns whether this run records a new baseline.
+   */
+  boolean isRecording() {
+    return this.recording;
+  }
+
+  /**
+   * Returns a predicate accepting the violation messages of the rule that are not part of the
+   * baseline. While recording, all messages are recorded and none are accepted.
+   *
+   * <p>Each call counts the violations of the rule anew, so a rule evaluated again in the same
+   * run, for example on all classes after its changed classes had violations, is matched against
+   * the whole baseline again and only its last evaluation is kept.
+   */
+  Predicate<String> newViolations(TaikaiRule rule) {
+    long ruleHash = hash(rule.archRule().getDescription());
+
+    if (this.recording) {
+      Map<Long, Integer> ruleViolations = new ConcurrentHashMap<>();
+      this.recorded.put(ruleHash, ruleViolations);
+
+      return violation -> {
+        ruleViolations.merge(hash(normalize(violation)), 1, Integer::sum);
+        return false;
+      };
+    }
+
+    Violations ruleViolations = this.known.getOrDefault(ruleHash, new Violations(new long[0]));
+    int[] ruleSeen = new int[ruleViolations.hashes().length];
+    this.seen.put(ruleHash, ruleSeen);
+
+    return violation -> {
+      int index = Arrays.binarySearch(ruleViolations.hashes(), hash(normalize(violation)));
+
+      if (index < 0) {
+        return true;
+      }
+
+      synchronized (ruleSeen) {
+        if (ruleSeen[index] == ruleViolations.counts()[index]) {
+          return true;
+        }
+
+        ruleSeen[index]++;
+      }
+      return false;
+    };
+  }
+
+  /**
+   * Writes the recorded baseline, or removes the known violations that no longer occur. Does
+   * nothing unless all rules were evaluated completely.
+   */
+  void store(boolean complete) {
+    if (this.recording && !complete) {
+      LOGGER.log(System.Logger.Level.WARNING, "Baseline file {0} is not recorded, as not all rules"
+          + " were evaluated completely", this.file);
+      return;
+    }
+
+    if (this.recording) {
+      Map<Long, Violations> violations = new TreeMap<>();
+
+      this.recorded.forEach((rule, ruleViolations) -> {
+        if (!ruleViolations.isEmpty()) {
+          violations.put(rule, Violations.of(ruleViolations));
+        }
+      });
+
+      write(violations);
+      return;
+    }
+
+    if (!complete || !hasFixedViolations()) {
+      return;
+    }
+
+    Map<Long, Violations> violations = new TreeMap<>();
+
+    this.known.forEach((rule, ruleViolations) -> {
+      int[] ruleSeen = this.seen.getOrDefault(rule, new int[ruleViolations.hashes().length]);
+      Map<Long, Integer> remaining = new TreeMap<>();
+
+      for (int index = 0; index < ruleSeen.length; index++) {
+        if (ruleSeen[index] > 0) {
+          remaining.put(ruleViolations.hashes()[index], ruleSeen[index]);
+        }
+      }
+
+      if (!remaining.isEmpty()) {
+        violations.put(rule, Violations.of(remaining));
+      }
+    });
+
+    write(violations);
+  }
+
+  private boolean hasFixedViolations() {
+    for (Map.Entry<Long, Violations> entry : this.known.entrySet()) {
+      int[] ruleSeen = this.seen.get(entry.getKey());
+
+      if (ruleSeen == null || !Arrays.equals(ruleSeen, entry.getValue().counts())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void write(Map<Long, Violations> violations) {
+    try {
+      Path directory = this.file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temporaryFile = Files.createTempFile(directory, "taikai", ".tmp");
+
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(violations.size());
+
+        for (Map.Entry<Long, Violations> entry : violations.entrySet()) {
+          Violations ruleViolations = entry.getValue();
+          output.writeLong(entry.getKey());
+          output.writeInt(ruleViolations.hashes().length);
+
+          for (int index = 0; index < ruleViolations.hashes().length; index++) {
+            output.writeLong(ruleViolations.hashes()[index]);
+            output.writeInt(ruleViolations.counts()[index]);
+          }
+        }
+      }
+
+      Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to write baseline file %s".formatted(this.file), e);
+    }
+  }
+
+  /**
+   * Removes the parts of a violation message that change with unrelated edits: line numbers and
+   * the numbers the compiler assigns to anonymous classes and lambdas.
+   */
+  static String normalize(String violation) {
+    return GENERATED_NUMBER.matcher(LINE_NUMBER.matcher(violation).replaceAll(")"))
+        .replaceAll("\\$");
+  }
+
+  /**
+   * Returns the 64-bit FNV-1a hash of the value, with the final mix of MurmurHash3 to spread
+   * similar messages. A new violation is only hidden if its hash equals one of the known hashes of
+   * the same rule, which for a million known violations is about as likely as one in 10^13.
+   */
+  static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+
+    return hash;
+  }
+
+  /**
+   * The sorted hashes of the known violations of a rule and how often each occurred.
+   */
+  private record Violations(long[] hashes, int[] counts) {
+
+    Violations(long[] hashes) {
+      this(hashes, new int[hashes.length]);
+    }
+
+    static Violations of(Map<Long, Integer> counts) {
+      Violations violations = new Violations(new long[counts.size()]);
+      int next = 0;
+
+      for (Map.Entry<Long, Integer> entry : new TreeMap<>(counts).entrySet()) {
+        violations.hashes()[next] = entry.getKey();
+        violations.counts()[next++] = entry.getValue();
+      }
+
+      return violations;
+    }
+  }
+}
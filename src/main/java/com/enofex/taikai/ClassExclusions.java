@@ -0,0 +1,107 @@
+package com.enofex.taikai;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compiled form of class exclusion patterns, built once and then matched against many classes.
+ *
+ * <p>Fully qualified class names are kept in a hash set, package wildcards ({@code .*}) and
+ * recursive package wildcards ({@code ..}) in package sets that are probed once per enclosing
+ * package of a class. Only the remaining patterns are treated as regular expressions, each compiled
+ * once into its own {@link Pattern}.</p>
+ *
+ * @see Taikai#excludedClasses()
+ */
+final class ClassExclusions {
+
+  private static final ClassExclusions NONE = new ClassExclusions(Set.of());
+
+  private final Set<String> classNames;
+  private final Set<String> packages;
+  private final Set<String> recursivePackages;
+  private final List<Pattern> regexes;
+
+  private ClassExclusions(Collection<String> patterns) {
+    this.classNames = new HashSet<>();
+    this.packages = new HashSet<>();
+    this.recursivePackages = new HashSet<>();
+    Set<String> regexes = new LinkedHashSet<>();
+
+    for (String pattern : patterns) {
+      if (isArchUnitRecursivePackage(pattern)) {
+        this.recursivePackages.add(stripArchUnitSuffix(pattern));
+      } else if (isArchUnitSinglePackage(pattern)) {
+        this.packages.add(stripArchUnitSuffix(pattern));
+      } else if (isFullyQualifiedClass(pattern)) {
+        this.classNames.add(pattern);
+      } else {
+        regexes.add(pattern);
+      }
+    }
+
+    this.regexes = regexes.stream().map(Pattern::compile).toList();
+  }
+
+  static ClassExclusions of(@Nullable Collection<String> patterns) {
+    return patterns == null || patterns.isEmpty() ? NONE : new ClassExclusions(patterns);
+  }
+
+  boolean isEmpty() {
+    return this.classNames.isEmpty() && this.packages.isEmpty()
+        && this.recursivePackages.isEmpty() && this.regexes.isEmpty();
+  }
+
+  boolean excludes(String className) {
+    if (this.classNames.contains(className)) {
+      return true;
+    }
+
+    int lastDot = className.lastIndexOf('.');
+
+    if (lastDot > 0 && this.packages.contains(className.substring(0, lastDot))) {
+      return true;
+    }
+
+    if (!this.recursivePackages.isEmpty() && isInRecursivePackage(className)) {
+      return true;
+    }
+
+    return this.regexes.stream().anyMatch(regex -> regex.matcher(className).matches());
+  }
+
+  private boolean isInRecursivePackage(String className) {
+    if (this.recursivePackages.contains(className)) {
+      return true;
+    }
+
+    for (int dot = className.indexOf('.'); dot > 0; dot = className.indexOf('.', dot + 1)) {
+      if (this.recursivePackages.contains(className.substring(0, dot))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean isArchUnitRecursivePackage(String value) {
+    return value.endsWith("..");
+  }
+
+  private static boolean isArchUnitSinglePackage(String value) {
+    return value.endsWith(".*");
+  }
+
+  private static boolean isFullyQualifiedClass(String value) {
+    return !value.contains("*") && !value.contains("..");
+  }
+
+  private static String stripArchUnitSuffix(String value) {
+    return value.substring(0, value.length() - 2);
+  }
+}
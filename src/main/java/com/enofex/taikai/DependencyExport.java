@@ -0,0 +1,291 @@
+package com.enofex.taikai;
+
+import static com.enofex.taikai.internal.DescribedPredicates.annotatedWith;
+import static java.util.Objects.requireNonNull;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Describes how {@link Taikai#exportDependencies(java.nio.file.Path, DependencyExport)} writes the
+ * dependency graph of the imported classes.
+ *
+ * <p>The graph is written in the given {@link Format}, with a node per class or per package
+ * depending on the {@link Level}. Nodes are sorted by name and the dependencies of a node by the
+ * name of their target, so exports of two releases can be compared line by line. Nodes can be
+ * annotated with the layers declared through {@link Taikai.Builder#layers}, with stereotypes
+ * identified by an annotation, and with whether a rule reports a violation of the class.</p>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * taikai.exportDependencies(Path.of("target/dependencies.dot"), DependencyExport.builder()
+ *     .format(DependencyExport.Format.DOT)
+ *     .level(DependencyExport.Level.PACKAGES)
+ *     .layers(true)
+ *     .stereotype("Controller", "org.springframework.web.bind.annotation.RestController")
+ *     .violations(true)
+ *     .build());
+ * }</pre>
+ */
+public final class DependencyExport {
+
+  private final Format format;
+  private final Level level;
+  private final Namespace.IMPORT namespaceImport;
+  private final boolean layers;
+  private final boolean violations;
+  private final Map<String, DescribedPredicate<? super JavaClass>> stereotypes;
+
+  private DependencyExport(Builder builder) {
+    this.format = builder.format;
+    this.level = builder.level;
+    this.namespaceImport = builder.namespaceImport;
+    this.layers = builder.layers;
+    this.violations = builder.violations;
+    this.stereotypes = Collections.unmodifiableMap(new LinkedHashMap<>(builder.stereotypes));
+  }
+
+  /**
+   * Returns the format the graph is written in.
+   *
+   * @return the format, {@link Format#DOT} by default
+   */
+  public Format format() {
+    return this.format;
+  }
+
+  /**
+   * Returns whether the nodes of the graph are classes or packages.
+   *
+   * @return the level, {@link Level#PACKAGES} by default
+   */
+  public Level level() {
+    return this.level;
+  }
+
+  /**
+   * Returns the import mode of the namespace, if the classes are imported from a namespace.
+   *
+   * @return the import mode, {@link Namespace.IMPORT#WITHOUT_TESTS} by default
+   */
+  public Namespace.IMPORT namespaceImport() {
+    return this.namespaceImport;
+  }
+
+  /**
+   * Returns whether nodes are annotated with the layers they belong to.
+   *
+   * @return {@code true} if layers are exported, {@code false} otherwise
+   */
+  public boolean layers() {
+    return this.layers;
+  }
+
+  /**
+   * Returns whether nodes are annotated with whether a rule reports a violation of their classes.
+   *
+   * @return {@code true} if violations are exported, {@code false} otherwise
+   */
+  public boolean violations() {
+    return this.violations;
+  }
+
+  /**
+   * Returns the stereotypes nodes are annotated with, by name.
+   *
+   * @return the stereotypes in the order they were added
+   */
+  public Map<String, DescribedPredicate<? super JavaClass>> stereotypes() {
+    return this.stereotypes;
+  }
+
+  /**
+   * Creates a new {@link Builder} instance for fluent configuration of an export.
+   *
+   * @return a new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * The formats a dependency graph can be written in.
+   */
+  public enum Format {
+
+    /**
+     * A Graphviz {@code digraph}, with the annotations as node attributes.
+     */
+    DOT,
+
+    /**
+     * A GraphML document, with the annotations as node data.
+     */
+    GRAPHML,
+
+    /**
+     * A JSON object holding a {@code nodes} and an {@code edges} array, with a node or edge per
+     * line.
+     */
+    JSON
+  }
+
+  /**
+   * The elements a node of a dependency graph stands for.
+   */
+  public enum Level {
+
+    /**
+     * A node per package, depending on another package if one of its classes depends on a class
+     * of the other package.
+     */
+    PACKAGES,
+
+    /**
+     * A node per class, including nested classes.
+     */
+    CLASSES
+  }
+
+  /**
+   * Builder for constructing a {@link DependencyExport}.
+   */
+  public static final class Builder {
+
+    private final Map<String, DescribedPredicate<? super JavaClass>> stereotypes;
+    private Format format;
+    private Level level;
+    private Namespace.IMPORT namespaceImport;
+    private boolean layers;
+    private boolean violations;
+
+    private Builder() {
+      this.stereotypes = new LinkedHashMap<>();
+      this.format = Format.DOT;
+      this.level = Level.PACKAGES;
+      this.namespaceImport = Namespace.IMPORT.WITHOUT_TESTS;
+    }
+
+    /**
+     * Sets the format the graph is written in.
+     *
+     * @param format the format
+     * @return this builder for fluent chaining
+     */
+    public Builder format(Format format) {
+      this.format = requireNonNull(format);
+      return this;
+    }
+
+    /**
+     * Sets whether the nodes of the graph are classes or packages.
+     *
+     * @param level the level
+     * @return this builder for fluent chaining
+     */
+    public Builder level(Level level) {
+      this.level = requireNonNull(level);
+      return this;
+    }
+
+    /**
+     * Sets the import mode of the namespace, if the classes are imported from a namespace.
+     *
+     * @param namespaceImport the import mode
+     * @return this builder for fluent chaining
+     */
+    public Builder namespaceImport(Namespace.IMPORT namespaceImport) {
+      this.namespaceImport = requireNonNull(namespaceImport);
+      return this;
+    }
+
+    /**
+     * Sets whether nodes are annotated with the layers declared through
+     * {@link Taikai.Builder#layers} they belong to. A package belongs to every layer one of its
+     * classes belongs to.
+     *
+     * @param layers {@code true} to export layers
+     * @return this builder for fluent chaining
+     */
+    public Builder layers(boolean layers) {
+      this.layers = layers;
+      return this;
+    }
+
+    /**
+     * Sets whether nodes are annotated with whether a rule reports a violation of their classes.
+     * All rules are evaluated for the export, ignoring the baseline.
+     *
+     * @param violations {@code true} to export violations
+     * @return this builder for fluent chaining
+     */
+    public Builder violations(boolean violations) {
+      this.violations = violations;
+      return this;
+    }
+
+    /**
+     * Adds a stereotype consisting of the classes annotated or meta-annotated with the given
+     * annotation.
+     *
+     * @param name       the unique name of the stereotype
+     * @param annotation the annotation of the stereotype
+     * @return this builder for fluent chaining
+     * @throws IllegalArgumentException if the name is blank or already added
+     */
+    public Builder stereotype(String name, Class<? extends Annotation> annotation) {
+      return stereotype(name, annotation.getName());
+    }
+
+    /**
+     * Adds a stereotype consisting of the classes annotated or meta-annotated with the given
+     * annotation.
+     *
+     * @param name       the unique name of the stereotype
+     * @param annotation the fully qualified name of the annotation of the stereotype
+     * @return this builder for fluent chaining
+     * @throws IllegalArgumentException if the name is blank or already added
+     */
+    public Builder stereotype(String name, String annotation) {
+      requireNonNull(annotation);
+
+      return stereotype(name, annotatedWith(annotation, true).<JavaClass>forSubtype());
+    }
+
+    /**
+     * Adds a stereotype consisting of the classes matching the given predicate.
+     *
+     * @param name      the unique name of the stereotype
+     * @param predicate the predicate matching the classes of the stereotype
+     * @return this builder for fluent chaining
+     * @throws IllegalArgumentException if the name is blank or already added
+     */
+    public Builder stereotype(String name, DescribedPredicate<? super JavaClass> predicate) {
+      requireNonNull(name);
+      requireNonNull(predicate);
+
+      if (name.isBlank()) {
+        throw new IllegalArgumentException("Stereotype name must not be blank");
+      }
+
+      if (this.stereotypes.putIfAbsent(name, predicate) != null) {
+        throw new IllegalArgumentException("Stereotype %s is already added".formatted(name));
+      }
+
+      return this;
+    }
+
+    /**
+     * Builds the export.
+     *
+     * @return the export
+     */
+    public DependencyExport build() {
+      return new DependencyExport(this);
+    }
+  }
+}
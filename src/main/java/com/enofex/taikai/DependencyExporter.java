@@ -0,0 +1,188 @@
+package com.enofex.taikai;
+
+import com.enofex.taikai.internal.DependencyGraph;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Exports the dependency graph of imported classes through a {@link DependencyGraphWriter}.
+ *
+ * <p>The dependencies are taken from a {@link DependencyGraph} of the classes, ignoring the
+ * dependencies on classes outside of the import. The layers and stereotypes are computed once per
+ * class as sets of graph ids. Classes are numbered in the order of their names, and packages
+ * depending on another package are collected for one package at a time, so apart from the graph
+ * only a few arrays are held in memory while the nodes and edges are written.</p>
+ */
+final class DependencyExporter {
+
+  private final DependencyExport export;
+  private final DependencyGraph graph;
+  private final int[] classes;
+  private final int[] ranks;
+  private final Map<String, BitSet> layers;
+  private final Map<String, BitSet> stereotypes;
+  private final BitSet violations;
+
+  DependencyExporter(JavaClasses javaClasses, DependencyExport export,
+      Map<String, DescribedPredicate<JavaClass>> layers, Set<String> violatingClasses) {
+    this.export = export;
+    this.graph = DependencyGraph.of(javaClasses.stream().toList());
+    this.classes = IntStream.range(0, javaClasses.size())
+        .boxed()
+        .sorted(Comparator.comparing(id -> this.graph.javaClass(id).getName()))
+        .mapToInt(Integer::intValue)
+        .toArray();
+    this.ranks = new int[this.classes.length];
+
+    for (int rank = 0; rank < this.classes.length; rank++) {
+      this.ranks[this.classes[rank]] = rank;
+    }
+
+    this.layers = export.layers() ? matching(layers) : Map.of();
+    this.stereotypes = matching(export.stereotypes());
+    this.violations = new BitSet(this.classes.length);
+
+    if (export.violations()) {
+      for (int id = 0; id < this.classes.length; id++) {
+        if (violatingClasses.contains(this.graph.javaClass(id).getName())) {
+          this.violations.set(id);
+        }
+      }
+    }
+  }
+
+  private Map<String, BitSet> matching(
+      Map<String, ? extends DescribedPredicate<? super JavaClass>> predicates) {
+    Map<String, BitSet> matching = new LinkedHashMap<>();
+    predicates.forEach((name, predicate) -> matching.put(name, this.graph.matching(predicate)));
+
+    return matching;
+  }
+
+  void write(DependencyGraphWriter writer) throws IOException {
+    writer.writeHeader();
+
+    if (this.export.level() == DependencyExport.Level.CLASSES) {
+      writeClasses(writer);
+    } else {
+      writePackages(writer);
+    }
+
+    writer.writeFooter();
+  }
+
+  private void writeClasses(DependencyGraphWriter writer) throws IOException {
+    for (int rank = 0; rank < this.classes.length; rank++) {
+      writer.writeNode(node(name(rank), this.classes, rank, rank + 1));
+    }
+
+    writer.writeEdgesStart();
+
+    for (int rank = 0; rank < this.classes.length; rank++) {
+      int source = this.classes[rank];
+      int[] targets = Arrays.stream(this.graph.targets(source))
+          .filter(target -> target < this.classes.length && target != source)
+          .map(target -> this.ranks[target])
+          .sorted()
+          .toArray();
+
+      for (int target : targets) {
+        writer.writeEdge(name(rank), name(target));
+      }
+    }
+  }
+
+  private void writePackages(DependencyGraphWriter writer) throws IOException {
+    Map<String, List<Integer>> classesByPackage = new TreeMap<>();
+
+    for (int id : this.classes) {
+      classesByPackage.computeIfAbsent(this.graph.javaClass(id).getPackageName(),
+          packageName -> new ArrayList<>()).add(id);
+    }
+
+    String[] packages = classesByPackage.keySet().toArray(new String[0]);
+    int[][] members = new int[packages.length][];
+    int[] packageOf = new int[this.classes.length];
+    int index = 0;
+
+    for (List<Integer> ids : classesByPackage.values()) {
+      members[index] = ids.stream().mapToInt(Integer::intValue).toArray();
+
+      for (int id : members[index]) {
+        packageOf[id] = index;
+      }
+
+      index++;
+    }
+
+    for (int source = 0; source < packages.length; source++) {
+      writer.writeNode(node(packages[source], members[source], 0, members[source].length));
+    }
+
+    writer.writeEdgesStart();
+
+    BitSet targets = new BitSet(packages.length);
+
+    for (int source = 0; source < packages.length; source++) {
+      targets.clear();
+
+      for (int id : members[source]) {
+        for (int target : this.graph.targets(id)) {
+          if (target < this.classes.length && packageOf[target] != source) {
+            targets.set(packageOf[target]);
+          }
+        }
+      }
+
+      for (int target = targets.nextSetBit(0); target >= 0;
+          target = targets.nextSetBit(target + 1)) {
+        writer.writeEdge(packages[source], packages[target]);
+      }
+    }
+  }
+
+  private String name(int rank) {
+    return this.graph.javaClass(this.classes[rank]).getName();
+  }
+
+  /**
+   * Returns the node of the classes {@code ids[from]} to {@code ids[to - 1]}.
+   */
+  private DependencyGraphWriter.Node node(String id, int[] ids, int from, int to) {
+    boolean violation = false;
+
+    for (int index = from; index < to && !violation; index++) {
+      violation = this.violations.get(ids[index]);
+    }
+
+    return new DependencyGraphWriter.Node(id, names(this.layers, ids, from, to),
+        names(this.stereotypes, ids, from, to), violation);
+  }
+
+  private static List<String> names(Map<String, BitSet> sets, int[] ids, int from, int to) {
+    List<String> names = new ArrayList<>(0);
+
+    for (Map.Entry<String, BitSet> set : sets.entrySet()) {
+      for (int index = from; index < to; index++) {
+        if (set.getValue().get(ids[index])) {
+          names.add(set.getKey());
+          break;
+        }
+      }
+    }
+
+    return names;
+  }
+}
@@ -0,0 +1,49 @@
+package com.enofex.taikai;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes a dependency graph node by node and edge by edge in the {@link DependencyExport.Format}
+ * of an export, so the graph is never held in memory as a whole. All nodes are written before the
+ * first edge.
+ */
+abstract class DependencyGraphWriter {
+
+  final Writer writer;
+  final DependencyExport export;
+
+  DependencyGraphWriter(Writer writer, DependencyExport export) {
+    this.writer = writer;
+    this.export = export;
+  }
+
+  static DependencyGraphWriter of(Writer writer, DependencyExport export) {
+    return switch (export.format()) {
+      case DOT -> new DotDependencyGraphWriter(writer, export);
+      case GRAPHML -> new GraphMlDependencyGraphWriter(writer, export);
+      case JSON -> new JsonDependencyGraphWriter(writer, export);
+    };
+  }
+
+  void writeHeader() throws IOException {
+  }
+
+  abstract void writeNode(Node node) throws IOException;
+
+  void writeEdgesStart() throws IOException {
+  }
+
+  abstract void writeEdge(String source, String target) throws IOException;
+
+  void writeFooter() throws IOException {
+  }
+
+  /**
+   * A node of the graph with its annotations. The layers and stereotypes are empty and the
+   * violation flag is {@code false} if the export does not include them.
+   */
+  record Node(String id, List<String> layers, List<String> stereotypes, boolean violation) {
+  }
+}
@@ -0,0 +1,92 @@
+package com.enofex.taikai;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes a dependency graph as a Graphviz {@code digraph}. The annotations of a node are written as
+ * {@code layers}, {@code stereotypes} and {@code violation} attributes, and nodes with violations
+ * are colored red.
+ */
+final class DotDependencyGraphWriter extends DependencyGraphWriter {
+
+  DotDependencyGraphWriter(Writer writer, DependencyExport export) {
+    super(writer, export);
+  }
+
+  @Override
+  void writeHeader() throws IOException {
+    this.writer.write("digraph dependencies {\n");
+  }
+
+  @Override
+  void writeNode(Node node) throws IOException {
+    this.writer.write("  ");
+    writeId(node.id());
+
+    String separator = " [";
+
+    if (this.export.layers()) {
+      separator = writeAttribute(separator, "layers", node.layers());
+    }
+
+    if (!this.export.stereotypes().isEmpty()) {
+      separator = writeAttribute(separator, "stereotypes", node.stereotypes());
+    }
+
+    if (this.export.violations()) {
+      this.writer.write(separator);
+      this.writer.write(node.violation() ? "violation=true, color=red" : "violation=false");
+      separator = ", ";
+    }
+
+    if (!separator.equals(" [")) {
+      this.writer.write(']');
+    }
+
+    this.writer.write(";\n");
+  }
+
+  private String writeAttribute(String separator, String name, List<String> values)
+      throws IOException {
+    this.writer.write(separator);
+    this.writer.write(name);
+    this.writer.write('=');
+    writeId(String.join(",", values));
+
+    return ", ";
+  }
+
+  @Override
+  void writeEdge(String source, String target) throws IOException {
+    this.writer.write("  ");
+    writeId(source);
+    this.writer.write(" -> ");
+    writeId(target);
+    this.writer.write(";\n");
+  }
+
+  @Override
+  void writeFooter() throws IOException {
+    this.writer.write("}\n");
+  }
+
+  /**
+   * Writes the value as a double-quoted DOT identifier.
+   */
+  private void writeId(String value) throws IOException {
+    this.writer.write('"');
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+
+      if (c == '"' || c == '\\') {
+        this.writer.write('\\');
+      }
+      this.writer.write(c);
+    }
+
+    this.writer.write('"');
+  }
+}
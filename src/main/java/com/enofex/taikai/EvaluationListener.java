@@ -0,0 +1,117 @@
+package com.enofex.taikai;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Receives callbacks while a {@link Taikai} instance imports classes and evaluates its rules.
+ *
+ * <p>Listeners are registered with {@link Taikai.Builder#addListener(EvaluationListener)}. All
+ * callbacks have empty default implementations. If rules are evaluated in
+ * {@link Taikai.Builder#parallelism(int) parallel}, rule callbacks are invoked concurrently from
+ * different threads, so implementations have to be thread-safe.</p>
+ *
+ * @see Taikai.Builder#addListener(EvaluationListener)
+ */
+public interface EvaluationListener {
+
+  /**
+   * Invoked before the classes of a namespace and import mode are first used by the
+   * {@link Taikai} instance. The classes may already be cached by {@link Namespace}.
+   *
+   * @param namespace the namespace
+   * @param importOption the import mode
+   */
+  default void importStarted(String namespace, Namespace.IMPORT importOption) {
+  }
+
+  /**
+   * Invoked after the classes of a namespace and import mode are available.
+   *
+   * @param event the import statistics
+   */
+  default void importFinished(ImportEvent event) {
+  }
+
+  /**
+   * Invoked before a rule is evaluated.
+   *
+   * @param rule the rule
+   */
+  default void ruleStarted(TaikaiRule rule) {
+  }
+
+  /**
+   * Invoked after a rule was evaluated, whether it passed or not.
+   *
+   * @param event the evaluation statistics
+   */
+  default void ruleFinished(RuleEvent event) {
+  }
+
+  /**
+   * Invoked once at the end of {@link Taikai#check()} or {@link Taikai#checkAll()}, whether the
+   * rules passed or not.
+   */
+  default void evaluationFinished() {
+  }
+
+  /**
+   * Returns a listener that logs the given number of slowest rules at the end of each
+   * {@link Taikai#check()} or {@link Taikai#checkAll()}, using a {@link System.Logger} named after
+   * {@link Taikai}.
+   *
+   * @param limit the maximum number of rules to log, at least {@code 1}
+   * @return the listener
+   * @throws IllegalArgumentException if {@code limit} is less than {@code 1}
+   */
+  static EvaluationListener slowestRules(int limit) {
+    System.Logger logger = System.getLogger(Taikai.class.getName());
+    return slowestRules(limit, report -> logger.log(System.Logger.Level.INFO, report));
+  }
+
+  /**
+   * Returns a listener that passes a report of the given number of slowest rules to the given
+   * consumer at the end of each {@link Taikai#check()} or {@link Taikai#checkAll()}.
+   *
+   * @param limit the maximum number of rules to report, at least {@code 1}
+   * @param output the consumer of the report
+   * @return the listener
+   * @throws IllegalArgumentException if {@code limit} is less than {@code 1}
+   * @throws NullPointerException if {@code output} is {@code null}
+   */
+  static EvaluationListener slowestRules(int limit, Consumer<String> output) {
+    return new SlowestRulesListener(limit, requireNonNull(output));
+  }
+
+  /**
+   * Statistics of the classes of a namespace and import mode.
+   *
+   * @param namespace the namespace
+   * @param importOption the import mode
+   * @param classes the number of imported classes
+   * @param duration the time it took to import them
+   * @param allocatedBytes the bytes allocated by the importing thread, or {@code -1} if the JVM
+   *     does not support measuring them
+   */
+  record ImportEvent(String namespace, Namespace.IMPORT importOption, int classes,
+      Duration duration, long allocatedBytes) {
+  }
+
+  /**
+   * Statistics of the evaluation of a single rule.
+   *
+   * @param rule the rule
+   * @param classes the number of classes the rule was evaluated on, {@code 0} if the evaluation
+   *     failed before they were known
+   * @param violations the number of violations
+   * @param duration the time it took to evaluate the rule
+   * @param allocatedBytes the bytes allocated by the threads evaluating the rule, or {@code -1} if
+   *     the JVM does not support measuring them
+   */
+  record RuleEvent(TaikaiRule rule, int classes, int violations, Duration duration,
+      long allocatedBytes) {
+  }
+}
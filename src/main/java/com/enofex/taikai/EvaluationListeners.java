@@ -0,0 +1,66 @@
+package com.enofex.taikai;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Dispatches the callbacks of a {@link Taikai} instance to all of its registered
+ * {@link EvaluationListener}s, in registration order.
+ */
+final class EvaluationListeners implements EvaluationListener {
+
+  private static final EvaluationListeners NONE = new EvaluationListeners(List.of());
+
+  private final List<EvaluationListener> listeners;
+
+  private EvaluationListeners(List<EvaluationListener> listeners) {
+    this.listeners = listeners;
+  }
+
+  static EvaluationListeners of(Collection<EvaluationListener> listeners) {
+    return listeners.isEmpty() ? NONE : new EvaluationListeners(List.copyOf(listeners));
+  }
+
+  static EvaluationListeners none() {
+    return NONE;
+  }
+
+  boolean isEmpty() {
+    return this.listeners.isEmpty();
+  }
+
+  @Override
+  public void importStarted(String namespace, Namespace.IMPORT importOption) {
+    for (EvaluationListener listener : this.listeners) {
+      listener.importStarted(namespace, importOption);
+    }
+  }
+
+  @Override
+  public void importFinished(ImportEvent event) {
+    for (EvaluationListener listener : this.listeners) {
+      listener.importFinished(event);
+    }
+  }
+
+  @Override
+  public void ruleStarted(TaikaiRule rule) {
+    for (EvaluationListener listener : this.listeners) {
+      listener.ruleStarted(rule);
+    }
+  }
+
+  @Override
+  public void ruleFinished(RuleEvent event) {
+    for (EvaluationListener listener : this.listeners) {
+      listener.ruleFinished(event);
+    }
+  }
+
+  @Override
+  public void evaluationFinished() {
+    for (EvaluationListener listener : this.listeners) {
+      listener.evaluationFinished();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.enofex.taikai;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes a dependency graph as a GraphML document. The annotations of a node are written as
+ * {@code layers}, {@code stereotypes} and {@code violation} data, with the layers and stereotypes
+ * separated by commas.
+ */
+final class GraphMlDependencyGraphWriter extends DependencyGraphWriter {
+
+  GraphMlDependencyGraphWriter(Writer writer, DependencyExport export) {
+    super(writer, export);
+  }
+
+  @Override
+  void writeHeader() throws IOException {
+    this.writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n");
+
+    if (this.export.layers()) {
+      this.writer.write("  <key id=\"layers\" for=\"node\" attr.name=\"layers\""
+          + " attr.type=\"string\"/>\n");
+    }
+
+    if (!this.export.stereotypes().isEmpty()) {
+      this.writer.write("  <key id=\"stereotypes\" for=\"node\" attr.name=\"stereotypes\""
+          + " attr.type=\"string\"/>\n");
+    }
+
+    if (this.export.violations()) {
+      this.writer.write("  <key id=\"violation\" for=\"node\" attr.name=\"violation\""
+          + " attr.type=\"boolean\"/>\n");
+    }
+
+    this.writer.write("  <graph id=\"dependencies\" edgedefault=\"directed\">\n");
+  }
+
+  @Override
+  void writeNode(Node node) throws IOException {
+    this.writer.write("    <node id=\"");
+    writeText(node.id());
+    this.writer.write("\">");
+
+    if (this.export.layers()) {
+      writeData("layers", String.join(",", node.layers()));
+    }
+
+    if (!this.export.stereotypes().isEmpty()) {
+      writeData("stereotypes", String.join(",", node.stereotypes()));
+    }
+
+    if (this.export.violations()) {
+      writeData("violation", Boolean.toString(node.violation()));
+    }
+
+    this.writer.write("</node>\n");
+  }
+
+  private void writeData(String key, String value) throws IOException {
+    this.writer.write("<data key=\"");
+    this.writer.write(key);
+    this.writer.write("\">");
+    writeText(value);
+    this.writer.write("</data>");
+  }
+
+  @Override
+  void writeEdge(String source, String target) throws IOException {
+    this.writer.write("    <edge source=\"");
+    writeText(source);
+    this.writer.write("\" target=\"");
+    writeText(target);
+    this.writer.write("\"/>\n");
+  }
+
+  @Override
+  void writeFooter() throws IOException {
+    this.writer.write("  </graph>\n</graphml>\n");
+  }
+
+  /**
+   * Writes the value as XML text, usable in attribute values as well.
+   */
+  private void writeText(String value) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+
+      switch (c) {
+        case '&' -> this.writer.write("&amp;");
+        case '<' -> this.writer.write("&lt;");
+        case '>' -> this.writer.write("&gt;");
+        case '"' -> this.writer.write("&quot;");
+        default -> this.writer.write(c);
+      }
+    }
+  }
+}
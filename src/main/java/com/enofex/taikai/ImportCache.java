@@ -0,0 +1,483 @@
+package com.enofex.taikai;
+
+import static java.util.Objects.requireNonNull;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.core.importer.Locations;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persists content hashes of the class files a {@link Taikai} run analyzed, so that a later run
+ * over unchanged classes with an unchanged rule configuration does not need to import anything.
+ *
+ * <p>ArchUnit offers no way to serialize an imported {@link JavaClasses} graph. The cache
+ * therefore stores a compact binary fingerprint per namespace and {@link Namespace.IMPORT} mode,
+ * and compares it with the class files that are currently on the classpath. Classes outside the
+ * namespace, such as those of dependencies, are only compared by the name, size and modification
+ * time of their classpath entries.</p>
+ */
+final class ImportCache {
+
+  private static final int MAGIC = 0x5441494B;
+  private static final int VERSION = 2;
+  private static final int STATE_VERSION = 2;
+
+  private final Path directory;
+
+  ImportCache(Path directory) {
+    this.directory = requireNonNull(directory);
+  }
+
+  /**
+   * Returns whether the last successful run with the given configuration saw exactly the given
+   * fingerprints.
+   */
+  boolean isUpToDate(String configuration, Collection<Fingerprint> fingerprints) {
+    String digest = digest(configuration);
+    Path file = file(digest);
+
+    if (!Files.isRegularFile(file)) {
+      return false;
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file)))) {
+      if (input.readInt() != MAGIC || input.readInt() != VERSION
+          || !digest.equals(input.readUTF())) {
+        return false;
+      }
+
+      int size = input.readInt();
+      Set<Fingerprint> stored = new HashSet<>(size);
+
+      for (int i = 0; i < size; i++) {
+        stored.add(Fingerprint.read(input));
+      }
+
+      return stored.equals(Set.copyOf(fingerprints));
+    } catch (IOException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Records the fingerprints of a successful run with the given configuration.
+   */
+  void store(String configuration, Collection<Fingerprint> fingerprints) {
+    String digest = digest(configuration);
+    Path file = file(digest);
+
+    try {
+      Files.createDirectories(this.directory);
+      Path temporaryFile = Files.createTempFile(this.directory, "taikai", ".tmp");
+
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeUTF(digest);
+        output.writeInt(fingerprints.size());
+
+        for (Fingerprint fingerprint : fingerprints) {
+          fingerprint.write(output);
+        }
+      }
+
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to write cache file %s".formatted(file), e);
+    }
+  }
+
+  /**
+   * Returns the state the last run with the given base configuration left behind, or
+   * {@code null} if there is none or it cannot be read.
+   */
+  @Nullable State state(String configuration) {
+    String digest = digest(configuration);
+    Path file = this.directory.resolve(digest.substring(0, 16) + ".state");
+
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file)))) {
+      if (input.readInt() != MAGIC || input.readInt() != STATE_VERSION
+          || !digest.equals(input.readUTF())) {
+        return null;
+      }
+
+      int size = input.readInt();
+      List<Fingerprint> fingerprints = new ArrayList<>(size);
+
+      for (int i = 0; i < size; i++) {
+        fingerprints.add(Fingerprint.read(input));
+      }
+
+      int passedRules = input.readInt();
+      Set<Long> passed = new HashSet<>(passedRules);
+
+      for (int i = 0; i < passedRules; i++) {
+        passed.add(input.readLong());
+      }
+
+      return new State(fingerprints, passed);
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Records the state of a run with the given base configuration.
+   */
+  void store(String configuration, State state) {
+    String digest = digest(configuration);
+    Path file = this.directory.resolve(digest.substring(0, 16) + ".state");
+
+    try {
+      Files.createDirectories(this.directory);
+      Path temporaryFile = Files.createTempFile(this.directory, "taikai", ".tmp");
+
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        output.writeInt(MAGIC);
+        output.writeInt(STATE_VERSION);
+        output.writeUTF(digest);
+        output.writeInt(state.fingerprints().size());
+
+        for (Fingerprint fingerprint : state.fingerprints()) {
+          fingerprint.write(output);
+        }
+
+        output.writeInt(state.passed().size());
+
+        for (long rule : state.passed()) {
+          output.writeLong(rule);
+        }
+      }
+
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to write cache file %s".formatted(file), e);
+    }
+  }
+
+  private Path file(String digest) {
+    return this.directory.resolve(digest.substring(0, 16) + ".cache");
+  }
+
+  /**
+   * Returns a compact key identifying a rule together with its configuration.
+   */
+  static long key(TaikaiRule rule) {
+    String configuration = "%s|%s|%s|%s".formatted(
+        rule.archRule().getDescription(),
+        rule.configuration().namespace(),
+        rule.configuration().namespaceImport(),
+        rule.configuration().excludedClasses());
+
+    return ByteBuffer.wrap(sha256().digest(configuration.getBytes(StandardCharsets.UTF_8)))
+        .getLong();
+  }
+
+  private static String digest(String configuration) {
+    return HexFormat.of().formatHex(sha256().digest(configuration.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Computes the fingerprint of all class files the given namespace and import mode resolve to,
+   * without importing them.
+   */
+  static Fingerprint fingerprint(String namespace, Namespace.IMPORT importOption) {
+    return fingerprint(namespace, importOption, List.of());
+  }
+
+  /**
+   * Computes the fingerprint of all class files the given namespace and import mode resolve to
+   * within the given directories and JAR files, without importing them. An empty collection of
+   * locations stands for the class directories on the classpath.
+   */
+  static Fingerprint fingerprint(String namespace, Namespace.IMPORT importOption,
+      Collection<Path> locations) {
+    requireNonNull(namespace);
+    requireNonNull(importOption);
+
+    ImportOption option = switch (importOption) {
+      case WITH_TESTS -> location -> true;
+      case ONLY_TESTS -> new ImportOption.OnlyIncludeTests();
+      default -> new ImportOption.DoNotIncludeTests();
+    };
+
+    Map<String, Long> classes = new TreeMap<>();
+
+    if (locations.isEmpty()) {
+      for (Location location : Locations.ofPackage(namespace)) {
+        if (!location.isJar() && !location.isArchive()) {
+          addDirectory(classes, namespace, Path.of(location.asURI()), option);
+        }
+      }
+    } else {
+      for (Path location : locations) {
+        if (Files.isRegularFile(location)) {
+          addJar(classes, namespace, location, option);
+        } else if (Files.isDirectory(location)) {
+          addDirectory(classes, namespace, namespace.isEmpty()
+              ? location
+              : location.resolve(namespace.replace('.', '/')), option);
+        } else {
+          throw new TaikaiException("Location %s does not exist".formatted(location));
+        }
+      }
+    }
+
+    return new Fingerprint(namespace, importOption, classes, classpath(namespace, classpath()));
+  }
+
+  /**
+   * Returns the classpath of the context class loader: the URLs of the class loaders along its
+   * parents and the {@code java.class.path} of the application class loader, which does not expose
+   * its URLs. A build tool such as the Maven plugin loads the dependencies of the project through
+   * the context class loader, not through the classpath of its own JVM.
+   */
+  static Collection<Location> classpath() {
+    Collection<Location> classpath = new ArrayList<>(Locations.inClassPath());
+
+    for (ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        classLoader != null; classLoader = classLoader.getParent()) {
+      if (classLoader instanceof URLClassLoader urlClassLoader) {
+        for (URL url : urlClassLoader.getURLs()) {
+          classpath.add(Location.of(url));
+        }
+      }
+    }
+
+    return classpath;
+  }
+
+  /**
+   * Returns a hash of the JVM version and the name, size and modification time of each file on the
+   * given classpath, leaving out the class files of the namespace, which are hashed by content.
+   */
+  static long classpath(String namespace, Collection<Location> classpath) {
+    Set<String> entries = new TreeSet<>();
+    entries.add(System.getProperty("java.version"));
+
+    for (Location location : classpath) {
+      Path file = file(location);
+
+      if (file == null) {
+        entries.add(location.toString());
+      } else if (Files.isDirectory(file)) {
+        if (!namespace.isEmpty()) {
+          addClasspathDirectory(entries, file, file.resolve(namespace.replace('.', '/')));
+        }
+      } else {
+        entries.add(entry(file));
+      }
+    }
+
+    MessageDigest digest = sha256();
+    entries.forEach(entry -> digest.update(entry.getBytes(StandardCharsets.UTF_8)));
+
+    return ByteBuffer.wrap(digest.digest()).getLong();
+  }
+
+  private static void addClasspathDirectory(Set<String> entries, Path root, Path namespace) {
+    try (Stream<Path> files = Files.walk(root)) {
+      files.filter(path -> !path.startsWith(namespace) && Files.isRegularFile(path))
+          .forEach(path -> entries.add(entry(path)));
+    } catch (IOException | UncheckedIOException e) {
+      entries.add(root.toString());
+    }
+  }
+
+  private static String entry(Path file) {
+    try {
+      return "%s|%d|%d".formatted(file, Files.size(file),
+          Files.getLastModifiedTime(file).toMillis());
+    } catch (IOException e) {
+      return file.toString();
+    }
+  }
+
+  /**
+   * Returns the file or directory of the location, or {@code null} if it is not on the default
+   * file system, such as a JAR nested in another JAR.
+   */
+  private static @Nullable Path file(Location location) {
+    String uri = location.asURI().toString();
+
+    if (uri.startsWith("jar:")) {
+      int separator = uri.indexOf("!/");
+      uri = uri.substring("jar:".length(), separator < 0 ? uri.length() : separator);
+    }
+
+    try {
+      return Path.of(URI.create(uri));
+    } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+      return null;
+    }
+  }
+
+  private static void addDirectory(Map<String, Long> classes, String namespace, Path root,
+      ImportOption option) {
+    if (!Files.isDirectory(root)) {
+      return;
+    }
+
+    try (Stream<Path> files = Files.walk(root)) {
+      for (Path file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+        if (option.includes(Location.of(file))) {
+          classes.merge(className(namespace, root, file), contentHash(file),
+              (first, second) -> 31 * first + second);
+        }
+      }
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to read class files of %s".formatted(root), e);
+    }
+  }
+
+  /**
+   * Adds the class files of the namespace within the JAR file. Uses the CRC the JAR records for
+   * each entry, so the entries do not need to be decompressed.
+   */
+  private static void addJar(Map<String, Long> classes, String namespace, Path jar,
+      ImportOption option) {
+    String prefix = namespace.isEmpty() ? "" : namespace.replace('.', '/') + "/";
+    String uri = "jar:" + jar.toUri() + "!/";
+
+    try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+      Enumeration<? extends ZipEntry> entries = zipFile.entries();
+
+      while (entries.hasMoreElements()) {
+        ZipEntry entry = entries.nextElement();
+        String name = entry.getName();
+
+        if (!entry.isDirectory() && name.startsWith(prefix) && name.endsWith(".class")
+            && option.includes(Location.of(URI.create(uri + name)))) {
+          String className = name.substring(0, name.length() - ".class".length())
+              .replace('/', '.');
+
+          classes.merge(className, 31 * entry.getCrc() + entry.getSize(),
+              (first, second) -> 31 * first + second);
+        }
+      }
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to read class files of %s".formatted(jar), e);
+    }
+  }
+
+  private static String className(String namespace, Path root, Path file) {
+    String relative = root.relativize(file).toString().replace(file.getFileSystem()
+        .getSeparator(), ".");
+
+    return namespace + "." + relative.substring(0, relative.length() - ".class".length());
+  }
+
+  private static long contentHash(Path file) throws IOException {
+    MessageDigest digest = sha256();
+    byte[] buffer = new byte[8192];
+
+    try (InputStream input = Files.newInputStream(file)) {
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+
+    return ByteBuffer.wrap(digest.digest()).getLong();
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new TaikaiException("SHA-256 is not supported", e);
+    }
+  }
+
+  /**
+   * The fingerprints a run saw, together with the keys of the rules that passed on them.
+   */
+  record State(Collection<Fingerprint> fingerprints, Set<Long> passed) {
+
+    State {
+      fingerprints = List.copyOf(fingerprints);
+      passed = Set.copyOf(passed);
+    }
+  }
+
+  /**
+   * The content hashes of all class files of a namespace for one import mode, keyed by class
+   * name, together with the hash of the classpath the classes are resolved against.
+   */
+  record Fingerprint(String namespace, Namespace.IMPORT importOption, Map<String, Long> classes,
+      long classpath) {
+
+    Fingerprint {
+      requireNonNull(namespace);
+      requireNonNull(importOption);
+      classes = Map.copyOf(classes);
+    }
+
+    private void write(DataOutputStream output) throws IOException {
+      output.writeUTF(this.namespace);
+      output.writeByte(this.importOption.ordinal());
+      output.writeLong(this.classpath);
+      output.writeInt(this.classes.size());
+
+      for (Map.Entry<String, Long> entry : new TreeMap<>(this.classes).entrySet()) {
+        output.writeUTF(entry.getKey());
+        output.writeLong(entry.getValue());
+      }
+    }
+
+    private static Fingerprint read(DataInputStream input) throws IOException {
+      String namespace = input.readUTF();
+      Namespace.IMPORT importOption = Namespace.IMPORT.values()[input.readByte()];
+      long classpath = input.readLong();
+      int size = input.readInt();
+      Map<String, Long> classes = new TreeMap<>();
+
+      for (int i = 0; i < size; i++) {
+        classes.put(input.readUTF(), input.readLong());
+      }
+
+      return new Fingerprint(namespace, importOption, classes, classpath);
+    }
+  }
+}
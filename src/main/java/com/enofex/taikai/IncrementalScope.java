@@ -0,0 +1,147 @@
+package com.enofex.taikai;
+
+import static java.util.Objects.requireNonNull;
+
+import com.enofex.taikai.ImportCache.Fingerprint;
+import com.enofex.taikai.ImportCache.State;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decides which classes a rule has to be re-evaluated on, based on the state the previous run left
+ * behind.
+ *
+ * <p>A rule that passed last time only needs to be evaluated on the classes whose class files
+ * changed, the classes that directly or transitively depend on them, and the classes they directly
+ * depend on. All other classes, and the classes they depend on, are unchanged and therefore still
+ * pass. A rule that failed or is new, and any rule on a namespace from which class files were
+ * removed, is evaluated on all classes.</p>
+ */
+final class IncrementalScope {
+
+  private final @Nullable State previous;
+  private final boolean singleImport;
+  private final List<Path> locations;
+  private final Map<Key, Fingerprint> current;
+  private final Map<Key, @Nullable Set<String>> affected;
+
+  IncrementalScope(@Nullable State previous, Collection<Fingerprint> current,
+      boolean singleImport) {
+    this(previous, current, singleImport, List.of());
+  }
+
+  IncrementalScope(@Nullable State previous, Collection<Fingerprint> current,
+      boolean singleImport, Collection<Path> locations) {
+    this.previous = previous;
+    this.singleImport = singleImport;
+    this.locations = List.copyOf(locations);
+    this.current = new HashMap<>();
+    this.affected = new HashMap<>();
+
+    for (Fingerprint fingerprint : current) {
+      this.current.put(new Key(fingerprint.namespace(), fingerprint.importOption()), fingerprint);
+    }
+  }
+
+  /**
+   * Returns the names of the classes the given rule has to be evaluated on.
+   *
+   * @return the class names, empty if the rule can be skipped, or {@code null} if the rule has to
+   *     be evaluated on all classes
+   */
+  synchronized @Nullable Set<String> affectedClasses(TaikaiRule rule, String namespace) {
+    requireNonNull(rule);
+    requireNonNull(namespace);
+
+    Key key = new Key(namespace, rule.configuration().namespaceImport());
+
+    if (this.previous == null || !this.previous.passed().contains(ImportCache.key(rule))) {
+      return null;
+    }
+
+    Fingerprint before = this.previous.fingerprints().stream()
+        .filter(fingerprint -> key.equals(
+            new Key(fingerprint.namespace(), fingerprint.importOption())))
+        .findFirst()
+        .orElse(null);
+    Fingerprint after = this.current.get(key);
+
+    if (before == null || after == null) {
+      return null;
+    }
+
+    if (!this.affected.containsKey(key)) {
+      this.affected.put(key, affectedClasses(before, after));
+    }
+
+    return this.affected.get(key);
+  }
+
+  private @Nullable Set<String> affectedClasses(Fingerprint before, Fingerprint after) {
+    if (before.classpath() != after.classpath()) {
+      return null;
+    }
+
+    Set<String> changed = new HashSet<>();
+
+    after.classes().forEach((name, hash) -> {
+      if (!Objects.equals(before.classes().get(name), hash)) {
+        changed.add(name);
+      }
+    });
+
+    if (before.classes().keySet().stream().anyMatch(name -> !after.classes().containsKey(name))) {
+      return null;
+    }
+
+    if (changed.isEmpty()) {
+      return Set.of();
+    }
+
+    JavaClasses javaClasses = this.singleImport
+        ? Namespace.view(after.namespace(), after.importOption(), this.locations)
+        : Namespace.from(after.namespace(), after.importOption(), this.locations);
+    Set<String> affected = new HashSet<>();
+    Set<String> visited = new HashSet<>();
+    Deque<JavaClass> queue = new ArrayDeque<>();
+
+    for (String name : changed) {
+      if (javaClasses.contain(name)) {
+        JavaClass javaClass = javaClasses.get(name);
+        queue.add(javaClass);
+
+        for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+          affected.add(dependency.getTargetClass().getName());
+        }
+      }
+    }
+
+    while (!queue.isEmpty()) {
+      JavaClass javaClass = queue.poll();
+
+      if (visited.add(javaClass.getName())) {
+        for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+          queue.add(dependency.getOriginClass());
+        }
+      }
+    }
+
+    affected.addAll(visited);
+    return affected;
+  }
+
+  private record Key(String namespace, Namespace.IMPORT importOption) {
+  }
+}
@@ -0,0 +1,175 @@
+package com.enofex.taikai;
+
+import static java.util.Objects.requireNonNull;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The imported classes of a {@link Taikai} instance, with the global and the rule exclusions
+ * applied.
+ *
+ * <p>Views are cached by namespace, {@link Namespace.IMPORT} mode and rule exclusions, so rules
+ * sharing them are filtered only once. Each view is created at most once at a time: concurrent
+ * callers of a view that is being created wait for it, while other views are created in parallel.
+ * All views are dropped as soon as an import is evicted from the cache of {@link Namespace}, so
+ * they neither serve nor keep the evicted classes. The {@link EvaluationListener}s are notified
+ * once per namespace and import mode, when its classes are first used after the views were
+ * dropped.</p>
+ */
+final class JavaClassesViews {
+
+  private final ClassExclusions exclusions;
+  private final boolean singleImport;
+  private final EvaluationListeners listeners;
+  private final List<Path> locations;
+  private final Map<Key, CompletableFuture<JavaClasses>> views;
+  private final Set<Import> imports;
+  private volatile long evictions;
+
+  JavaClassesViews(ClassExclusions exclusions, boolean singleImport) {
+    this(exclusions, singleImport, EvaluationListeners.none());
+  }
+
+  JavaClassesViews(ClassExclusions exclusions, boolean singleImport,
+      EvaluationListeners listeners) {
+    this(exclusions, singleImport, listeners, List.of());
+  }
+
+  JavaClassesViews(ClassExclusions exclusions, boolean singleImport,
+      EvaluationListeners listeners, Collection<Path> locations) {
+    this.exclusions = requireNonNull(exclusions);
+    this.singleImport = singleImport;
+    this.listeners = requireNonNull(listeners);
+    this.locations = List.copyOf(locations);
+    this.views = new ConcurrentHashMap<>();
+    this.imports = ConcurrentHashMap.newKeySet();
+    this.evictions = Namespace.evictions();
+  }
+
+  JavaClasses view(String namespace, Namespace.IMPORT importOption,
+      Collection<String> ruleExcludedClasses, ClassExclusions ruleExclusions) {
+    dropViewsOfEvictedImports();
+
+    Key key = new Key(namespace, importOption, ruleExcludedClasses);
+    CompletableFuture<JavaClasses> view = this.views.get(key);
+
+    if (view == null) {
+      CompletableFuture<JavaClasses> created = new CompletableFuture<>();
+      view = this.views.putIfAbsent(key, created);
+
+      if (view == null) {
+        return create(key, created, ruleExclusions);
+      }
+    }
+
+    try {
+      return view.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Creates the view outside of the map, so a long import neither blocks nor is run by the callers
+   * of other views.
+   */
+  private JavaClasses create(Key key, CompletableFuture<JavaClasses> view,
+      ClassExclusions ruleExclusions) {
+    try {
+      JavaClasses javaClasses = namespace(key.namespace(), key.importOption());
+      JavaClasses filtered = this.exclusions.isEmpty() && ruleExclusions.isEmpty()
+          ? javaClasses
+          : javaClasses.that(new ExcludeJavaClassDescribedPredicate(
+              ruleExclusions, this.exclusions));
+
+      view.complete(filtered);
+      return filtered;
+    } catch (RuntimeException | Error e) {
+      this.views.remove(key, view);
+      view.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void dropViewsOfEvictedImports() {
+    long namespaceEvictions = Namespace.evictions();
+
+    if (namespaceEvictions == this.evictions) {
+      return;
+    }
+
+    synchronized (this) {
+      if (namespaceEvictions != this.evictions) {
+        this.views.clear();
+        this.imports.clear();
+        this.evictions = namespaceEvictions;
+      }
+    }
+  }
+
+  private JavaClasses namespace(String namespace, Namespace.IMPORT importOption) {
+    if (this.listeners.isEmpty() || !this.imports.add(new Import(namespace, importOption))) {
+      return importClasses(namespace, importOption);
+    }
+
+    this.listeners.importStarted(namespace, importOption);
+    Stopwatch stopwatch = Stopwatch.start();
+
+    JavaClasses javaClasses = importClasses(namespace, importOption);
+
+    this.listeners.importFinished(new EvaluationListener.ImportEvent(namespace, importOption,
+        javaClasses.size(), stopwatch.elapsed(), stopwatch.allocatedBytes()));
+
+    return javaClasses;
+  }
+
+  private JavaClasses importClasses(String namespace, Namespace.IMPORT importOption) {
+    return this.singleImport
+        ? Namespace.view(namespace, importOption, this.locations)
+        : Namespace.from(namespace, importOption, this.locations);
+  }
+
+  private record Import(String namespace, Namespace.IMPORT importOption) {
+  }
+
+  private record Key(String namespace, Namespace.IMPORT importOption,
+      Collection<String> ruleExcludedClasses) {
+  }
+
+  private static final class ExcludeJavaClassDescribedPredicate extends
+      DescribedPredicate<JavaClass> {
+
+    private final ClassExclusions ruleExclusions;
+    private final ClassExclusions globalExclusions;
+
+    ExcludeJavaClassDescribedPredicate(ClassExclusions ruleExclusions,
+        ClassExclusions globalExclusions) {
+      super("exclude classes");
+      this.ruleExclusions = ruleExclusions;
+      this.globalExclusions = globalExclusions;
+    }
+
+    @Override
+    public boolean test(JavaClass javaClass) {
+      String name = javaClass.getFullName();
+
+      return !this.ruleExclusions.excludes(name) && !this.globalExclusions.excludes(name);
+    }
+  }
+}
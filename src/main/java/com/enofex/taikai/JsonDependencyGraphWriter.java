@@ -0,0 +1,100 @@
+package com.enofex.taikai;
+
+import static com.enofex.taikai.AbstractFileViolationSink.writeString;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes a dependency graph as a JSON object holding the {@code level} of the export, a
+ * {@code nodes} and an {@code edges} array. Each node and edge is written on its own line.
+ */
+final class JsonDependencyGraphWriter extends DependencyGraphWriter {
+
+  private boolean first;
+
+  JsonDependencyGraphWriter(Writer writer, DependencyExport export) {
+    super(writer, export);
+  }
+
+  @Override
+  void writeHeader() throws IOException {
+    this.first = true;
+
+    this.writer.write("{\"level\":");
+    writeString(this.writer, this.export.level().name().toLowerCase(Locale.ROOT));
+    this.writer.write(",\"nodes\":[");
+  }
+
+  @Override
+  void writeNode(Node node) throws IOException {
+    writeSeparator();
+
+    this.writer.write("{\"id\":");
+    writeString(this.writer, node.id());
+
+    if (this.export.layers()) {
+      writeArray("layers", node.layers());
+    }
+
+    if (!this.export.stereotypes().isEmpty()) {
+      writeArray("stereotypes", node.stereotypes());
+    }
+
+    if (this.export.violations()) {
+      this.writer.write(",\"violation\":");
+      this.writer.write(Boolean.toString(node.violation()));
+    }
+
+    this.writer.write('}');
+  }
+
+  private void writeArray(String name, List<String> values) throws IOException {
+    this.writer.write(",\"");
+    this.writer.write(name);
+    this.writer.write("\":[");
+
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        this.writer.write(',');
+      }
+      writeString(this.writer, values.get(i));
+    }
+
+    this.writer.write(']');
+  }
+
+  @Override
+  void writeEdgesStart() throws IOException {
+    this.first = true;
+
+    this.writer.write("\n],\"edges\":[");
+  }
+
+  @Override
+  void writeEdge(String source, String target) throws IOException {
+    writeSeparator();
+
+    this.writer.write("{\"source\":");
+    writeString(this.writer, source);
+    this.writer.write(",\"target\":");
+    writeString(this.writer, target);
+    this.writer.write('}');
+  }
+
+  @Override
+  void writeFooter() throws IOException {
+    this.writer.write("\n]}\n");
+  }
+
+  private void writeSeparator() throws IOException {
+    if (!this.first) {
+      this.writer.write(',');
+    }
+    this.first = false;
+
+    this.writer.write('\n');
+  }
+}
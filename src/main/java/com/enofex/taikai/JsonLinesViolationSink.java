@@ -0,0 +1,31 @@
+package com.enofex.taikai;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes one JSON object per violation and line, holding the rule description and the violation
+ * message.
+ */
+final class JsonLinesViolationSink extends AbstractFileViolationSink {
+
+  JsonLinesViolationSink(Path file) {
+    super(file);
+  }
+
+  @Override
+  void writeViolations(Writer writer, TaikaiRule rule, List<String> details) throws IOException {
+    String description = rule.archRule().getDescription();
+
+    for (String detail : details) {
+      writer.write("{\"rule\":");
+      writeString(writer, description);
+      writer.write(",\"violation\":");
+      writeString(writer, detail);
+      writer.write('}');
+      writer.write('\n');
+    }
+  }
+}
@@ -2,17 +2,32 @@ package com.enofex.taikai;
 
 import static java.util.Objects.requireNonNull;
 
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import com.tngtech.archunit.core.importer.Location;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Utility class for importing {@link JavaClasses} from a given package namespace
  * with different import options. It provides cached access to imported classes
  * to improve performance when repeatedly analyzing the same namespace.
  *
+ * <p>By default, imported classes are cached for the lifetime of the JVM. A {@link CachePolicy}
+ * bounds the cache by number of entries or by estimated heap size, evicting the least recently
+ * used imports first, and can hold the imports through soft references. It is set with
+ * {@link #cachePolicy(CachePolicy)}, or with the system properties
+ * {@code taikai.namespace.cache.maxEntries}, {@code taikai.namespace.cache.maxBytes} and
+ * {@code taikai.namespace.cache.softReferences}.</p>
+ *
  * <p>Supported import modes are:
  * <ul>
  *   <li>{@link IMPORT#WITHOUT_TESTS} – imports production classes only</li>
@@ -22,7 +37,8 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class Namespace {
 
-  private static final Map<Key, JavaClasses> JAVA_CLASSES = new ConcurrentHashMap<>();
+  private static final NamespaceCache JAVA_CLASSES = new NamespaceCache(
+      CachePolicy.fromSystemProperties());
 
   public enum IMPORT {
     WITHOUT_TESTS,
@@ -52,6 +68,35 @@ public final class Namespace {
     };
   }
 
+  /**
+   * Imports {@link JavaClasses} of the specified namespace from the given locations only, using
+   * the given import option. Each location is a class output directory or a JAR file. Unlike
+   * {@link #from(String, IMPORT)}, no other classpath entry is scanned, and JAR files are
+   * included. Results are cached to avoid redundant imports.
+   *
+   * @param namespace the base package name to import (e.g. {@code "com.example"})
+   * @param importOption the import mode defining which classes to include
+   * @param locations the directories and JAR files to import from, or an empty collection to scan
+   *     the classpath like {@link #from(String, IMPORT)}
+   * @return the imported {@link JavaClasses}
+   * @throws NullPointerException if any argument is {@code null}
+   * @throws TaikaiException if a location does not exist
+   */
+  public static JavaClasses from(String namespace, IMPORT importOption,
+      Collection<Path> locations) {
+    requireNonNull(namespace);
+    requireNonNull(importOption);
+
+    if (locations.isEmpty()) {
+      return from(namespace, importOption);
+    }
+
+    List<Path> paths = List.copyOf(locations);
+
+    return JAVA_CLASSES.get(new NamespaceCache.Key(namespace, importOption, paths),
+        () -> importLocations(namespace, importOption, paths));
+  }
+
   /**
    * Imports all classes from the given namespace, excluding test and JAR classes.
    * Results are cached to avoid redundant imports.
@@ -63,9 +108,9 @@ public final class Namespace {
   public static JavaClasses withoutTests(String namespace) {
     requireNonNull(namespace);
 
-    return JAVA_CLASSES.computeIfAbsent(
-        new Key(namespace, IMPORT.WITHOUT_TESTS),
-        key -> new ClassFileImporter()
+    return JAVA_CLASSES.get(
+        new NamespaceCache.Key(namespace, IMPORT.WITHOUT_TESTS, List.of()),
+        () -> new ClassFileImporter()
             .withImportOption(new ImportOption.DoNotIncludeTests())
             .withImportOption(new ImportOption.DoNotIncludeJars())
             .importPackages(namespace)
@@ -83,11 +128,8 @@ public final class Namespace {
   public static JavaClasses withTests(String namespace) {
     requireNonNull(namespace);
 
-    return JAVA_CLASSES.computeIfAbsent(
-        new Key(namespace, IMPORT.WITH_TESTS),
-        key -> new ClassFileImporter()
-            .withImportOption(new ImportOption.DoNotIncludeJars())
-            .importPackages(namespace));
+    return JAVA_CLASSES.get(new NamespaceCache.Key(namespace, IMPORT.WITH_TESTS, List.of()),
+        () -> importWithTests(namespace));
   }
 
   /**
@@ -101,14 +143,294 @@ public final class Namespace {
   public static JavaClasses onlyTests(String namespace) {
     requireNonNull(namespace);
 
-    return JAVA_CLASSES.computeIfAbsent(
-        new Key(namespace, IMPORT.ONLY_TESTS),
-        key -> new ClassFileImporter()
+    return JAVA_CLASSES.get(
+        new NamespaceCache.Key(namespace, IMPORT.ONLY_TESTS, List.of()),
+        () -> new ClassFileImporter()
             .withImportOption(new ImportOption.OnlyIncludeTests())
             .withImportOption(new ImportOption.DoNotIncludeJars())
             .importPackages(namespace));
   }
 
-  private record Key(String namespace, IMPORT importOption) {
+  /**
+   * Returns the classes of the given import mode as a view of a single import of the namespace
+   * that includes test classes, so that all import modes share one scan and one class graph.
+   *
+   * <p>Unlike {@link #from(String, IMPORT)}, production classes of a {@link IMPORT#WITHOUT_TESTS}
+   * view see the test classes that depend on them, and test classes of an
+   * {@link IMPORT#ONLY_TESTS} view see fully imported production classes.</p>
+   *
+   * @param namespace the base package name to import
+   * @param importOption the import mode defining which classes to include
+   * @return the view of the imported {@link JavaClasses}
+   * @throws NullPointerException if {@code namespace} or {@code importOption} is {@code null}
+   */
+  static JavaClasses view(String namespace, IMPORT importOption) {
+    return view(namespace, importOption, List.of());
+  }
+
+  /**
+   * Returns the classes of the given import mode as a view of a single import of the namespace
+   * from the given locations, like {@link #view(String, IMPORT)}.
+   */
+  static JavaClasses view(String namespace, IMPORT importOption, Collection<Path> locations) {
+    requireNonNull(namespace);
+    requireNonNull(importOption);
+
+    if (importOption == IMPORT.WITH_TESTS) {
+      return from(namespace, IMPORT.WITH_TESTS, locations);
+    }
+
+    List<Path> paths = List.copyOf(locations);
+
+    return JAVA_CLASSES.view(
+        new NamespaceCache.Key(namespace, IMPORT.WITH_TESTS, paths),
+        () -> paths.isEmpty()
+            ? importWithTests(namespace)
+            : importLocations(namespace, IMPORT.WITH_TESTS, paths),
+        importOption,
+        javaClasses -> javaClasses.that(importOption == IMPORT.ONLY_TESTS
+            ? locatedIn("test classes", new ImportOption.OnlyIncludeTests())
+            : locatedIn("production classes", new ImportOption.DoNotIncludeTests())));
+  }
+
+  /**
+   * Removes all cached imports of the given namespace, so the next access imports it again.
+   *
+   * @param namespace the base package name
+   * @throws NullPointerException if {@code namespace} is {@code null}
+   */
+  public static void evict(String namespace) {
+    requireNonNull(namespace);
+
+    JAVA_CLASSES.evict(key -> key.namespace().equals(namespace));
+  }
+
+  /**
+   * Removes the cached import of the given namespace and import mode, so the next access imports
+   * it again. Evicting {@link IMPORT#WITH_TESTS} also removes the views derived from it for
+   * {@link Taikai.Builder#singleImport(boolean) single imports}.
+   *
+   * @param namespace the base package name
+   * @param importOption the import mode
+   * @throws NullPointerException if {@code namespace} or {@code importOption} is {@code null}
+   */
+  public static void evict(String namespace, IMPORT importOption) {
+    requireNonNull(namespace);
+    requireNonNull(importOption);
+
+    JAVA_CLASSES.evict(key -> key.namespace().equals(namespace)
+        && key.importOption() == importOption);
+  }
+
+  /**
+   * Removes the cached imports of the given namespace from the given locations, in all import
+   * modes, so the next access imports them again. Imports of the namespace from other locations
+   * are kept.
+   *
+   * @param namespace the base package name
+   * @param locations the directories and JAR files the namespace was imported from, or an empty
+   *     collection for the imports scanning the classpath
+   * @throws NullPointerException if {@code namespace} or {@code locations} is {@code null}
+   */
+  public static void evict(String namespace, Collection<Path> locations) {
+    requireNonNull(namespace);
+    List<Path> paths = List.copyOf(locations);
+
+    JAVA_CLASSES.evict(key -> key.namespace().equals(namespace)
+        && key.locations().equals(paths));
+  }
+
+  /**
+   * Removes all cached imports.
+   */
+  public static void clear() {
+    JAVA_CLASSES.evict(key -> true);
+  }
+
+  /**
+   * Returns the policy that bounds the cache of imported classes.
+   *
+   * @return the current cache policy
+   */
+  public static CachePolicy cachePolicy() {
+    return JAVA_CLASSES.policy();
+  }
+
+  /**
+   * Sets the policy that bounds the cache of imported classes. Imports exceeding the new policy are
+   * evicted immediately.
+   *
+   * @param policy the cache policy
+   * @throws NullPointerException if {@code policy} is {@code null}
+   */
+  public static void cachePolicy(CachePolicy policy) {
+    JAVA_CLASSES.policy(policy);
+  }
+
+  /**
+   * Returns the statistics of the cache of imported classes since the JVM started. Without a
+   * {@link CachePolicy#maxBytes() maximum size}, the size of the cached imports is only estimated
+   * here, which walks the classes of every import not estimated yet.
+   *
+   * @return the cache statistics
+   */
+  public static CacheStatistics statistics() {
+    return JAVA_CLASSES.statistics();
+  }
+
+  /**
+   * Returns the number of imports evicted from the cache so far, so that classes derived from
+   * cached imports can tell when they may be stale.
+   */
+  static long evictions() {
+    return JAVA_CLASSES.evictions();
+  }
+
+  private static JavaClasses importWithTests(String namespace) {
+    return new ClassFileImporter()
+        .withImportOption(new ImportOption.DoNotIncludeJars())
+        .importPackages(namespace);
+  }
+
+  private static JavaClasses importLocations(String namespace, IMPORT importOption,
+      Collection<Path> locations) {
+    ClassFileImporter importer = switch (importOption) {
+      case WITH_TESTS -> new ClassFileImporter();
+      case ONLY_TESTS -> new ClassFileImporter()
+          .withImportOption(new ImportOption.OnlyIncludeTests());
+      default -> new ClassFileImporter()
+          .withImportOption(new ImportOption.DoNotIncludeTests());
+    };
+
+    List<Location> packageLocations = new ArrayList<>(locations.size());
+
+    for (Path location : locations) {
+      Location packageLocation = packageLocation(namespace, location);
+
+      if (packageLocation != null) {
+        packageLocations.add(packageLocation);
+      }
+    }
+
+    return importer.importLocations(packageLocations);
+  }
+
+  /**
+   * Returns the location of the namespace package within the given directory or JAR file, so the
+   * importer only reads the class files of the namespace.
+   *
+   * @return the package location, or {@code null} if a directory does not contain the package
+   */
+  static @Nullable Location packageLocation(String namespace, Path location) {
+    String packagePath = namespace.isEmpty() ? "" : namespace.replace('.', '/') + "/";
+
+    if (Files.isDirectory(location)) {
+      Path packageDirectory = location.resolve(packagePath);
+
+      return Files.isDirectory(packageDirectory) ? Location.of(packageDirectory) : null;
+    }
+
+    if (Files.isRegularFile(location)) {
+      return Location.of(URI.create("jar:" + location.toUri() + "!/" + packagePath));
+    }
+
+    throw new TaikaiException("Location %s does not exist".formatted(location));
+  }
+
+  private static DescribedPredicate<JavaClass> locatedIn(String description,
+      ImportOption importOption) {
+    return DescribedPredicate.describe(description, javaClass -> javaClass.getSource()
+        .map(source -> importOption.includes(Location.of(source.getUri())))
+        .orElse(false));
+  }
+
+  /**
+   * Bounds the cache of imported classes.
+   *
+   * @param maxEntries the maximum number of cached imports, {@code 0} for no limit
+   * @param maxBytes the maximum estimated heap size of the cached imports in bytes, {@code 0} for
+   *     no limit. The most recently used import is kept even if it alone exceeds the limit.
+   * @param softReferences whether imports are held through soft references, so the garbage
+   *     collector may reclaim them before the JVM runs out of memory
+   */
+  public record CachePolicy(int maxEntries, long maxBytes, boolean softReferences) {
+
+    /**
+     * Creates a cache policy.
+     *
+     * @throws IllegalArgumentException if {@code maxEntries} or {@code maxBytes} is negative
+     */
+    public CachePolicy {
+      if (maxEntries < 0) {
+        throw new IllegalArgumentException("Max entries must not be negative");
+      }
+      if (maxBytes < 0) {
+        throw new IllegalArgumentException("Max bytes must not be negative");
+      }
+    }
+
+    /**
+     * Returns a policy that keeps all imports strongly referenced, which is the default.
+     *
+     * @return the unbounded cache policy
+     */
+    public static CachePolicy unbounded() {
+      return new CachePolicy(0, 0, false);
+    }
+
+    /**
+     * Returns a copy of this policy with the given maximum number of cached imports.
+     *
+     * @param maxEntries the maximum number of cached imports, {@code 0} for no limit
+     * @return the new cache policy
+     */
+    public CachePolicy withMaxEntries(int maxEntries) {
+      return new CachePolicy(maxEntries, this.maxBytes, this.softReferences);
+    }
+
+    /**
+     * Returns a copy of this policy with the given maximum estimated heap size.
+     *
+     * @param maxBytes the maximum estimated heap size in bytes, {@code 0} for no limit
+     * @return the new cache policy
+     */
+    public CachePolicy withMaxBytes(long maxBytes) {
+      return new CachePolicy(this.maxEntries, maxBytes, this.softReferences);
+    }
+
+    /**
+     * Returns a copy of this policy that holds the imports through soft references or not.
+     *
+     * @param softReferences {@code true} to hold the imports through soft references
+     * @return the new cache policy
+     */
+    public CachePolicy withSoftReferences(boolean softReferences) {
+      return new CachePolicy(this.maxEntries, this.maxBytes, softReferences);
+    }
+
+    static CachePolicy fromSystemProperties() {
+      try {
+        return new CachePolicy(
+            Integer.getInteger("taikai.namespace.cache.maxEntries", 0),
+            Long.getLong("taikai.namespace.cache.maxBytes", 0L),
+            Boolean.getBoolean("taikai.namespace.cache.softReferences"));
+      } catch (IllegalArgumentException e) {
+        throw new TaikaiException("Invalid Taikai namespace cache system properties", e);
+      }
+    }
+  }
+
+  /**
+   * Statistics of the cache of imported classes.
+   *
+   * @param hits the number of accesses answered from the cache
+   * @param misses the number of accesses that imported the classes
+   * @param evictions the number of imports removed by the {@link CachePolicy} or reclaimed by the
+   *     garbage collector
+   * @param entries the number of currently cached imports
+   * @param estimatedBytes the estimated heap size retained by the currently cached imports
+   */
+  public record CacheStatistics(long hits, long misses, long evictions, int entries,
+      long estimatedBytes) {
   }
 }
@@ -0,0 +1,311 @@
+package com.enofex.taikai;
+
+import static java.util.Objects.requireNonNull;
+
+import com.enofex.taikai.internal.ImportScope;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The imported classes cached by {@link Namespace}, bounded by a {@link Namespace.CachePolicy}.
+ *
+ * <p>Entries are evicted in least recently used order. Each key is imported at most once at a
+ * time: concurrent callers of a key that is being imported wait for that import, while other keys
+ * are imported in parallel. Views derived from an import and the {@link ImportScope} holding the
+ * indexes built for it are stored with it, so they are evicted together.</p>
+ */
+final class NamespaceCache {
+
+  private static final long BYTES_PER_IMPORT = 5L * 1024 * 1024;
+  private static final long BYTES_PER_CLASS = 5L * 1024;
+  private static final long BYTES_PER_MEMBER = 1200;
+  private static final long BYTES_PER_ACCESS = 400;
+
+  private final LinkedHashMap<Key, Entry> entries;
+  private final Map<Key, CompletableFuture<Imported>> imports;
+  private Namespace.CachePolicy policy;
+  private long hits;
+  private long misses;
+  private volatile long evictions;
+  private long estimatedBytes;
+
+  NamespaceCache(Namespace.CachePolicy policy) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    this.imports = new HashMap<>();
+    this.policy = requireNonNull(policy);
+  }
+
+  JavaClasses get(Key key, Supplier<JavaClasses> importer) {
+    return imported(key, importer).classes();
+  }
+
+  JavaClasses view(Key key, Supplier<JavaClasses> importer, Namespace.IMPORT viewOption,
+      Function<JavaClasses, JavaClasses> filter) {
+    Imported imported = imported(key, importer);
+
+    return imported.views().computeIfAbsent(viewOption, option -> filter.apply(imported.classes()));
+  }
+
+  synchronized Namespace.CachePolicy policy() {
+    return this.policy;
+  }
+
+  synchronized void policy(Namespace.CachePolicy policy) {
+    this.policy = requireNonNull(policy);
+
+    for (Map.Entry<Key, Entry> entry : this.entries.entrySet()) {
+      entry.setValue(entry.getValue().withSoftReference(policy.softReferences()));
+    }
+
+    if (policy.maxBytes() > 0) {
+      estimateEntries();
+    }
+
+    evictExceedingEntries();
+  }
+
+  synchronized void evict(Predicate<Key> keys) {
+    Iterator<Map.Entry<Key, Entry>> iterator = this.entries.entrySet().iterator();
+
+    while (iterator.hasNext()) {
+      Map.Entry<Key, Entry> entry = iterator.next();
+
+      if (keys.test(entry.getKey())) {
+        iterator.remove();
+        this.estimatedBytes -= entry.getValue().estimatedBytes();
+        this.evictions++;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of entries evicted so far, which only changes when an entry was removed.
+   */
+  long evictions() {
+    return this.evictions;
+  }
+
+  synchronized Namespace.CacheStatistics statistics() {
+    removeClearedEntries();
+    estimateEntries();
+
+    return new Namespace.CacheStatistics(this.hits, this.misses, this.evictions,
+        this.entries.size(), this.estimatedBytes);
+  }
+
+  private Imported imported(Key key, Supplier<JavaClasses> importer) {
+    CompletableFuture<Imported> pending;
+    boolean owner = false;
+
+    synchronized (this) {
+      Entry entry = this.entries.get(key);
+      Imported imported = entry != null ? entry.get() : null;
+
+      if (imported != null) {
+        this.hits++;
+        return imported;
+      }
+
+      if (entry != null) {
+        removeClearedEntries();
+      }
+
+      pending = this.imports.get(key);
+
+      if (pending != null) {
+        this.hits++;
+      } else {
+        this.misses++;
+        pending = new CompletableFuture<>();
+        this.imports.put(key, pending);
+        owner = true;
+      }
+    }
+
+    if (owner) {
+      return load(key, importer, pending);
+    }
+
+    try {
+      return pending.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private Imported load(Key key, Supplier<JavaClasses> importer,
+      CompletableFuture<Imported> pending) {
+    try {
+      JavaClasses classes = importer.get();
+      Imported imported = new Imported(classes, new ConcurrentHashMap<>(),
+          ImportScope.register(classes));
+      // The estimate walks all classes again, so it is only computed up front when a budget needs
+      // it, and otherwise when the statistics are requested.
+      long bytes = policy().maxBytes() > 0 ? estimatedBytes(classes) : Entry.NOT_ESTIMATED;
+
+      synchronized (this) {
+        this.imports.remove(key);
+        this.entries.put(key, Entry.of(imported, bytes, this.policy.softReferences()));
+
+        if (bytes == Entry.NOT_ESTIMATED && this.policy.maxBytes() > 0) {
+          estimateEntries();
+        } else {
+          this.estimatedBytes += Math.max(bytes, 0);
+        }
+
+        evictExceedingEntries();
+      }
+
+      pending.complete(imported);
+      return imported;
+    } catch (RuntimeException | Error e) {
+      synchronized (this) {
+        this.imports.remove(key);
+      }
+
+      pending.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void evictExceedingEntries() {
+    Iterator<Entry> iterator = this.entries.values().iterator();
+
+    while (iterator.hasNext() && exceedsPolicy()) {
+      this.estimatedBytes -= iterator.next().estimatedBytes();
+      this.evictions++;
+      iterator.remove();
+    }
+  }
+
+  private boolean exceedsPolicy() {
+    return (this.policy.maxEntries() > 0 && this.entries.size() > this.policy.maxEntries())
+        || (this.policy.maxBytes() > 0 && this.estimatedBytes > this.policy.maxBytes()
+        && this.entries.size() > 1);
+  }
+
+  private void estimateEntries() {
+    for (Entry entry : this.entries.values()) {
+      if (!entry.isEstimated()) {
+        this.estimatedBytes += entry.estimate();
+      }
+    }
+  }
+
+  private void removeClearedEntries() {
+    Iterator<Entry> iterator = this.entries.values().iterator();
+
+    while (iterator.hasNext()) {
+      Entry entry = iterator.next();
+
+      if (entry.get() == null) {
+        this.estimatedBytes -= entry.estimatedBytes();
+        this.evictions++;
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Estimates the heap retained by the imported classes, from the number of classes, members and
+   * accesses. The weights were measured on imports of a few thousand classes, so the estimate is
+   * meant for comparing imports and sizing a budget, not for exact accounting.
+   */
+  static long estimatedBytes(JavaClasses classes) {
+    long bytes = BYTES_PER_IMPORT;
+
+    for (JavaClass javaClass : classes) {
+      bytes += BYTES_PER_CLASS
+          + BYTES_PER_MEMBER * javaClass.getMembers().size()
+          + BYTES_PER_ACCESS * javaClass.getAccessesFromSelf().size();
+    }
+
+    return bytes;
+  }
+
+  record Key(String namespace, Namespace.IMPORT importOption, List<Path> locations) {
+  }
+
+  private record Imported(JavaClasses classes, Map<Namespace.IMPORT, JavaClasses> views,
+      @Nullable ImportScope scope) {
+  }
+
+  /**
+   * A cached import, referenced strongly or softly, with the estimated size of its classes once
+   * it has been computed.
+   */
+  private static final class Entry {
+
+    static final long NOT_ESTIMATED = -1;
+
+    private final @Nullable Imported imported;
+    private final @Nullable SoftReference<Imported> reference;
+    private long estimatedBytes;
+
+    private Entry(@Nullable Imported imported, @Nullable SoftReference<Imported> reference,
+        long estimatedBytes) {
+      this.imported = imported;
+      this.reference = reference;
+      this.estimatedBytes = estimatedBytes;
+    }
+
+    static Entry of(Imported imported, long estimatedBytes, boolean softReference) {
+      return softReference
+          ? new Entry(null, new SoftReference<>(imported), estimatedBytes)
+          : new Entry(imported, null, estimatedBytes);
+    }
+
+    @Nullable Imported get() {
+      return this.reference != null ? this.reference.get() : this.imported;
+    }
+
+    /**
+     * Returns the estimated size, or {@code 0} if it has not been estimated yet.
+     */
+    long estimatedBytes() {
+      return Math.max(this.estimatedBytes, 0);
+    }
+
+    boolean isEstimated() {
+      return this.estimatedBytes != NOT_ESTIMATED;
+    }
+
+    /**
+     * Estimates the size of the import, which counts as {@code 0} if it has been cleared.
+     */
+    long estimate() {
+      Imported current = get();
+      this.estimatedBytes = current != null ? NamespaceCache.estimatedBytes(current.classes()) : 0;
+
+      return this.estimatedBytes;
+    }
+
+    Entry withSoftReference(boolean softReference) {
+      Imported current = get();
+
+      return current == null || softReference == (this.reference != null)
+          ? this
+          : of(current, this.estimatedBytes, softReference);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.enofex.taikai;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a SARIF 2.1.0 log with a single run, reporting each violation as a result of the violated
+ * rule. Rules are identified by a short id derived from their description and configuration,
+ * which stays the same across runs. The results are streamed into the log, so the rules with
+ * violations are only described in the tool descriptor after the results.
+ */
+final class SarifViolationSink extends AbstractFileViolationSink {
+
+  private final Map<String, String> rules;
+  private boolean firstResult;
+
+  SarifViolationSink(Path file) {
+    super(file);
+    this.rules = new LinkedHashMap<>();
+  }
+
+  @Override
+  void writeHeader(Writer writer) throws IOException {
+    this.rules.clear();
+    this.firstResult = true;
+
+    writer.write("{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\","
+        + "\"version\":\"2.1.0\",\"runs\":[{\"results\":[");
+  }
+
+  @Override
+  void writeViolations(Writer writer, TaikaiRule rule, List<String> details) throws IOException {
+    String ruleId = HexFormat.of().toHexDigits(ImportCache.key(rule));
+    this.rules.putIfAbsent(ruleId, rule.archRule().getDescription());
+
+    for (String detail : details) {
+      if (!this.firstResult) {
+        writer.write(',');
+      }
+      this.firstResult = false;
+
+      writer.write("\n{\"ruleId\":");
+      writeString(writer, ruleId);
+      writer.write(",\"level\":\"error\",\"message\":{\"text\":");
+      writeString(writer, detail);
+      writer.write("}}");
+    }
+  }
+
+  @Override
+  void writeFooter(Writer writer) throws IOException {
+    writer.write("],\"tool\":{\"driver\":{\"name\":\"Taikai\","
+        + "\"informationUri\":\"https://enofex.github.io/taikai\",\"rules\":[");
+
+    boolean firstRule = true;
+
+    for (Map.Entry<String, String> rule : this.rules.entrySet()) {
+      if (!firstRule) {
+        writer.write(',');
+      }
+      firstRule = false;
+
+      writer.write("\n{\"id\":");
+      writeString(writer, rule.getKey());
+      writer.write(",\"shortDescription\":{\"text\":");
+      writeString(writer, rule.getValue());
+      writer.write("},\"fullDescription\":{\"text\":");
+      writeString(writer, rule.getValue());
+      writer.write("}}");
+    }
+
+    writer.write("]}}}]}\n");
+  }
+}
@@ -0,0 +1,72 @@
+package com.enofex.taikai;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Collects the evaluation statistics of all rules and reports the slowest ones at the end of each
+ * run.
+ *
+ * @see EvaluationListener#slowestRules(int)
+ */
+final class SlowestRulesListener implements EvaluationListener {
+
+  private final int limit;
+  private final Consumer<String> output;
+  private final List<RuleEvent> events;
+
+  SlowestRulesListener(int limit, Consumer<String> output) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must be at least 1");
+    }
+
+    this.limit = limit;
+    this.output = output;
+    this.events = new ArrayList<>();
+  }
+
+  @Override
+  public synchronized void ruleFinished(RuleEvent event) {
+    this.events.add(event);
+  }
+
+  @Override
+  public synchronized void evaluationFinished() {
+    if (this.events.isEmpty()) {
+      return;
+    }
+
+    List<RuleEvent> slowest = this.events.stream()
+        .sorted(Comparator.comparing(RuleEvent::duration).reversed())
+        .limit(this.limit)
+        .toList();
+
+    StringBuilder report = new StringBuilder()
+        .append("Slowest %d of %d Taikai rules:".formatted(slowest.size(), this.events.size()));
+
+    for (int i = 0; i < slowest.size(); i++) {
+      RuleEvent event = slowest.get(i);
+
+      report.append(System.lineSeparator())
+          .append(String.format(Locale.ROOT, "%3d. %8d ms %8d classes %6d violations %10s  %s",
+              i + 1,
+              event.duration().toMillis(),
+              event.classes(),
+              event.violations(),
+              allocated(event.allocatedBytes()),
+              event.rule().archRule().getDescription()));
+    }
+
+    this.events.clear();
+    this.output.accept(report.toString());
+  }
+
+  private static String allocated(long bytes) {
+    return bytes < 0
+        ? "n/a"
+        : String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+  }
+}
@@ -0,0 +1,59 @@
+package com.enofex.taikai;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Measures the elapsed time and, where the JVM supports it, the bytes allocated by the current
+ * thread since the stopwatch was started.
+ */
+final class Stopwatch {
+
+  private static final @Nullable ThreadMXBean THREADS = threads();
+
+  private final long startNanos;
+  private final long startBytes;
+
+  private Stopwatch() {
+    this.startNanos = System.nanoTime();
+    this.startBytes = currentThreadAllocatedBytes();
+  }
+
+  static Stopwatch start() {
+    return new Stopwatch();
+  }
+
+  Duration elapsed() {
+    return Duration.ofNanos(System.nanoTime() - this.startNanos);
+  }
+
+  /**
+   * Returns the bytes the current thread allocated since the stopwatch was started, or {@code -1}
+   * if the JVM does not support measuring them.
+   */
+  long allocatedBytes() {
+    long bytes = currentThreadAllocatedBytes();
+
+    return bytes < 0 || this.startBytes < 0 ? -1 : bytes - this.startBytes;
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+  }
+
+  private static @Nullable ThreadMXBean threads() {
+    try {
+      if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+          && threads.isThreadAllocatedMemorySupported()
+          && threads.isThreadAllocatedMemoryEnabled()) {
+        return threads;
+      }
+    } catch (LinkageError | UnsupportedOperationException e) {
+      // Management beans are not available, so allocations are not measured.
+    }
+
+    return null;
+  }
+}
@@ -6,21 +6,61 @@ import com.enofex.taikai.configures.Configurer;
 import com.enofex.taikai.configures.ConfigurerContext;
 import com.enofex.taikai.configures.Configurers;
 import com.enofex.taikai.configures.Customizer;
+import com.enofex.taikai.internal.ImportScope;
 import com.enofex.taikai.java.JavaConfigurer;
+import com.enofex.taikai.layers.LayersConfigurer;
 import com.enofex.taikai.logging.LoggingConfigurer;
 import com.enofex.taikai.quarkus.QuarkusConfigurer;
 import com.enofex.taikai.spring.SpringConfigurer;
 import com.enofex.taikai.test.TestConfigurer;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.FailureReport;
+import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DynamicTest;
 
 /**
  * Central entry point for defining and executing Taikai architectural rules.
@@ -29,10 +69,11 @@ import org.jspecify.annotations.Nullable;
  * through various {@code Configurer} implementations (Java, Spring, Logging, Test), and executes
  * rules against the imported {@link JavaClasses} for a given namespace.</p>
  *
- * <p>Rules can be executed in two modes:
+ * <p>Rules can be executed in three modes:
  * <ul>
  *   <li>{@link #check()} – stops at the first failure</li>
  *   <li>{@link #checkAll()} – evaluates all rules and aggregates failures</li>
+ *   <li>{@link #dynamicTests()} – evaluates each rule as a separate JUnit test</li>
  * </ul>
  *
  * <p>Use the {@link Builder} to configure and create an instance.</p>
@@ -45,18 +86,53 @@ import org.jspecify.annotations.Nullable;
 public final class Taikai {
 
   private final boolean failOnEmpty;
+  private final int parallelism;
+  private final @Nullable Duration timeout;
+  private final int maxViolations;
+  private final boolean incremental;
+  private final boolean singleImport;
+  private final boolean parallelImport;
   @Nullable
   private final String namespace;
   @Nullable
   private final JavaClasses classes;
+  @Nullable
+  private final ImportScope scope;
+  private final Collection<Path> locations;
   private final Collection<String> excludedClasses;
+  private final JavaClassesViews views;
   private final Collection<TaikaiRule> rules;
+  private final Collection<EvaluationListener> listeners;
+  private final EvaluationListeners listener;
+  @Nullable
+  private final ViolationSink violationSink;
+  @Nullable
+  private final Path cacheDirectory;
+  @Nullable
+  private final Path baselineFile;
+  private final Map<String, DescribedPredicate<JavaClass>> layers;
 
   private Taikai(Builder builder) {
     this.failOnEmpty = builder.failOnEmpty;
+    this.parallelism = builder.parallelism;
+    this.timeout = builder.timeout;
+    this.maxViolations = builder.maxViolations;
+    this.incremental = builder.incremental;
+    this.singleImport = builder.singleImport;
+    this.parallelImport = builder.parallelImport;
     this.namespace = builder.namespace;
     this.classes = builder.classes;
+    this.scope = this.classes != null ? ImportScope.register(this.classes) : null;
+    this.locations = List.copyOf(builder.locations);
     this.excludedClasses = builder.excludedClasses;
+    this.listeners = List.copyOf(builder.listeners);
+    this.listener = EvaluationListeners.of(this.listeners);
+    this.violationSink = builder.violationSink;
+    this.views = new JavaClassesViews(ClassExclusions.of(builder.excludedClasses),
+        builder.singleImport, this.listener, this.locations);
+    this.cacheDirectory = builder.cacheDirectory;
+    this.baselineFile = builder.baselineFile;
+    this.layers = layers(builder);
     this.rules = Stream.concat(
             builder.configurers.all().stream().flatMap(configurer -> configurer.rules().stream()),
             builder.rules.stream())
@@ -66,10 +142,29 @@ public final class Taikai {
       throw new IllegalArgumentException("Setting namespace and classes are not supported");
     }
 
+    if (this.classes != null && !this.locations.isEmpty()) {
+      throw new IllegalArgumentException("Setting classes and locations are not supported");
+    }
+
+    if (this.incremental && this.cacheDirectory == null) {
+      throw new IllegalArgumentException("Incremental analysis requires a cache directory");
+    }
+
     ArchConfiguration.get()
         .setProperty("archRule.failOnEmptyShould", Boolean.toString(this.failOnEmpty));
   }
 
+  private static Map<String, DescribedPredicate<JavaClass>> layers(Builder builder) {
+    Map<String, DescribedPredicate<JavaClass>> layers = new LinkedHashMap<>(builder.layers);
+    LayersConfigurer configurer = builder.configurers.get(LayersConfigurer.class);
+
+    if (configurer != null) {
+      layers.putAll(configurer.layers());
+    }
+
+    return Collections.unmodifiableMap(layers);
+  }
+
   /**
    * Returns whether Taikai should fail when a rule has no matching elements.
    *
@@ -79,6 +174,34 @@ public final class Taikai {
     return this.failOnEmpty;
   }
 
+  /**
+   * Returns the number of rules {@link #checkAll()} evaluates concurrently.
+   *
+   * @return the parallelism, {@code 1} if rules are evaluated sequentially
+   */
+  public int parallelism() {
+    return this.parallelism;
+  }
+
+  /**
+   * Returns the maximum time {@link #check()} or {@link #checkAll()} may take to evaluate all
+   * rules.
+   *
+   * @return the timeout, or {@code null} if the rules are evaluated without a time limit
+   */
+  public @Nullable Duration timeout() {
+    return this.timeout;
+  }
+
+  /**
+   * Returns the number of violations after which the evaluation of a rule stops.
+   *
+   * @return the maximum number of violations per rule, {@code 0} if rules are not limited
+   */
+  public int maxViolations() {
+    return this.maxViolations;
+  }
+
   /**
    * Returns the namespace configured for rule evaluation.
    *
@@ -97,6 +220,15 @@ public final class Taikai {
     return this.classes;
   }
 
+  /**
+   * Returns the class directories and JAR files namespaces are imported from.
+   *
+   * @return the locations, empty if namespaces are imported from the whole classpath
+   */
+  public Collection<Path> locations() {
+    return this.locations;
+  }
+
   /**
    * Returns the list of class exclusion patterns that should not be validated by any rule.
    *
@@ -130,6 +262,72 @@ public final class Taikai {
     return this.rules;
   }
 
+  /**
+   * Returns the {@link EvaluationListener}s notified while classes are imported and rules are
+   * evaluated.
+   *
+   * @return collection of registered listeners
+   */
+  public Collection<EvaluationListener> listeners() {
+    return this.listeners;
+  }
+
+  /**
+   * Returns the {@link ViolationSink} {@link #checkAll()} reports the violations to.
+   *
+   * @return the sink, or {@code null} if the violations are listed in the {@link AssertionError}
+   */
+  public @Nullable ViolationSink violationSink() {
+    return this.violationSink;
+  }
+
+  /**
+   * Returns the directory in which the results of successful runs are cached.
+   *
+   * @return the cache directory, or {@code null} if caching is disabled
+   */
+  public @Nullable Path cacheDirectory() {
+    return this.cacheDirectory;
+  }
+
+  /**
+   * Returns the file that holds the known violations, which do not fail a run.
+   *
+   * @return the baseline file, or {@code null} if all violations are reported
+   */
+  public @Nullable Path baseline() {
+    return this.baselineFile;
+  }
+
+  /**
+   * Returns whether rules are only re-evaluated on the classes that changed since the last run.
+   *
+   * @return {@code true} if incremental analysis is enabled, {@code false} otherwise
+   */
+  public boolean incremental() {
+    return this.incremental;
+  }
+
+  /**
+   * Returns whether all {@link Namespace.IMPORT} modes of a namespace are derived from a single
+   * import that includes test classes.
+   *
+   * @return {@code true} if a single import is shared, {@code false} otherwise
+   */
+  public boolean singleImport() {
+    return this.singleImport;
+  }
+
+  /**
+   * Returns whether the distinct namespaces and import modes of the rules are imported
+   * concurrently before the rules are evaluated. Each single import still runs on one thread.
+   *
+   * @return {@code true} if imports run concurrently, {@code false} otherwise
+   */
+  public boolean parallelImport() {
+    return this.parallelImport;
+  }
+
   /**
    * Executes all configured rules and fails immediately on the first violation.
    *
@@ -139,7 +337,37 @@ public final class Taikai {
    * @throws AssertionError if any rule fails
    */
   public void check() {
-    this.rules.forEach(rule -> rule.check(this.namespace, this.classes, this.excludedClasses));
+    try (Run run = new Run()) {
+      check(run);
+    } finally {
+      this.listener.evaluationFinished();
+    }
+  }
+
+  private void check(Run run) {
+    if (run.isUpToDate()) {
+      return;
+    }
+
+    importConcurrently();
+
+    for (TaikaiRule rule : this.rules) {
+      if (!this.listener.isEmpty() || run.timeout(rule) != null || maxViolations(rule) > 0
+          || run.baseline != null) {
+        ArchRule.Assertions.assertNoViolation(evaluate(rule, run));
+        continue;
+      }
+
+      Set<String> affectedClasses = run.affectedClasses(rule);
+
+      if (affectedClasses == null || (!affectedClasses.isEmpty()
+          && evaluate(rule, affectedClasses, run).hasViolations())) {
+        rule.check(this.namespace, this.classes, this.views);
+      }
+    }
+
+    run.evaluated();
+    run.passed(this.rules);
   }
 
   /**
@@ -149,40 +377,740 @@ public final class Taikai {
    * aggregates all failures into a single report. If violations exist, an {@link AssertionError} is
    * thrown with a detailed failure summary.</p>
    *
+   * <p>If a {@link Builder#parallelism(int) parallelism} greater than {@code 1} is configured, the
+   * rules are evaluated concurrently against the shared imported classes. The report still lists the
+   * rules in the order they were registered.</p>
+   *
    * @throws AssertionError if any rule violations are found.
    */
   public void checkAll() {
-    StringBuilder report = new StringBuilder();
-    int allViolations = 0;
-    int rulesViolated = 0;
+    try (Run run = new Run()) {
+      checkAll(run);
+    } finally {
+      this.listener.evaluationFinished();
+    }
+  }
+
+  private void checkAll(Run run) {
+    if (run.isUpToDate()) {
+      return;
+    }
+
+    importConcurrently();
+
+    List<TaikaiRule> rules = List.copyOf(this.rules);
+    List<TaikaiRule> passedRules = new ArrayList<>(rules.size());
+    ViolationReport report = new ViolationReport(this.violationSink);
+
+    try {
+      evaluate(rules, run, (rule, ruleReport) -> {
+        if (ruleReport.isEmpty()) {
+          passedRules.add(rule);
+        } else {
+          report.add(rule, ruleReport.getDetails());
+        }
+      });
+    } finally {
+      report.finished();
+    }
+
+    run.evaluated();
+    run.passed(passedRules);
+    report.assertNoViolations();
+  }
+
+  /**
+   * Returns one {@link DynamicTest} per rule, to be returned from a
+   * {@link org.junit.jupiter.api.TestFactory @TestFactory} method.
+   *
+   * <p>Each test evaluates a single rule and fails with the violations of that rule, so the test
+   * report lists every rule separately. All tests share the classes imported for their namespace,
+   * and can run concurrently if JUnit's parallel execution is enabled. The cache, the baseline and
+   * the {@link #violationSink() violation sink} are updated when the last test completes, which
+   * JUnit's parallel execution may only do after it closed the returned stream. The sink then
+   * receives the violations of all rules in registration order, on the thread of the last test,
+   * and is not called at all if the rules are up to date with the cache. If JUnit runs only some
+   * of the tests, for example because of a filter, the run is not completed and nothing is
+   * updated.</p>
+   *
+   * <pre>{@code
+   * @TestFactory
+   * Stream<DynamicTest> architecture() {
+   *   return Taikai.builder()
+   *       .namespace("com.company.project")
+   *       .java(java -> java.noUsageOfDeprecatedAPIs())
+   *       .build()
+   *       .dynamicTests();
+   * }
+   * }</pre>
+   *
+   * @return a stream of one dynamic test per rule, in the order the rules were registered
+   */
+  public Stream<DynamicTest> dynamicTests() {
+    Run run = new Run();
+
+    try {
+      boolean upToDate = run.isUpToDate();
+
+      if (!upToDate) {
+        importConcurrently();
+      }
+
+      List<TaikaiRule> rules = List.copyOf(this.rules);
+      Collection<TaikaiRule> passedRules = ConcurrentHashMap.newKeySet();
+      AtomicInteger evaluatedRules = new AtomicInteger();
+      // JUnit may run the tests concurrently and in any order, so the violations are kept until
+      // the last test completed and then passed to the sink in registration order.
+      AtomicReferenceArray<List<String>> violations = new AtomicReferenceArray<>(rules.size());
+      // With parallel execution, JUnit closes the stream before the tests complete, so the run is
+      // finished by the last test instead.
+      AtomicInteger remainingTests = new AtomicInteger(rules.size());
+      Runnable finish = () -> {
+        try {
+          if (!upToDate) {
+            report(rules, violations);
+
+            // A rule whose evaluation failed with an exception was not evaluated.
+            if (evaluatedRules.get() < rules.size()) {
+              run.incomplete();
+            }
+
+            run.evaluated();
+            run.passed(passedRules);
+          }
+        } finally {
+          run.close();
+          this.listener.evaluationFinished();
+        }
+      };
+
+      return IntStream.range(0, rules.size())
+          .mapToObj(index -> DynamicTest.dynamicTest(
+              rules.get(index).archRule().getDescription(), () -> {
+                try {
+                  Assumptions.assumeFalse(upToDate, "Rules are up to date with the cache");
+
+                  TaikaiRule rule = rules.get(index);
+                  EvaluationResult result = evaluate(rule, run);
+                  evaluatedRules.incrementAndGet();
+
+                  if (!result.hasViolation()) {
+                    passedRules.add(rule);
+                    return;
+                  }
+
+                  if (this.violationSink != null) {
+                    violations.set(index, result.getFailureReport().getDetails());
+                  }
+
+                  ArchRule.Assertions.assertNoViolation(result);
+                } finally {
+                  if (remainingTests.decrementAndGet() == 0) {
+                    finish.run();
+                  }
+                }
+              }))
+          .toList()
+          .stream()
+          .onClose(() -> {
+            // Without rules there is no test to finish the run.
+            if (rules.isEmpty()) {
+              finish.run();
+            }
+          });
+    } catch (RuntimeException | Error e) {
+      run.close();
+      this.listener.evaluationFinished();
+      throw e;
+    }
+  }
+
+  /**
+   * Passes the violations of the rules to the {@link #violationSink() violation sink}, if any.
+   */
+  private void report(List<TaikaiRule> rules, AtomicReferenceArray<List<String>> violations) {
+    if (this.violationSink == null) {
+      return;
+    }
+
+    ViolationReport report = new ViolationReport(this.violationSink);
+
+    try {
+      for (int index = 0; index < rules.size(); index++) {
+        List<String> details = violations.get(index);
+
+        if (details != null) {
+          report.add(rules.get(index), details);
+        }
+      }
+    } finally {
+      report.finished();
+    }
+  }
+
+  /**
+   * Writes the dependency graph of the imported classes to the given file, replacing the file.
+   *
+   * @param file   the file to write
+   * @param export how the graph is exported
+   * @throws TaikaiException if the file cannot be written or no namespace or classes are
+   *                         provided
+   * @see #exportDependencies(Writer, DependencyExport)
+   */
+  public void exportDependencies(Path file, DependencyExport export) {
+    requireNonNull(file);
+    requireNonNull(export);
+
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+        exportDependencies(writer, export);
+      }
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to export dependencies to %s".formatted(file), e);
+    }
+  }
+
+  /**
+   * Writes the dependency graph of the imported classes to the given writer, which is flushed but
+   * not closed.
+   *
+   * <p>The graph holds the {@link #classes()}, or the classes of the {@link #namespace()} imported
+   * with the {@link DependencyExport#namespaceImport() import mode} of the export, without the
+   * {@link #excludedClasses() excluded classes}. Dependencies on classes outside of them are left
+   * out. The graph is written node by node and edge by edge, so it is never held in memory as a
+   * whole. If the export includes violations, all rules are evaluated first.</p>
+   *
+   * <pre>{@code
+   * Taikai.builder()
+   *     .namespace("com.example.project")
+   *     .build()
+   *     .exportDependencies(writer, DependencyExport.builder()
+   *         .format(DependencyExport.Format.JSON)
+   *         .level(DependencyExport.Level.CLASSES)
+   *         .build());
+   * }</pre>
+   *
+   * @param writer the writer to write the graph to
+   * @param export how the graph is exported
+   * @throws TaikaiException if the graph cannot be written or no namespace or classes are provided
+   */
+  public void exportDependencies(Writer writer, DependencyExport export) {
+    requireNonNull(writer);
+    requireNonNull(export);
+
+    JavaClasses javaClasses;
+
+    if (this.classes != null) {
+      javaClasses = this.classes;
+    } else if (this.namespace != null) {
+      javaClasses = this.views.view(this.namespace, export.namespaceImport(), List.of(),
+          ClassExclusions.of(null));
+    } else {
+      throw new TaikaiException("Namespace is not provided");
+    }
+
+    DependencyExporter exporter = new DependencyExporter(javaClasses, export, this.layers,
+        export.violations() ? violatingClasses() : Set.of());
+
+    try {
+      exporter.write(DependencyGraphWriter.of(writer, export));
+      writer.flush();
+    } catch (IOException e) {
+      throw new TaikaiException("Unable to export dependencies", e);
+    }
+  }
+
+  /**
+   * Returns the names of the classes any rule reports a violation of, ignoring the baseline.
+   */
+  private Set<String> violatingClasses() {
+    Set<String> violatingClasses = new HashSet<>();
 
     for (TaikaiRule rule : this.rules) {
-      FailureReport ruleReport = rule
-          .archRule()
-          .evaluate(rule.javaClasses(this.namespace, this.classes, this.excludedClasses))
-          .getFailureReport();
+      rule.archRule().allowEmptyShould(true)
+          .evaluate(rule.javaClassesExcluding(this.namespace, this.classes, this.views))
+          .handleViolations((Collection<Object> objects, String message) -> {
+            for (Object object : objects) {
+              JavaClass owner = owner(object);
 
-      if (!ruleReport.isEmpty()) {
-        rulesViolated++;
+              if (owner != null) {
+                violatingClasses.add(owner.getName());
+              }
+            }
+          });
+    }
 
-        report.append(System.lineSeparator())
-            .append("Rule: ")
-            .append(rule.archRule().getDescription())
-            .append(System.lineSeparator());
+    return violatingClasses;
+  }
 
-        for (String detail : ruleReport.getDetails()) {
-          allViolations++;
+  /**
+   * Returns the class a violating object belongs to, e.g. the origin class of a dependency or the
+   * owner of a member.
+   */
+  private static @Nullable JavaClass owner(@Nullable Object object) {
+    if (object instanceof JavaClass javaClass) {
+      return javaClass;
+    }
+    if (object instanceof Dependency dependency) {
+      return dependency.getOriginClass();
+    }
+    if (object instanceof JavaAccess<?> access) {
+      return access.getOriginOwner();
+    }
+    if (object instanceof HasOwner<?> hasOwner) {
+      return owner(hasOwner.getOwner());
+    }
+    return null;
+  }
+
+  /**
+   * Imports the distinct namespaces and import modes of the rules concurrently if
+   * {@link #parallelImport()} is enabled, so evaluating the rules finds them already imported. Each
+   * import runs on one thread, so there is nothing to do for fewer than two imports.
+   */
+  private void importConcurrently() {
+    if (!this.parallelImport || this.incremental) {
+      return;
+    }
+
+    Map<Import, TaikaiRule> imports = new LinkedHashMap<>();
+
+    for (TaikaiRule rule : this.rules) {
+      String ruleNamespace = namespace(rule);
+
+      if (ruleNamespace != null) {
+        imports.putIfAbsent(new Import(ruleNamespace, this.singleImport
+            ? Namespace.IMPORT.WITH_TESTS
+            : rule.configuration().namespaceImport()), rule);
+      }
+    }
+
+    if (imports.size() < 2) {
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Math.min(Runtime.getRuntime().availableProcessors(), imports.size()));
+
+    try {
+      List<Future<JavaClasses>> futures = imports.values().stream()
+          .map(rule -> executor.submit(
+              () -> rule.javaClassesExcluding(this.namespace, this.classes, this.views)))
+          .toList();
+
+      for (Future<JavaClasses> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TaikaiException("Interrupted while importing classes", e);
+    } catch (ExecutionException e) {
+      throw rethrow(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Evaluates the rules and passes their reports to the consumer in registration order, each as
+   * soon as it and all reports before it are available.
+   */
+  private void evaluate(List<TaikaiRule> rules, Run run,
+      BiConsumer<TaikaiRule, FailureReport> reports) {
+    if (this.parallelism == 1 || rules.size() < 2) {
+      for (TaikaiRule rule : rules) {
+        reports.accept(rule, evaluate(rule, run).getFailureReport());
+      }
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Math.min(this.parallelism, rules.size()));
+
+    try {
+      List<Future<FailureReport>> futures = new ArrayList<>(rules.size());
+      for (TaikaiRule rule : rules) {
+        futures.add(executor.submit(() -> evaluate(rule, run).getFailureReport()));
+      }
+
+      for (int i = 0; i < futures.size(); i++) {
+        FailureReport report = futures.get(i).get();
+        // Release the report, so only reports that were not consumed yet are kept.
+        futures.set(i, null);
+        reports.accept(rules.get(i), report);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TaikaiException("Interrupted while evaluating rules", e);
+    } catch (ExecutionException e) {
+      throw rethrow(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private EvaluationResult evaluate(TaikaiRule rule, Run run) {
+    if (this.listener.isEmpty()) {
+      return evaluateWithinTimeout(rule, run).result();
+    }
+
+    this.listener.ruleStarted(rule);
+    Stopwatch stopwatch = Stopwatch.start();
+    Evaluation evaluation = null;
+
+    try {
+      evaluation = evaluateWithinTimeout(rule, run);
+      return evaluation.result();
+    } finally {
+      this.listener.ruleFinished(new EvaluationListener.RuleEvent(rule,
+          evaluation != null ? evaluation.classes() : 0,
+          evaluation != null ? evaluation.result().getFailureReport().getDetails().size() : 0,
+          stopwatch.elapsed(),
+          evaluation != null
+              ? evaluation.allocatedBytes(stopwatch.allocatedBytes())
+              : stopwatch.allocatedBytes()));
+    }
+  }
+
+  private Evaluation evaluateWithinTimeout(TaikaiRule rule, Run run) {
+    Duration ruleTimeout = run.timeout(rule);
+
+    if (ruleTimeout == null) {
+      return evaluateAffected(rule, run);
+    }
 
-          report.append("\t")
-              .append(detail)
-              .append(System.lineSeparator());
+    if (ruleTimeout.isZero() || ruleTimeout.isNegative()) {
+      run.incomplete();
+      return timedOut(rule, "Rule was not evaluated, as all rules exceeded the timeout of %d ms"
+          .formatted(requireNonNull(this.timeout).toMillis()));
+    }
+
+    // Import the classes up front, so the timeout only covers the evaluation of the rule.
+    rule.javaClassesExcluding(this.namespace, this.classes, this.views);
+
+    // The rule is evaluated by another thread, so its allocations are measured by that thread.
+    Future<Evaluation> future = run.executor().submit(() -> {
+      Stopwatch stopwatch = Stopwatch.start();
+      Evaluation evaluation = evaluateAffected(rule, run);
+
+      return new Evaluation(evaluation.result(), evaluation.classes(), stopwatch.allocatedBytes());
+    });
+
+    try {
+      return future.get(ruleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      run.incomplete();
+      return timedOut(rule, "Rule evaluation timed out after %d ms"
+          .formatted(ruleTimeout.toMillis()));
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new TaikaiException("Interrupted while evaluating rules", e);
+    } catch (ExecutionException e) {
+      throw rethrow(e);
+    }
+  }
+
+  private static Evaluation timedOut(TaikaiRule rule, String message) {
+    ConditionEvents events = ConditionEvents.Factory.create();
+    events.add(SimpleConditionEvent.violated(rule, message));
+
+    return new Evaluation(new EvaluationResult(rule.archRule(), events, Priority.MEDIUM), 0);
+  }
+
+  private static TaikaiException rethrow(ExecutionException e) {
+    if (e.getCause() instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    if (e.getCause() instanceof Error error) {
+      throw error;
+    }
+    return new TaikaiException("Failed to evaluate rules", e.getCause());
+  }
+
+  private Evaluation evaluateAffected(TaikaiRule rule, Run run) {
+    Set<String> affectedClasses = run.affectedClasses(rule);
+
+    if (affectedClasses != null) {
+      Evaluation evaluation = affectedClasses.isEmpty()
+          ? new Evaluation(new EvaluationResult(rule.archRule(), Priority.MEDIUM), 0)
+          : evaluate(rule, affectedClasses, run);
+
+      if (!evaluation.hasViolations()) {
+        return evaluation;
+      }
+    }
+
+    JavaClasses javaClasses = rule.javaClassesExcluding(this.namespace, this.classes, this.views);
+
+    return new Evaluation(evaluate(rule, javaClasses, run), javaClasses.size());
+  }
+
+  private Evaluation evaluate(TaikaiRule rule, Set<String> affectedClasses, Run run) {
+    JavaClasses javaClasses = rule.javaClassesExcluding(this.namespace, this.classes, this.views)
+        .that(DescribedPredicate.describe("affected classes",
+            javaClass -> affectedClasses.contains(javaClass.getName())));
+
+    // The changed classes may contain none the rule applies to, which is no failure of a rule
+    // that passed on all classes before.
+    return new Evaluation(
+        evaluate(rule, rule.archRule().allowEmptyShould(true), javaClasses, run),
+        javaClasses.size());
+  }
+
+  private EvaluationResult evaluate(TaikaiRule rule, JavaClasses javaClasses, Run run) {
+    return evaluate(rule, rule.archRule(), javaClasses, run);
+  }
+
+  private EvaluationResult evaluate(TaikaiRule rule, ArchRule archRule, JavaClasses javaClasses,
+      Run run) {
+    UnaryOperator<EvaluationResult> baseline = run.baseline(rule);
+    int ruleMaxViolations = maxViolations(rule);
+
+    if (ruleMaxViolations > 0) {
+      run.incomplete();
+      return ViolationLimit.evaluate(archRule, javaClasses, ruleMaxViolations, baseline);
+    }
+
+    return baseline.apply(archRule.evaluate(javaClasses));
+  }
+
+  /**
+   * Returns the smaller of the rule and the global violation limit, or {@code 0} if neither is
+   * set.
+   */
+  private int maxViolations(TaikaiRule rule) {
+    int ruleMaxViolations = rule.configuration().maxViolations();
+
+    return this.maxViolations == 0
+        || (ruleMaxViolations > 0 && ruleMaxViolations < this.maxViolations)
+        ? ruleMaxViolations
+        : this.maxViolations;
+  }
+
+  private @Nullable String namespace(TaikaiRule rule) {
+    if (this.classes != null || rule.configuration().javaClasses() != null) {
+      return null;
+    }
+
+    return rule.configuration().namespace() != null
+        ? rule.configuration().namespace()
+        : this.namespace;
+  }
+
+  /**
+   * A namespace and import mode, imported by {@link #importConcurrently()} and fingerprinted once
+   * per run.
+   */
+  private record Import(String namespace, Namespace.IMPORT importOption) {
+  }
+
+  /**
+   * The result of evaluating a rule, together with the number of classes it was evaluated on and
+   * the bytes allocated by the thread evaluating it, if that is not the calling thread.
+   */
+  private record Evaluation(EvaluationResult result, int classes, long workerAllocatedBytes) {
+
+    private Evaluation(EvaluationResult result, int classes) {
+      this(result, classes, 0);
+    }
+
+    private boolean hasViolations() {
+      return !this.result.getFailureReport().isEmpty();
+    }
+
+    /**
+     * Returns the bytes allocated by the calling thread and the thread evaluating the rule, or
+     * {@code -1} if the JVM does not support measuring them.
+     */
+    private long allocatedBytes(long callerAllocatedBytes) {
+      return callerAllocatedBytes < 0 || this.workerAllocatedBytes < 0
+          ? -1
+          : callerAllocatedBytes + this.workerAllocatedBytes;
+    }
+  }
+
+  /**
+   * A single {@link #check()} or {@link #checkAll()} run, consulting and updating the cache if a
+   * {@link #cacheDirectory()} is configured, and keeping track of the {@link #timeout()}.
+   */
+  private final class Run implements AutoCloseable {
+
+    private final @Nullable ImportCache cache;
+    private final Collection<ImportCache.Fingerprint> fingerprints;
+    private final @Nullable IncrementalScope scope;
+    private final @Nullable Baseline baseline;
+    private final long startNanos;
+    private @Nullable ExecutorService executor;
+    private volatile boolean complete;
+
+    private Run() {
+      this.startNanos = System.nanoTime();
+      this.baseline = baselineFile != null ? Baseline.load(baselineFile) : null;
+
+      Collection<ImportCache.Fingerprint> ruleFingerprints = cacheDirectory != null
+          ? fingerprints()
+          : null;
+
+      if (cacheDirectory == null || ruleFingerprints == null) {
+        this.cache = null;
+        this.fingerprints = List.of();
+        this.scope = null;
+      } else {
+        this.cache = new ImportCache(cacheDirectory);
+        this.fingerprints = ruleFingerprints;
+        this.scope = incremental
+            ? new IncrementalScope(this.cache.state(baseConfiguration()), ruleFingerprints,
+                singleImport, locations)
+            : null;
+      }
+
+      this.complete = this.scope == null;
+    }
+
+    /**
+     * Returns a filter that removes the violations of the given rule that are part of the
+     * baseline.
+     */
+    private UnaryOperator<EvaluationResult> baseline(TaikaiRule rule) {
+      if (this.baseline == null) {
+        return UnaryOperator.identity();
+      }
+
+      Predicate<String> newViolations = this.baseline.newViolations(rule);
+
+      return result -> result.filterDescriptionsMatching(newViolations);
+    }
+
+    /**
+     * Marks that a rule was not evaluated on all classes or not completely, so the violations the
+     * run found are not all violations there are.
+     */
+    private void incomplete() {
+      this.complete = false;
+    }
+
+    /**
+     * Records the baseline after all rules were evaluated.
+     */
+    private void evaluated() {
+      if (this.baseline != null) {
+        this.baseline.store(this.complete);
+      }
+    }
+
+    /**
+     * Returns the time left to evaluate the given rule, the smaller of the rule timeout and the
+     * time left of the global timeout, or {@code null} if the rule is not limited.
+     */
+    private @Nullable Duration timeout(TaikaiRule rule) {
+      Duration ruleTimeout = rule.configuration().timeout();
+
+      if (timeout == null) {
+        return ruleTimeout;
+      }
+
+      Duration remaining = timeout.minusNanos(System.nanoTime() - this.startNanos);
+
+      return ruleTimeout == null || remaining.compareTo(ruleTimeout) < 0
+          ? remaining
+          : ruleTimeout;
+    }
+
+    /**
+     * Returns the executor for rules with a timeout. Its threads are daemon threads, so a rule that
+     * ignores the interruption after its timeout does not keep the JVM alive.
+     */
+    private synchronized ExecutorService executor() {
+      if (this.executor == null) {
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+          Thread thread = new Thread(runnable, "taikai-rule");
+          thread.setDaemon(true);
+          return thread;
+        });
+      }
+
+      return this.executor;
+    }
+
+    @Override
+    public synchronized void close() {
+      if (this.executor != null) {
+        this.executor.shutdownNow();
+      }
+    }
+
+    private boolean isUpToDate() {
+      return this.cache != null && this.cache.isUpToDate(configuration(), this.fingerprints);
+    }
+
+    private @Nullable Set<String> affectedClasses(TaikaiRule rule) {
+      String ruleNamespace = namespace(rule);
+
+      return this.scope != null && ruleNamespace != null
+          ? this.scope.affectedClasses(rule, ruleNamespace)
+          : null;
+    }
+
+    private void passed(Collection<TaikaiRule> passedRules) {
+      if (this.cache == null) {
+        return;
+      }
+
+      if (passedRules.size() == rules.size()) {
+        this.cache.store(configuration(), this.fingerprints);
+      }
+
+      if (this.scope != null) {
+        this.cache.store(baseConfiguration(), new ImportCache.State(this.fingerprints,
+            passedRules.stream().map(ImportCache::key).collect(Collectors.toSet())));
+      }
+    }
+
+    private @Nullable Collection<ImportCache.Fingerprint> fingerprints() {
+      // Rules on the same namespace and import mode share a fingerprint, which is only computed
+      // once as it hashes all of their class files.
+      Map<Import, ImportCache.Fingerprint> ruleFingerprints = new LinkedHashMap<>();
+
+      for (TaikaiRule rule : rules) {
+        String ruleNamespace = namespace(rule);
+
+        if (ruleNamespace == null) {
+          return null;
         }
+
+        ruleFingerprints.computeIfAbsent(
+            new Import(ruleNamespace, rule.configuration().namespaceImport()),
+            key -> ImportCache.fingerprint(key.namespace(), key.importOption(), locations));
       }
+
+      return List.copyOf(ruleFingerprints.values());
+    }
+
+    private String baseConfiguration() {
+      return "%s|%s|%s|%s|%s|%s".formatted(failOnEmpty, singleImport, namespace, locations,
+          excludedClasses, baselineFile);
     }
 
-    if (allViolations > 0) {
-      throw new AssertionError(String.format("Found %d Taikai violations for %d rules!%n%s",
-          allViolations, rulesViolated, report));
+    private String configuration() {
+      StringBuilder configuration = new StringBuilder(baseConfiguration());
+
+      for (TaikaiRule rule : rules) {
+        configuration.append(System.lineSeparator())
+            .append(rule.archRule().getDescription()).append('|')
+            .append(rule.configuration().namespace()).append('|')
+            .append(rule.configuration().namespaceImport()).append('|')
+            .append(rule.configuration().excludedClasses());
+      }
+
+      return configuration.toString();
     }
   }
 
@@ -244,23 +1172,51 @@ public final class Taikai {
     private final Configurers configurers;
     private final Collection<TaikaiRule> rules;
     private final Collection<String> excludedClasses;
+    private final Collection<EvaluationListener> listeners;
+    private @Nullable ViolationSink violationSink;
     private boolean failOnEmpty;
+    private int parallelism;
+    private @Nullable Duration timeout;
+    private int maxViolations;
+    private boolean incremental;
+    private boolean singleImport;
+    private boolean parallelImport;
     private @Nullable String namespace;
     private @Nullable JavaClasses classes;
+    private Collection<Path> locations;
+    private @Nullable Path cacheDirectory;
+    private @Nullable Path baselineFile;
+    private Map<String, DescribedPredicate<JavaClass>> layers;
 
     public Builder() {
       this.configurers = new Configurers();
+      this.layers = Map.of();
       this.rules = new ArrayList<>();
+      this.locations = new ArrayList<>();
       this.excludedClasses = new ArrayList<>();
+      this.listeners = new ArrayList<>();
+      this.parallelism = 1;
     }
 
     public Builder(Taikai taikai) {
       this.configurers = new Configurers();
       this.rules = taikai.rules();
+      this.locations = new ArrayList<>(taikai.locations());
       this.excludedClasses = taikai.excludedClasses();
+      this.listeners = new ArrayList<>(taikai.listeners());
+      this.violationSink = taikai.violationSink();
       this.failOnEmpty = taikai.failOnEmpty();
+      this.parallelism = taikai.parallelism();
+      this.timeout = taikai.timeout();
+      this.maxViolations = taikai.maxViolations();
+      this.incremental = taikai.incremental();
+      this.singleImport = taikai.singleImport();
+      this.parallelImport = taikai.parallelImport();
       this.namespace = taikai.namespace();
       this.classes = taikai.classes();
+      this.cacheDirectory = taikai.cacheDirectory();
+      this.baselineFile = taikai.baseline();
+      this.layers = taikai.layers;
     }
 
     /**
@@ -285,6 +1241,50 @@ public final class Taikai {
       return this;
     }
 
+    /**
+     * Registers an {@link EvaluationListener} that is notified when the classes of a namespace are
+     * imported and before and after each rule is evaluated, with the duration, the number of
+     * classes and the number of violations. Listeners are notified in registration order.
+     *
+     * <pre>{@code
+     * Taikai.builder()
+     *     .namespace("com.example.project")
+     *     .addListener(EvaluationListener.slowestRules(10))
+     *     .build()
+     *     .checkAll();
+     * }</pre>
+     *
+     * @param listener the listener to add
+     * @return this builder for fluent chaining
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public Builder addListener(EvaluationListener listener) {
+      this.listeners.add(requireNonNull(listener));
+      return this;
+    }
+
+    /**
+     * Sets the {@link ViolationSink} that {@link Taikai#checkAll()} streams the violations to, rule
+     * by rule. The {@link AssertionError} then only summarizes the number of violations and rules,
+     * which keeps it small even for tens of thousands of violations.
+     *
+     * <pre>{@code
+     * Taikai.builder()
+     *     .namespace("com.example.project")
+     *     .violationSink(ViolationSink.sarif(Path.of("target/taikai.sarif")))
+     *     .build()
+     *     .checkAll();
+     * }</pre>
+     *
+     * @param violationSink the sink, or {@code null} to list the violations in the
+     *     {@link AssertionError}
+     * @return this builder for fluent chaining
+     */
+    public Builder violationSink(@Nullable ViolationSink violationSink) {
+      this.violationSink = violationSink;
+      return this;
+    }
+
     /**
      * Configures whether Taikai should fail when a rule matches no classes.
      * Defaults to {@code false}.
@@ -297,6 +1297,172 @@ public final class Taikai {
       return this;
     }
 
+    /**
+     * Configures how many rules {@link Taikai#checkAll()} evaluates concurrently. All rules share
+     * the same imported classes, and the aggregated report keeps the registration order of the
+     * rules. Defaults to {@code 1}, which evaluates the rules sequentially.
+     *
+     * <p>{@link Taikai#check()} always evaluates sequentially, as it stops at the first
+     * failure.</p>
+     *
+     * @param parallelism the number of rules to evaluate concurrently, at least {@code 1}
+     * @return this builder for fluent chaining
+     * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}
+     */
+    public Builder parallelism(int parallelism) {
+      if (parallelism < 1) {
+        throw new IllegalArgumentException("Parallelism must be at least 1");
+      }
+
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Configures the maximum time {@link Taikai#check()} or {@link Taikai#checkAll()} may take to
+     * evaluate all rules, in addition to the timeouts of single rules configured with
+     * {@link TaikaiRule.Configuration#withTimeout(Duration)}. Defaults to {@code null}, which
+     * evaluates the rules without a time limit.
+     *
+     * <p>A rule that exceeds its timeout is interrupted and reported as a violation, and rules that
+     * start after the global timeout is exceeded are reported without being evaluated. ArchUnit
+     * does not react to interruptions, so a timed out rule keeps running on a daemon thread until
+     * it completes, but it no longer blocks the build.</p>
+     *
+     * @param timeout the maximum time to evaluate all rules, or {@code null} for none
+     * @return this builder for fluent chaining
+     * @throws IllegalArgumentException if {@code timeout} is zero or negative
+     */
+    public Builder timeout(@Nullable Duration timeout) {
+      if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+        throw new IllegalArgumentException("Timeout must be positive");
+      }
+
+      this.timeout = timeout;
+      return this;
+    }
+
+    /**
+     * Configures the number of violations after which the evaluation of a rule stops, in addition
+     * to the limits of single rules configured with
+     * {@link TaikaiRule.Configuration#withMaxViolations(int)}. The report of a rule that reaches
+     * the limit lists only that many violations and says that it was truncated. Defaults to
+     * {@code 0}, which reports all violations.
+     *
+     * <p>See {@link TaikaiRule.Configuration#withMaxViolations(int)} for how rules stop early.</p>
+     *
+     * @param maxViolations the maximum number of violations per rule, or {@code 0} for no limit
+     * @return this builder for fluent chaining
+     * @throws IllegalArgumentException if {@code maxViolations} is negative
+     */
+    public Builder maxViolations(int maxViolations) {
+      if (maxViolations < 0) {
+        throw new IllegalArgumentException("Max violations must not be negative");
+      }
+
+      this.maxViolations = maxViolations;
+      return this;
+    }
+
+    /**
+     * Enables a persistent cache in the given directory. After a successful {@link Taikai#check()}
+     * or {@link Taikai#checkAll()}, Taikai records content hashes of the analyzed class files per
+     * namespace and {@link Namespace.IMPORT} mode, together with the rule configuration. A later
+     * run that finds the same class files and the same rules is skipped without importing any
+     * classes.
+     *
+     * <p>The cache only applies when all classes come from a namespace. It is ignored if
+     * {@link #classes(JavaClasses)} or a rule with {@code Configuration.of(JavaClasses)} is used.
+     * Rules are identified by their description.</p>
+     *
+     * @param cacheDirectory the directory for the cache files, or {@code null} to disable caching
+     * @return this builder for fluent chaining
+     */
+    public Builder cacheDirectory(@Nullable Path cacheDirectory) {
+      this.cacheDirectory = cacheDirectory;
+      return this;
+    }
+
+    /**
+     * Enables a baseline of known violations in the given file, so that only new violations fail
+     * {@link Taikai#check()} and {@link Taikai#checkAll()}. This allows to introduce rules into a
+     * code base that cannot be fixed at once.
+     *
+     * <p>If the file does not exist, the run records the violations of all rules in it and passes.
+     * The file is only recorded by a run that evaluated all rules on all classes. Later runs
+     * ignore the recorded violations and report only new ones. Violations are matched by rule
+     * description and message, ignoring line numbers and the numbers of anonymous classes and
+     * lambdas, and each message is counted, so further occurrences are reported. Recorded
+     * violations that no longer occur are removed from the file after a run that evaluated all
+     * rules on all classes, so they cannot be reintroduced. Delete the file to record a new
+     * baseline.</p>
+     *
+     * @param baselineFile the baseline file, or {@code null} to report all violations
+     * @return this builder for fluent chaining
+     */
+    public Builder baseline(@Nullable Path baselineFile) {
+      this.baselineFile = baselineFile;
+      return this;
+    }
+
+    /**
+     * Enables incremental analysis, which requires a {@link #cacheDirectory(Path)}. Taikai then
+     * records the content hashes of the analyzed class files and which rules passed. A rule that
+     * passed last time is only re-evaluated on the classes whose class files changed, the classes
+     * that directly or transitively depend on them, and the classes they directly depend on. Rules
+     * that failed or are new are evaluated on all classes. Defaults to {@code false}.
+     *
+     * <p>If a rule fails on the changed classes, it is evaluated again on all classes, so the
+     * report is the same as without incremental analysis.</p>
+     *
+     * @param incremental {@code true} to enable incremental analysis
+     * @return this builder for fluent chaining
+     */
+    public Builder incremental(boolean incremental) {
+      this.incremental = incremental;
+      return this;
+    }
+
+    /**
+     * Configures whether each namespace is imported only once, including test classes, and the
+     * {@link Namespace.IMPORT#WITHOUT_TESTS} and {@link Namespace.IMPORT#ONLY_TESTS} classes are
+     * derived from it as filtered views. This avoids parsing production and test classes
+     * repeatedly when rules with different import modes are mixed. Defaults to {@code false}.
+     *
+     * <p>As all modes share one class graph, production classes also see the test classes that
+     * depend on them. Rules on incoming dependencies, such as
+     * {@code shouldNotDependOnOtherControllers}, may therefore report classes that are only used by
+     * tests.</p>
+     *
+     * @param singleImport {@code true} to share a single import across all import modes
+     * @return this builder for fluent chaining
+     */
+    public Builder singleImport(boolean singleImport) {
+      this.singleImport = singleImport;
+      return this;
+    }
+
+    /**
+     * Configures whether the distinct namespaces and import modes the rules use are imported
+     * concurrently, one per available processor, before the rules are evaluated. This pays off when
+     * rules import several namespaces, or {@link Namespace.IMPORT#WITHOUT_TESTS} and
+     * {@link Namespace.IMPORT#ONLY_TESTS} classes without a {@link #singleImport(boolean) single
+     * import}. Defaults to {@code false}.
+     *
+     * <p>The import of a single namespace is not parallelized. ArchUnit resolves the references
+     * between classes within one import, so each namespace and import mode is imported by one
+     * thread. Rules that all use the same namespace and import mode, or the same namespace with a
+     * single import, therefore gain nothing from this setting. It is also ignored for
+     * {@link #incremental(boolean) incremental} analysis, which only imports what it needs.</p>
+     *
+     * @param parallelImport {@code true} to import namespaces concurrently
+     * @return this builder for fluent chaining
+     */
+    public Builder parallelImport(boolean parallelImport) {
+      this.parallelImport = parallelImport;
+      return this;
+    }
+
     /**
      * Sets the base package namespace to scan for classes. All rules will be applied
      * to classes within this package and its subpackages.
@@ -339,6 +1505,40 @@ public final class Taikai {
       return this;
     }
 
+    /**
+     * Restricts the import of namespaces to the given class directories and JAR files, replacing
+     * any previously set locations. In a multi-module build, this checks the classes of one module
+     * only, e.g. {@code target/classes}, without scanning every entry of the classpath.
+     *
+     * <p>The namespace package is imported from each location, JAR files included. Classes the
+     * imported classes depend on are still resolved from the classpath when needed. Cannot be
+     * combined with {@link #classes(JavaClasses)}.</p>
+     *
+     * @param locations the class directories and JAR files to import from
+     * @return this builder for fluent chaining
+     */
+    public Builder locations(Path... locations) {
+      return locations(Arrays.asList(locations));
+    }
+
+    /**
+     * Restricts the import of namespaces to the given class directories and JAR files, replacing
+     * any previously set locations.
+     *
+     * @param locations the class directories and JAR files to import from
+     * @return this builder for fluent chaining
+     * @see #locations(Path...)
+     */
+    public Builder locations(Collection<Path> locations) {
+      this.locations = new ArrayList<>(locations.size());
+
+      for (Path location : locations) {
+        this.locations.add(requireNonNull(location).toAbsolutePath().normalize());
+      }
+
+      return this;
+    }
+
     /**
      * Excludes the specified classes from all rule checks by their class objects.
      *
@@ -432,6 +1632,17 @@ public final class Taikai {
       return configure(customizer, QuarkusConfigurer::new);
     }
 
+    /**
+     * Configures the layers of the application and the dependencies allowed between them using
+     * the provided {@link Customizer}.
+     *
+     * @param customizer the customizer for {@link LayersConfigurer}
+     * @return this builder for fluent chaining
+     */
+    public Builder layers(Customizer<LayersConfigurer> customizer) {
+      return configure(customizer, LayersConfigurer::new);
+    }
+
     private <T extends Configurer> Builder configure(Customizer<T> customizer,
         Function<ConfigurerContext, T> supplier) {
       requireNonNull(customizer);
@@ -448,7 +1659,8 @@ public final class Taikai {
      *
      * @return a new {@link Taikai} instance ready for {@link Taikai#check()} or
      *         {@link Taikai#checkAll()}
-     * @throws IllegalArgumentException if both {@link #namespace} and {@link #classes} are set
+     * @throws IllegalArgumentException if both {@link #namespace} and {@link #classes} are set,
+     *     or if {@link #incremental(boolean)} is enabled without a {@link #cacheDirectory(Path)}
      */
     public Taikai build() {
       return new Taikai(this);
@@ -5,4 +5,8 @@ public class TaikaiException extends RuntimeException {
   public TaikaiException(String message) {
     super(message);
   }
+
+  public TaikaiException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
@@ -5,14 +5,12 @@ import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 
-import com.tngtech.archunit.base.DescribedPredicate;
-import com.tngtech.archunit.core.domain.JavaClass;
+import com.enofex.taikai.internal.ImportScope;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -94,11 +92,23 @@ public final class TaikaiRule {
    */
   public void check(@Nullable String globalNamespace, @Nullable JavaClasses classes,
       Collection<String> excludedClasses) {
-    this.archRule.check(javaClasses(globalNamespace, classes, excludedClasses));
+    check(globalNamespace, classes, new JavaClassesViews(ClassExclusions.of(excludedClasses),
+        false));
+  }
+
+  void check(@Nullable String globalNamespace, @Nullable JavaClasses classes,
+      JavaClassesViews views) {
+    this.archRule.check(javaClassesExcluding(globalNamespace, classes, views));
   }
 
   JavaClasses javaClasses(@Nullable String globalNamespace, @Nullable JavaClasses classes,
       @Nullable Collection<String> excludedClasses) {
+    return javaClassesExcluding(globalNamespace, classes,
+        new JavaClassesViews(ClassExclusions.of(excludedClasses), false));
+  }
+
+  JavaClasses javaClassesExcluding(@Nullable String globalNamespace,
+      @Nullable JavaClasses classes, JavaClassesViews views) {
     if (this.configuration.javaClasses() != null) {
       return this.configuration.javaClasses();
     }
@@ -115,20 +125,8 @@ public final class TaikaiRule {
       throw new TaikaiException("Namespace is not provided");
     }
 
-    Collection<String> allExcludedClasses = allExcludedClasses(excludedClasses);
-    JavaClasses javaClasses = Namespace.from(namespace, this.configuration.namespaceImport);
-
-    return allExcludedClasses.isEmpty()
-        ? javaClasses
-        : javaClasses.that(new ExcludeJavaClassDescribedPredicate(allExcludedClasses));
-  }
-
-  private Collection<String> allExcludedClasses(@Nullable Collection<String> excludedClasses) {
-    return Stream.concat(
-        this.configuration.excludedClasses.stream(),
-        excludedClasses != null
-            ? excludedClasses.stream() : Stream.empty()
-    ).toList();
+    return views.view(namespace, this.configuration.namespaceImport,
+        this.configuration.excludedClasses, this.configuration.exclusions);
   }
 
   public static final class Configuration {
@@ -136,14 +134,34 @@ public final class TaikaiRule {
     private final @Nullable String namespace;
     private final Namespace.IMPORT namespaceImport;
     private final @Nullable JavaClasses javaClasses;
+    private final @Nullable ImportScope scope;
     private final Collection<String> excludedClasses;
+    private final ClassExclusions exclusions;
+    private final @Nullable Duration timeout;
+    private final int maxViolations;
 
     private Configuration(@Nullable String namespace, Namespace.@Nullable IMPORT namespaceImport,
         @Nullable JavaClasses javaClasses, @Nullable Collection<?> excludedClasses) {
+      this(namespace, namespaceImport, javaClasses, excludedClasses, null);
+    }
+
+    private Configuration(@Nullable String namespace, Namespace.@Nullable IMPORT namespaceImport,
+        @Nullable JavaClasses javaClasses, @Nullable Collection<?> excludedClasses,
+        @Nullable Duration timeout) {
+      this(namespace, namespaceImport, javaClasses, excludedClasses, timeout, 0);
+    }
+
+    private Configuration(@Nullable String namespace, Namespace.@Nullable IMPORT namespaceImport,
+        @Nullable JavaClasses javaClasses, @Nullable Collection<?> excludedClasses,
+        @Nullable Duration timeout, int maxViolations) {
       this.namespace = namespace;
       this.namespaceImport = requireNonNullElse(namespaceImport, Namespace.IMPORT.WITHOUT_TESTS);
       this.javaClasses = javaClasses;
+      this.scope = javaClasses != null ? ImportScope.register(javaClasses) : null;
       this.excludedClasses = toClassNames(excludedClasses);
+      this.exclusions = ClassExclusions.of(this.excludedClasses);
+      this.timeout = timeout;
+      this.maxViolations = maxViolations;
     }
 
     private static <T> Collection<String> toClassNames(@Nullable Collection<T> excludedClasses) {
@@ -181,6 +199,66 @@ public final class TaikaiRule {
       return this.excludedClasses;
     }
 
+    /**
+     * Returns the maximum time the rule may take to evaluate.
+     *
+     * @return the timeout, or {@code null} if the rule has no timeout of its own
+     */
+    public @Nullable Duration timeout() {
+      return this.timeout;
+    }
+
+    /**
+     * Returns a copy of this configuration with the given timeout. A rule that is not evaluated
+     * within the timeout is abandoned and reported as a violation, so a single slow rule cannot
+     * block the build. The timeout applies in addition to {@link Taikai.Builder#timeout(Duration)}.
+     *
+     * @param timeout the maximum time the rule may take to evaluate, or {@code null} for none
+     * @return a new configuration with the timeout
+     * @throws IllegalArgumentException if {@code timeout} is zero or negative
+     */
+    public Configuration withTimeout(@Nullable Duration timeout) {
+      if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+        throw new IllegalArgumentException("Timeout must be positive");
+      }
+
+      return new Configuration(this.namespace, this.namespaceImport, this.javaClasses,
+          this.excludedClasses, timeout, this.maxViolations);
+    }
+
+    /**
+     * Returns the number of violations after which the evaluation of the rule stops.
+     *
+     * @return the maximum number of violations, or {@code 0} if the rule has no limit of its own
+     */
+    public int maxViolations() {
+      return this.maxViolations;
+    }
+
+    /**
+     * Returns a copy of this configuration with the given violation limit. Once the rule reaches
+     * the limit, its evaluation stops early and its report is marked as truncated. The limit
+     * applies in addition to {@link Taikai.Builder#maxViolations(int)}.
+     *
+     * <p>To stop early, the rule is evaluated on batches of classes. This gives the same result
+     * for rules that check each class on its own, which covers almost all rules. Conditions that
+     * compare classes with each other, such as a limit on the number of classes, would see only
+     * a batch at a time, so do not limit their violations. Rules on slices, such as cycle checks,
+     * are always evaluated completely and only their report is truncated.</p>
+     *
+     * @param maxViolations the maximum number of violations, or {@code 0} for no limit
+     * @return a new configuration with the violation limit
+     * @throws IllegalArgumentException if {@code maxViolations} is negative
+     */
+    public Configuration withMaxViolations(int maxViolations) {
+      if (maxViolations < 0) {
+        throw new IllegalArgumentException("Max violations must not be negative");
+      }
+
+      return new Configuration(this.namespace, this.namespaceImport, this.javaClasses,
+          this.excludedClasses, this.timeout, maxViolations);
+    }
+
     public static Configuration defaultConfiguration() {
       return new Configuration(null, Namespace.IMPORT.WITHOUT_TESTS, null, null);
     }
@@ -223,56 +301,4 @@ public final class TaikaiRule {
       return new Configuration(null, null, null, excludedClasses);
     }
   }
-
-  private static final class ExcludeJavaClassDescribedPredicate extends
-      DescribedPredicate<JavaClass> {
-
-    private final Collection<Pattern> allExcludedClassPatterns;
-
-    ExcludeJavaClassDescribedPredicate(Collection<String> allExcludedClasses) {
-      super("exclude classes");
-      this.allExcludedClassPatterns = allExcludedClasses.stream()
-          .map(ExcludeJavaClassDescribedPredicate::toRegex)
-          .map(Pattern::compile)
-          .toList();
-    }
-
-    @Override
-    public boolean test(JavaClass javaClass) {
-      return this.allExcludedClassPatterns.stream()
-          .noneMatch(pattern -> pattern.matcher(javaClass.getFullName()).matches());
-    }
-
-    private static String toRegex(String value) {
-      if (isArchUnitRecursivePackage(value)) {
-        return "^" + Pattern.quote(stripArchUnitSuffix(value)) + "(\\..+)?$";
-      }
-
-      if (isArchUnitSinglePackage(value)) {
-        return "^" + Pattern.quote(stripArchUnitSuffix(value)) + "\\.[^.]+$";
-      }
-
-      if (isFullyQualifiedClass(value)) {
-        return "^" + Pattern.quote(value) + "$";
-      }
-
-      return value;
-    }
-
-    private static boolean isArchUnitRecursivePackage(String value) {
-      return value.endsWith("..");
-    }
-
-    private static boolean isArchUnitSinglePackage(String value) {
-      return value.endsWith(".*");
-    }
-
-    private static boolean isFullyQualifiedClass(String value) {
-      return !value.contains("*") && !value.contains("..");
-    }
-
-    private static String stripArchUnitSuffix(String value) {
-      return value.substring(0, value.length() - 2);
-    }
-  }
 }
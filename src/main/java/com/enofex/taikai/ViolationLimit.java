@@ -0,0 +1,128 @@
+package com.enofex.taikai;
+
+import com.enofex.taikai.internal.FreeOfCyclesRule;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import com.tngtech.archunit.library.dependencies.SliceRule;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Evaluates a rule until it reaches a maximum number of violations.
+ *
+ * <p>ArchUnit evaluates a rule on all classes at once and offers no way to stop it. The rule is
+ * therefore evaluated on batches of classes, starting small and doubling in size, so a badly
+ * broken rule stops after a few small batches while a passing rule needs only a few evaluations.
+ * Rules on slices relate classes of different batches, so they are evaluated completely.</p>
+ */
+final class ViolationLimit {
+
+  private static final int FIRST_BATCH_SIZE = 64;
+
+  private ViolationLimit() {
+  }
+
+  static EvaluationResult evaluate(ArchRule rule, JavaClasses javaClasses, int maxViolations) {
+    return evaluate(rule, javaClasses, maxViolations, UnaryOperator.identity());
+  }
+
+  /**
+   * Evaluates the rule like {@link #evaluate(ArchRule, JavaClasses, int)}, counting only the
+   * violations the filter keeps.
+   */
+  static EvaluationResult evaluate(ArchRule rule, JavaClasses javaClasses, int maxViolations,
+      UnaryOperator<EvaluationResult> filter) {
+    if (rule instanceof SliceRule || rule instanceof FreeOfCyclesRule
+        || javaClasses.size() == 0) {
+      return truncated(rule, filter.apply(rule.evaluate(javaClasses)), maxViolations, false);
+    }
+
+    // Number the classes once, so selecting a batch only compares positions.
+    Map<JavaClass, Integer> positions = new IdentityHashMap<>(javaClasses.size());
+    for (JavaClass javaClass : javaClasses) {
+      positions.put(javaClass, positions.size());
+    }
+
+    // Batches without classes matching the rule are expected, so they are evaluated allowing that.
+    // Whether the rule matched any class at all is only unknown if no batch had violations.
+    ArchRule allowingEmptyShould = rule.allowEmptyShould(true);
+    EvaluationResult result = new EvaluationResult(rule, Priority.MEDIUM);
+    int violations = 0;
+    int from = 0;
+    int batchSize = FIRST_BATCH_SIZE;
+
+    while (from < positions.size()) {
+      int first = from;
+      int to = Math.min(positions.size(), from + batchSize);
+      JavaClasses batch = javaClasses.that(DescribedPredicate.describe("batch", javaClass -> {
+        int position = positions.get(javaClass);
+        return position >= first && position < to;
+      }));
+
+      EvaluationResult batchResult = filter.apply(allowingEmptyShould.evaluate(batch));
+
+      violations += batchResult.getFailureReport().getDetails().size();
+      result.add(batchResult);
+
+      if (violations >= maxViolations) {
+        return truncated(rule, result, maxViolations, to < positions.size());
+      }
+
+      from = to;
+      batchSize *= 2;
+    }
+
+    if (!result.hasViolation() && failsOnEmptyShould(rule, javaClasses)) {
+      // Throws if no class matched the rule, as evaluating it on all classes at once would.
+      rule.evaluate(javaClasses);
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns whether the rule fails if no class matches it, which is cheap to find out on no
+   * classes at all.
+   */
+  private static boolean failsOnEmptyShould(ArchRule rule, JavaClasses javaClasses) {
+    try {
+      rule.evaluate(javaClasses.that(DescribedPredicate.describe("no classes", javaClass -> false)));
+      return false;
+    } catch (AssertionError e) {
+      return true;
+    }
+  }
+
+  /**
+   * Keeps the given number of violations of the result and, if any violations were dropped or not
+   * evaluated, adds a violation saying that the report is truncated.
+   */
+  private static EvaluationResult truncated(ArchRule rule, EvaluationResult result,
+      int maxViolations, boolean stoppedEarly) {
+    List<String> details = result.getFailureReport().getDetails();
+
+    if (details.size() <= maxViolations && !stoppedEarly) {
+      return result;
+    }
+
+    ConditionEvents events = ConditionEvents.Factory.create();
+
+    for (String detail : details.subList(0, Math.min(details.size(), maxViolations))) {
+      events.add(SimpleConditionEvent.violated(rule, detail));
+    }
+
+    events.add(SimpleConditionEvent.violated(rule,
+        "Evaluation stopped after %d violations, further violations are not reported"
+            .formatted(maxViolations)));
+
+    return new EvaluationResult(rule, events, Priority.MEDIUM);
+  }
+}
@@ -0,0 +1,68 @@
+package com.enofex.taikai;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Collects the violations of a {@link Taikai#checkAll()} run, either into the message of the
+ * {@link AssertionError} or, if a {@link ViolationSink} is configured, by streaming them to the
+ * sink and only counting them.
+ */
+final class ViolationReport {
+
+  private final @Nullable ViolationSink sink;
+  private final StringBuilder report;
+  private int violations;
+  private int rulesViolated;
+
+  ViolationReport(@Nullable ViolationSink sink) {
+    this.sink = sink;
+    this.report = new StringBuilder();
+
+    if (sink != null) {
+      sink.started();
+    }
+  }
+
+  void add(TaikaiRule rule, List<String> details) {
+    this.rulesViolated++;
+    this.violations += details.size();
+
+    if (this.sink != null) {
+      this.sink.violations(rule, details);
+      return;
+    }
+
+    this.report.append(System.lineSeparator())
+        .append("Rule: ")
+        .append(rule.archRule().getDescription())
+        .append(System.lineSeparator());
+
+    for (String detail : details) {
+      this.report.append("\t")
+          .append(detail)
+          .append(System.lineSeparator());
+    }
+  }
+
+  void finished() {
+    if (this.sink != null) {
+      this.sink.finished();
+    }
+  }
+
+  void assertNoViolations() {
+    if (this.violations == 0) {
+      return;
+    }
+
+    if (this.sink != null) {
+      throw new AssertionError(String.format("Found %d Taikai violations for %d rules! "
+              + "The violations were written to %s", this.violations, this.rulesViolated,
+          this.sink.description()));
+    }
+
+    throw new AssertionError(String.format("Found %d Taikai violations for %d rules!%n%s",
+        this.violations, this.rulesViolated, this.report));
+  }
+}
@@ -0,0 +1,77 @@
+package com.enofex.taikai;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Receives the violations {@link Taikai#checkAll()} finds, rule by rule, instead of collecting them
+ * all in the message of the {@link AssertionError}.
+ *
+ * <p>A sink is registered with {@link Taikai.Builder#violationSink(ViolationSink)}. Each run of
+ * {@link Taikai#checkAll()} calls {@link #started()}, then {@link #violations(TaikaiRule, List)}
+ * for every rule with violations in registration order, and finally {@link #finished()}. The
+ * violations of a rule are passed on as soon as the rule and all rules registered before it were
+ * evaluated, so they do not have to be kept until the end of the run. All callbacks are invoked from
+ * the thread calling {@link Taikai#checkAll()}. A run of {@link Taikai#dynamicTests()} makes the
+ * same calls, in the same order, from the thread of the last test to complete. A run skipped
+ * because the rules are up to date with the cache makes no calls.</p>
+ *
+ * @see Taikai.Builder#violationSink(ViolationSink)
+ */
+public interface ViolationSink {
+
+  /**
+   * Invoked once at the start of {@link Taikai#checkAll()}, before any violation is reported.
+   */
+  default void started() {
+  }
+
+  /**
+   * Invoked for each rule with violations.
+   *
+   * @param rule the violated rule
+   * @param details the violation messages of the rule
+   */
+  void violations(TaikaiRule rule, List<String> details);
+
+  /**
+   * Invoked once at the end of {@link Taikai#checkAll()}, whether the rules passed or not.
+   */
+  default void finished() {
+  }
+
+  /**
+   * Returns a short description of where the violations go, which the {@link AssertionError} of
+   * {@link Taikai#checkAll()} refers to instead of listing the violations.
+   *
+   * @return the description, e.g. the path of the written file
+   */
+  String description();
+
+  /**
+   * Returns a sink that writes each violation as a JSON object on its own line to the given file,
+   * replacing the file on every run. Each object holds the {@code rule} description and the
+   * {@code violation} message.
+   *
+   * @param file the file to write
+   * @return the sink
+   * @throws NullPointerException if {@code file} is {@code null}
+   */
+  static ViolationSink jsonLines(Path file) {
+    return new JsonLinesViolationSink(requireNonNull(file));
+  }
+
+  /**
+   * Returns a sink that writes the violations as a SARIF 2.1.0 log to the given file, replacing the
+   * file on every run. Code scanning tools and IDEs can display such logs.
+   *
+   * @param file the file to write
+   * @return the sink
+   * @throws NullPointerException if {@code file} is {@code null}
+   */
+  static ViolationSink sarif(Path file) {
+    return new SarifViolationSink(requireNonNull(file));
+  }
+}
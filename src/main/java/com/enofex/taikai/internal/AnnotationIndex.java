@@ -0,0 +1,145 @@
+package com.enofex.taikai.internal;
+
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaParameter;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.domain.properties.HasAnnotations;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Internal index of the annotations present on imported classes, members and parameters, including
+ * the annotations those annotations are meta-annotated with.
+ * <p>
+ * {@link CanBeAnnotated#isMetaAnnotatedWith(String)} walks the annotation hierarchy on every call.
+ * This index walks it once per element and once per annotation type, so further lookups are a
+ * single set lookup. The entries of an element are kept in the {@link ImportScope} of the class
+ * declaring it, in maps that are read without locking. Elements that belong to no class are not
+ * indexed.
+ * <p>
+ * This class is intended for internal use only and is not part of the public API. Developers should
+ * not rely on this class for any public API usage.
+ */
+public final class AnnotationIndex {
+
+  private static final Object ELEMENTS = new Object();
+  private static final Object ANNOTATION_TYPES = new Object();
+
+  private AnnotationIndex() {
+  }
+
+  /**
+   * Returns whether the element is annotated with the given annotation, or with an annotation that
+   * is itself meta-annotated with it. Answers the same as
+   * {@link CanBeAnnotated#isMetaAnnotatedWith(String)}.
+   *
+   * @param element    the annotated class, member or parameter
+   * @param annotation the fully qualified name of the annotation
+   * @return {@code true} if the element is annotated or meta-annotated with the annotation
+   */
+  public static boolean isMetaAnnotatedWith(CanBeAnnotated element, String annotation) {
+    if (element instanceof HasAnnotations<?> hasAnnotations) {
+      return metaAnnotations(hasAnnotations).contains(annotation);
+    }
+
+    return element.isMetaAnnotatedWith(annotation);
+  }
+
+  /**
+   * Returns the fully qualified names of all annotations the element is annotated or
+   * meta-annotated with.
+   *
+   * @param element the annotated class, member or parameter
+   * @return the names of the annotations and meta-annotations
+   */
+  public static Set<String> metaAnnotations(HasAnnotations<?> element) {
+    JavaClass owner = owner(element);
+
+    if (owner == null) {
+      return collect(element);
+    }
+
+    Map<HasAnnotations<?>, Set<String>> elements = ImportScope.of(owner)
+        .get(ELEMENTS, root -> new ConcurrentHashMap<>());
+    Set<String> names = elements.get(element);
+
+    if (names == null) {
+      names = collect(element);
+      elements.put(element, names);
+    }
+
+    return names;
+  }
+
+  private static @Nullable JavaClass owner(HasAnnotations<?> element) {
+    if (element instanceof JavaClass javaClass) {
+      return javaClass;
+    }
+    if (element instanceof JavaMember member) {
+      return member.getOwner();
+    }
+    if (element instanceof JavaParameter parameter) {
+      return parameter.getOwner().getOwner();
+    }
+
+    return null;
+  }
+
+  private static Set<String> collect(HasAnnotations<?> element) {
+    Set<String> names = new HashSet<>();
+
+    for (JavaAnnotation<?> annotation : element.getAnnotations()) {
+      names.addAll(annotationType(annotation.getRawType()));
+    }
+
+    return Set.copyOf(names);
+  }
+
+  /**
+   * Returns the name of the annotation type together with the names of all annotations it is
+   * directly or transitively meta-annotated with.
+   */
+  private static Set<String> annotationType(JavaClass annotationType) {
+    Map<JavaClass, Set<String>> annotationTypes = ImportScope.of(annotationType)
+        .get(ANNOTATION_TYPES, root -> new ConcurrentHashMap<>());
+    Set<String> names = annotationTypes.get(annotationType);
+
+    if (names != null) {
+      return names;
+    }
+
+    Set<String> typeNames = new HashSet<>();
+    Deque<JavaClass> pending = new ArrayDeque<>();
+    pending.add(annotationType);
+
+    while (!pending.isEmpty()) {
+      JavaClass type = pending.poll();
+
+      if (!typeNames.add(type.getName())) {
+        continue;
+      }
+
+      Set<String> indexed = type == annotationType ? null : annotationTypes.get(type);
+
+      if (indexed != null) {
+        typeNames.addAll(indexed);
+      } else {
+        for (JavaAnnotation<JavaClass> annotation : type.getAnnotations()) {
+          pending.add(annotation.getRawType());
+        }
+      }
+    }
+
+    names = Set.copyOf(typeNames);
+    annotationTypes.put(annotationType, names);
+
+    return names;
+  }
+}
@@ -3,6 +3,7 @@ package com.enofex.taikai.internal;
 import static com.enofex.taikai.internal.Modifiers.isFieldPublic;
 import static com.enofex.taikai.internal.Modifiers.isFieldStatic;
 
+import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaField;
 import com.tngtech.archunit.core.domain.JavaMethod;
@@ -10,6 +11,7 @@ import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
@@ -225,4 +227,94 @@ public final class ArchConditions {
       }
     };
   }
+
+  /**
+   * Creates a condition that checks if a class depends on a class matching the predicate. Behaves
+   * like {@link com.tngtech.archunit.lang.conditions.ArchConditions#dependOnClassesThat}, but
+   * looks the dependencies up in the {@link DependencyGraph} of the import, and only walks the
+   * dependencies of classes violating the condition to report them.
+   *
+   * @param predicate the predicate for the classes depended on
+   * @return an architectural condition for checking the dependencies of a class
+   */
+  public static ArchCondition<JavaClass> dependOnClassesThat(
+      DescribedPredicate<? super JavaClass> predicate) {
+    ArchCondition<JavaClass> condition =
+        com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClassesThat(predicate);
+
+    return new ArchCondition<>(condition.getDescription()) {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        if (!DependencyGraph.of(javaClass).dependsOn(javaClass, predicate)) {
+          condition.check(javaClass, events);
+        }
+      }
+    };
+  }
+
+  /**
+   * Creates a condition that checks if a class does <strong>not</strong> depend on a class
+   * matching the predicate. Behaves like
+   * {@code ArchConditions.not(ArchConditions.dependOnClassesThat(predicate))}, but looks the
+   * dependencies up in the {@link DependencyGraph} of the import, and only walks the dependencies
+   * of classes violating the condition to report them.
+   *
+   * @param predicate the predicate for the classes that must not be depended on
+   * @return an architectural condition for checking the dependencies of a class
+   */
+  public static ArchCondition<JavaClass> notDependOnClassesThat(
+      DescribedPredicate<? super JavaClass> predicate) {
+    ArchCondition<JavaClass> condition = com.tngtech.archunit.lang.conditions.ArchConditions.not(
+        com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClassesThat(predicate));
+
+    return new ArchCondition<>(condition.getDescription()) {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        if (DependencyGraph.of(javaClass).dependsOn(javaClass, predicate)) {
+          condition.check(javaClass, events);
+        }
+      }
+    };
+  }
+
+  /**
+   * Creates a condition that checks if a class does <strong>not</strong> reach a class matching
+   * the predicate through at most the given number of dependencies. A direct dependency is one
+   * step, a dependency of a dependency two, and so on. The classes reaching a matching class are
+   * computed once per import in the {@link DependencyGraph}, so checking a class is a single
+   * lookup, and a shortest path is searched only for violating classes to report it.
+   *
+   * @param predicate the predicate for the classes that must not be reached
+   * @param maxSteps  the maximum number of dependencies to follow
+   * @return an architectural condition for checking the transitive dependencies of a class
+   * @throws IllegalArgumentException if the number of dependencies is not positive
+   */
+  public static ArchCondition<JavaClass> notReachClassesThat(
+      DescribedPredicate<? super JavaClass> predicate, int maxSteps) {
+    if (maxSteps < 1) {
+      throw new IllegalArgumentException("Max steps must be positive");
+    }
+
+    return new ArchCondition<>("not reach classes that %s within %d dependencies".formatted(
+        predicate.getDescription(), maxSteps)) {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        DependencyGraph graph = DependencyGraph.of(javaClass);
+        int id = graph.id(javaClass);
+
+        if (id < 0 || !graph.reaching(predicate, maxSteps).get(id)) {
+          return;
+        }
+
+        int[] path = graph.path(id, graph.matching(predicate), maxSteps);
+
+        events.add(SimpleConditionEvent.violated(javaClass,
+            "Class <%s> reaches class <%s> through %s".formatted(javaClass.getName(),
+                graph.javaClass(path[path.length - 1]).getName(),
+                Arrays.stream(path)
+                    .mapToObj(step -> "<%s>".formatted(graph.javaClass(step).getName()))
+                    .collect(Collectors.joining(" -> ")))));
+      }
+    };
+  }
 }
@@ -0,0 +1,352 @@
+package com.enofex.taikai.internal;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Internal graph of the direct class dependencies of an import, with the classes numbered and the
+ * dependencies of all classes stored in a few {@code int} arrays.
+ * <p>
+ * ArchUnit keeps the dependencies of a class as a set of objects, which rules walk again for every
+ * class they check, testing every dependency against their predicate. This graph is built once per
+ * import from the same dependencies, keeping only the distinct target classes in compressed sparse
+ * row form: the targets of class {@code id} are {@code targets[offsets[id]]} to
+ * {@code targets[offsets[id + 1] - 1]}. The classes depending on a class are stored the same way.
+ * A predicate on the target classes is tested once per class of the graph, so checking a class is
+ * a scan of a small array. The classes transitively depending on the matching classes are computed
+ * once per predicate and depth as well, so checking whether a class reaches one is a bit lookup.
+ * <p>
+ * The graph of an import references its classes, so it is kept in the {@link ImportScope} of the
+ * import and dropped together with it. The sets computed per predicate are kept for a bounded
+ * number of predicates, as rules create new predicates for every evaluation.
+ * <p>
+ * This class is intended for internal use only and is not part of the public API. Developers should
+ * not rely on this class for any public API usage.
+ */
+public final class DependencyGraph {
+
+  private static final Object GRAPH = new Object();
+  private static final int MAX_CACHED_PREDICATES = 256;
+
+  private final JavaClass[] classes;
+  private final Map<JavaClass, Integer> ids;
+  private final int[] offsets;
+  private final int[] targets;
+  private final int[] reverseOffsets;
+  private final int[] sources;
+  private final Map<DescribedPredicate<? super JavaClass>, BitSet> matches;
+  private final Map<Reach, BitSet> reaches;
+
+  private DependencyGraph(JavaClass[] classes, Map<JavaClass, Integer> ids, int[] offsets,
+      int[] targets) {
+    this.classes = classes;
+    this.ids = ids;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.reverseOffsets = new int[classes.length + 1];
+    this.sources = new int[targets.length];
+    this.matches = new ConcurrentHashMap<>();
+    this.reaches = new ConcurrentHashMap<>();
+
+    for (int target : targets) {
+      this.reverseOffsets[target + 1]++;
+    }
+
+    for (int id = 0; id < classes.length; id++) {
+      this.reverseOffsets[id + 1] += this.reverseOffsets[id];
+    }
+
+    int[] next = Arrays.copyOf(this.reverseOffsets, classes.length);
+
+    for (int id = 0; id < classes.length; id++) {
+      for (int index = offsets[id]; index < offsets[id + 1]; index++) {
+        this.sources[next[targets[index]]++] = id;
+      }
+    }
+  }
+
+  /**
+   * Returns the graph of the import the class belongs to, building it on first use.
+   *
+   * @param javaClass any class of the import
+   * @return the dependency graph of all classes of the import
+   */
+  public static DependencyGraph of(JavaClass javaClass) {
+    return ImportScope.of(javaClass).get(GRAPH, root -> of(root.getClassesInPackageTree()));
+  }
+
+  /**
+   * Builds the graph of the given classes and all classes they depend on.
+   *
+   * @param javaClasses the classes to build the graph of
+   * @return the dependency graph of the classes
+   */
+  public static DependencyGraph of(Collection<JavaClass> javaClasses) {
+    List<JavaClass> classes = new ArrayList<>(javaClasses.size());
+    Map<JavaClass, Integer> ids = new IdentityHashMap<>(javaClasses.size() * 2);
+
+    for (JavaClass javaClass : javaClasses) {
+      if (ids.putIfAbsent(javaClass, classes.size()) == null) {
+        classes.add(javaClass);
+      }
+    }
+
+    int[] offsets = new int[classes.size() + 1];
+    int[] targets = new int[Math.max(16, classes.size() * 4)];
+    int[] lastSource = new int[classes.size()];
+    int edges = 0;
+    Arrays.fill(lastSource, -1);
+
+    // Targets outside the given classes are appended while iterating, so their empty
+    // dependencies are added as well.
+    for (int id = 0; id < classes.size(); id++) {
+      for (Dependency dependency : classes.get(id).getDirectDependenciesFromSelf()) {
+        JavaClass target = dependency.getTargetClass();
+        Integer targetId = ids.get(target);
+
+        if (targetId == null) {
+          targetId = classes.size();
+          ids.put(target, targetId);
+          classes.add(target);
+          offsets = grow(offsets, classes.size() + 1);
+          lastSource = grow(lastSource, classes.size());
+          lastSource[targetId] = -1;
+        }
+
+        if (lastSource[targetId] != id) {
+          lastSource[targetId] = id;
+          targets = grow(targets, edges + 1);
+          targets[edges++] = targetId;
+        }
+      }
+
+      offsets[id + 1] = edges;
+    }
+
+    return new DependencyGraph(classes.toArray(new JavaClass[0]), ids,
+        Arrays.copyOf(offsets, classes.size() + 1), Arrays.copyOf(targets, edges));
+  }
+
+  private static int[] grow(int[] array, int minimumLength) {
+    return array.length >= minimumLength
+        ? array
+        : Arrays.copyOf(array, Math.max(minimumLength, array.length * 2));
+  }
+
+  /**
+   * Returns the number of classes in the graph.
+   */
+  public int size() {
+    return this.classes.length;
+  }
+
+  /**
+   * Returns the id of the class, or {@code -1} if it is not part of the graph.
+   */
+  public int id(JavaClass javaClass) {
+    Integer id = this.ids.get(javaClass);
+
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Returns the class with the given id.
+   */
+  public JavaClass javaClass(int id) {
+    return this.classes[id];
+  }
+
+  /**
+   * Returns the ids of the classes the class with the given id directly depends on.
+   */
+  public int[] targets(int id) {
+    return Arrays.copyOfRange(this.targets, this.offsets[id], this.offsets[id + 1]);
+  }
+
+  /**
+   * Returns the ids of the classes directly depending on the class with the given id.
+   */
+  public int[] sources(int id) {
+    return Arrays.copyOfRange(this.sources, this.reverseOffsets[id], this.reverseOffsets[id + 1]);
+  }
+
+  /**
+   * Returns whether the class directly depends on a class matching the predicate. Answers the same
+   * as testing the predicate on the target class of each of
+   * {@link JavaClass#getDirectDependenciesFromSelf()}.
+   *
+   * @param javaClass the class of the graph
+   * @param predicate the predicate for the target classes
+   * @return {@code true} if a target class of the class matches the predicate
+   */
+  public boolean dependsOn(JavaClass javaClass, DescribedPredicate<? super JavaClass> predicate) {
+    int id = id(javaClass);
+
+    if (id < 0) {
+      return javaClass.getDirectDependenciesFromSelf().stream()
+          .anyMatch(dependency -> predicate.test(dependency.getTargetClass()));
+    }
+
+    return dependsOn(id, matching(predicate));
+  }
+
+  /**
+   * Returns whether the class with the given id directly depends on a class in the set.
+   *
+   * @param id  the id of the class
+   * @param ids the ids of the classes depended on
+   * @return {@code true} if a target class of the class is in the set
+   */
+  public boolean dependsOn(int id, BitSet ids) {
+    for (int index = this.offsets[id]; index < this.offsets[id + 1]; index++) {
+      if (ids.get(this.targets[index])) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the ids of the classes that reach a class matching the predicate through at most the
+   * given number of dependencies. The set is computed once per predicate and number by a
+   * breadth-first search from the matching classes along the reversed dependencies, and is shared
+   * by all callers, so it must not be modified.
+   *
+   * @param predicate the predicate for the classes reached
+   * @param maxSteps  the maximum number of dependencies between a class and a matching class
+   * @return the ids of the classes reaching a matching class
+   */
+  public BitSet reaching(DescribedPredicate<? super JavaClass> predicate, int maxSteps) {
+    return computeIfAbsent(this.reaches, new Reach(predicate, maxSteps), key -> {
+      BitSet reaching = new BitSet(this.classes.length);
+      int[] frontier = matching(predicate).stream().toArray();
+      int[] next = new int[this.classes.length];
+
+      for (int step = 0; step < maxSteps && frontier.length > 0; step++) {
+        int size = 0;
+
+        for (int id : frontier) {
+          for (int index = this.reverseOffsets[id]; index < this.reverseOffsets[id + 1]; index++) {
+            int source = this.sources[index];
+
+            if (!reaching.get(source)) {
+              reaching.set(source);
+              next[size++] = source;
+            }
+          }
+        }
+
+        frontier = Arrays.copyOf(next, size);
+      }
+
+      return reaching;
+    });
+  }
+
+  /**
+   * Returns a shortest path of dependencies from the class with the given id to a class in the
+   * set, or an empty array if there is none within the given number of dependencies.
+   *
+   * @param id       the id of the class to start from
+   * @param ids      the ids of the classes to reach
+   * @param maxSteps the maximum number of dependencies of the path
+   * @return the ids of the classes along the path, starting with the given class
+   */
+  public int[] path(int id, BitSet ids, int maxSteps) {
+    int[] previous = new int[this.classes.length];
+    int[] steps = new int[this.classes.length];
+    int[] queue = new int[this.classes.length];
+    int head = 0;
+    int tail = 0;
+    Arrays.fill(previous, -1);
+    previous[id] = id;
+    queue[tail++] = id;
+
+    while (head < tail) {
+      int current = queue[head++];
+
+      if (steps[current] == maxSteps) {
+        continue;
+      }
+
+      for (int index = this.offsets[current]; index < this.offsets[current + 1]; index++) {
+        int target = this.targets[index];
+
+        if (ids.get(target)) {
+          int[] path = new int[steps[current] + 2];
+          path[path.length - 1] = target;
+
+          for (int position = path.length - 2, node = current; position >= 0;
+              node = previous[node]) {
+            path[position--] = node;
+          }
+
+          return path;
+        }
+
+        if (previous[target] < 0) {
+          previous[target] = current;
+          steps[target] = steps[current] + 1;
+          queue[tail++] = target;
+        }
+      }
+    }
+
+    return new int[0];
+  }
+
+  /**
+   * Returns the ids of the classes matching the predicate, testing each class once per predicate.
+   * The set is shared by all callers and must not be modified.
+   *
+   * @param predicate the predicate for the classes
+   * @return the ids of the matching classes
+   */
+  public BitSet matching(DescribedPredicate<? super JavaClass> predicate) {
+    return computeIfAbsent(this.matches, predicate, key -> {
+      BitSet matching = new BitSet(this.classes.length);
+
+      for (int id = 0; id < this.classes.length; id++) {
+        if (predicate.test(this.classes[id])) {
+          matching.set(id);
+        }
+      }
+
+      return matching;
+    });
+  }
+
+  /**
+   * Returns the set cached under the key, computing it if absent. The cache is cleared once it
+   * holds {@value #MAX_CACHED_PREDICATES} sets, so predicates that are never used again do not
+   * accumulate.
+   */
+  private static <K> BitSet computeIfAbsent(Map<K, BitSet> cache, K key,
+      Function<K, BitSet> function) {
+    BitSet value = cache.get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    if (cache.size() >= MAX_CACHED_PREDICATES) {
+      cache.clear();
+    }
+
+    return cache.computeIfAbsent(key, function);
+  }
+
+  private record Reach(DescribedPredicate<?> predicate, int maxSteps) {
+  }
+}
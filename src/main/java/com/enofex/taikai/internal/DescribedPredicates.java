@@ -1,5 +1,6 @@
 package com.enofex.taikai.internal;
 
+import static com.enofex.taikai.internal.AnnotationIndex.isMetaAnnotatedWith;
 import static com.enofex.taikai.internal.Modifiers.isClassFinal;
 
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -30,7 +31,7 @@ public final class DescribedPredicates {
     return new DescribedPredicate<>("annotated with %s".formatted(annotation)) {
       @Override
       public boolean test(CanBeAnnotated canBeAnnotated) {
-        return isMetaAnnotated ? canBeAnnotated.isMetaAnnotatedWith(annotation)
+        return isMetaAnnotated ? isMetaAnnotatedWith(canBeAnnotated, annotation)
             : canBeAnnotated.isAnnotatedWith(annotation);
       }
     };
@@ -49,7 +50,7 @@ public final class DescribedPredicates {
       @Override
       public boolean test(CanBeAnnotated canBeAnnotated) {
         return annotations.stream().allMatch(annotation ->
-            isMetaAnnotated ? canBeAnnotated.isMetaAnnotatedWith(annotation)
+            isMetaAnnotated ? isMetaAnnotatedWith(canBeAnnotated, annotation)
                 : canBeAnnotated.isAnnotatedWith(annotation));
       }
     };
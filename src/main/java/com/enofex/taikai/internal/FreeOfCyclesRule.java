@@ -0,0 +1,429 @@
+package com.enofex.taikai.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Internal rule that the slices of a namespace are free of cycles.
+ *
+ * <p>
+ * A slice is the package of a class cut off at a given depth below the namespace, so with a
+ * depth of {@code 1}, {@code com.company.project.order.api.OrderController} belongs to the slice
+ * {@code order}. Classes with fewer packages below the namespace belong to no slice. With a depth
+ * of {@code 0}, every top level class together with its nested classes is a slice.
+ *
+ * <p>
+ * The dependencies between slices are derived from the {@link DependencyGraph} of the import
+ * and stored as sorted {@code int} arrays. The strongly connected components of that graph are
+ * found with Tarjan's algorithm, and for each component the shortest cycle through its first slice
+ * is reported, together with one class dependency per step. Each slice and each dependency is
+ * visited a constant number of times, unlike enumerating the individual cycles, whose number can
+ * grow exponentially.
+ *
+ * <p>
+ * This class is intended for internal use only and is not part of the public API. Developers
+ * should not rely on this class for any public API usage.
+ */
+public final class FreeOfCyclesRule implements ArchRule {
+
+  private final String namespace;
+  private final int sliceDepth;
+  private final String description;
+  private final @Nullable Boolean allowEmptyShould;
+
+  private FreeOfCyclesRule(String namespace, int sliceDepth, String description,
+      @Nullable Boolean allowEmptyShould) {
+    this.namespace = namespace;
+    this.sliceDepth = sliceDepth;
+    this.description = description;
+    this.allowEmptyShould = allowEmptyShould;
+  }
+
+  /**
+   * Creates a rule that the slices of the namespace at the given depth are free of cycles.
+   *
+   * @param namespace  the namespace the slices are part of
+   * @param sliceDepth the number of packages below the namespace that make up a slice, or
+   *                   {@code 0} for classes
+   * @return the rule
+   * @throws IllegalArgumentException if the slice depth is negative
+   */
+  public static FreeOfCyclesRule slicesOf(String namespace, int sliceDepth) {
+    requireNonNull(namespace);
+
+    if (sliceDepth < 0) {
+      throw new IllegalArgumentException("Slice depth must not be negative");
+    }
+
+    return new FreeOfCyclesRule(namespace, sliceDepth,
+        "slices of %s at depth %d should be free of cycles".formatted(namespace, sliceDepth),
+        null);
+  }
+
+  @Override
+  public void check(JavaClasses classes) {
+    Assertions.assertNoViolation(evaluate(classes));
+  }
+
+  @Override
+  public ArchRule because(String reason) {
+    return new FreeOfCyclesRule(this.namespace, this.sliceDepth,
+        "%s, because %s".formatted(this.description, reason), this.allowEmptyShould);
+  }
+
+  @Override
+  public ArchRule allowEmptyShould(boolean allowEmptyShould) {
+    return new FreeOfCyclesRule(this.namespace, this.sliceDepth, this.description,
+        allowEmptyShould);
+  }
+
+  @Override
+  public ArchRule as(String newDescription) {
+    return new FreeOfCyclesRule(this.namespace, this.sliceDepth, newDescription,
+        this.allowEmptyShould);
+  }
+
+  @Override
+  public String getDescription() {
+    return this.description;
+  }
+
+  @Override
+  public EvaluationResult evaluate(JavaClasses classes) {
+    List<JavaClass> sliced = new ArrayList<>();
+    List<String> sliceNames = new ArrayList<>();
+
+    for (JavaClass javaClass : classes) {
+      String slice = slice(javaClass.getName());
+
+      if (slice != null) {
+        sliced.add(javaClass);
+        sliceNames.add(slice);
+      }
+    }
+
+    if (sliced.isEmpty()) {
+      if (!isEmptyShouldAllowed()) {
+        // Worded like the error of ArchUnit rules, so both read alike in reports.
+        throw new AssertionError(("Rule '%s' failed to check any classes. This means either that"
+            + " no classes have been passed to the rule at all, or that no classes passed to the"
+            + " rule matched the `that()` clause. To allow rules being evaluated without checking"
+            + " any classes you can either use `ArchRule.allowEmptyShould(true)` on a single rule"
+            + " or set the configuration property `archRule.failOnEmptyShould = false` to change"
+            + " the behavior globally.").formatted(this.description));
+      }
+
+      return new EvaluationResult(this, Priority.MEDIUM);
+    }
+
+    ConditionEvents events = ConditionEvents.Factory.create();
+    new SliceGraph(DependencyGraph.of(sliced.get(0)), sliced, sliceNames).reportCycles(events);
+
+    return new EvaluationResult(this, events, Priority.MEDIUM);
+  }
+
+  private boolean isEmptyShouldAllowed() {
+    return this.allowEmptyShould != null
+        ? this.allowEmptyShould
+        : !Boolean.parseBoolean(ArchConfiguration.get()
+            .getPropertyOrDefault("archRule.failOnEmptyShould", "true"));
+  }
+
+  /**
+   * Returns the slice of the class, or {@code null} if the class belongs to no slice.
+   */
+  private @Nullable String slice(String className) {
+    String relative;
+
+    if (this.namespace.isEmpty()) {
+      relative = className;
+    } else if (className.startsWith(this.namespace + ".")) {
+      relative = className.substring(this.namespace.length() + 1);
+    } else {
+      return null;
+    }
+
+    if (this.sliceDepth == 0) {
+      int nested = relative.indexOf('$');
+      return nested < 0 ? relative : relative.substring(0, nested);
+    }
+
+    int end = -1;
+
+    for (int i = 0; i < this.sliceDepth; i++) {
+      end = relative.indexOf('.', end + 1);
+
+      if (end < 0) {
+        return null;
+      }
+    }
+
+    return relative.substring(0, end);
+  }
+
+  @Override
+  public String toString() {
+    return this.description;
+  }
+
+  /**
+   * The dependencies between slices, with the slices numbered in the order of their names and the
+   * dependencies stored in compressed sparse row form.
+   */
+  private static final class SliceGraph {
+
+    private final String[] names;
+    private final String[] classNames;
+    private final int[] offsets;
+    private final int[] targets;
+    private final long[] examples;
+
+    private SliceGraph(DependencyGraph graph, List<JavaClass> classes, List<String> sliceNames) {
+      this.names = new TreeSet<>(sliceNames).toArray(new String[0]);
+
+      // Classes are ranked by name, so the example dependency of each slice dependency is the
+      // first in name order and the report is the same on every run.
+      Integer[] order = new Integer[classes.size()];
+      Arrays.setAll(order, i -> i);
+      Arrays.sort(order, (a, b) -> classes.get(a).getName().compareTo(classes.get(b).getName()));
+
+      this.classNames = new String[classes.size()];
+      int[] sliceOfNode = new int[graph.size()];
+      int[] rankOfNode = new int[graph.size()];
+      Arrays.fill(sliceOfNode, -1);
+
+      for (int rank = 0; rank < order.length; rank++) {
+        int node = graph.id(classes.get(order[rank]));
+        this.classNames[rank] = classes.get(order[rank]).getName();
+        sliceOfNode[node] = Arrays.binarySearch(this.names, sliceNames.get(order[rank]));
+        rankOfNode[node] = rank;
+      }
+
+      long[] edges = new long[16];
+      long[] pairs = new long[16];
+      int count = 0;
+
+      for (JavaClass javaClass : classes) {
+        int origin = graph.id(javaClass);
+
+        for (int target : graph.targets(origin)) {
+          int from = sliceOfNode[origin];
+          int to = sliceOfNode[target];
+
+          if (to >= 0 && to != from) {
+            if (count == edges.length) {
+              edges = Arrays.copyOf(edges, count * 2);
+              pairs = Arrays.copyOf(pairs, count * 2);
+            }
+
+            edges[count] = (long) from << 32 | to;
+            pairs[count++] = (long) rankOfNode[origin] << 32 | rankOfNode[target];
+          }
+        }
+      }
+
+      long[] distinct = Arrays.stream(edges, 0, count).sorted().distinct().toArray();
+      this.offsets = new int[this.names.length + 1];
+      this.targets = new int[distinct.length];
+      this.examples = new long[distinct.length];
+      Arrays.fill(this.examples, Long.MAX_VALUE);
+
+      for (int i = 0; i < distinct.length; i++) {
+        this.offsets[(int) (distinct[i] >>> 32) + 1]++;
+        this.targets[i] = (int) distinct[i];
+      }
+
+      for (int slice = 0; slice < this.names.length; slice++) {
+        this.offsets[slice + 1] += this.offsets[slice];
+      }
+
+      for (int i = 0; i < count; i++) {
+        int edge = Arrays.binarySearch(distinct, edges[i]);
+        this.examples[edge] = Math.min(this.examples[edge], pairs[i]);
+      }
+    }
+
+    /**
+     * Adds a violation for every strongly connected component of more than one slice.
+     */
+    private void reportCycles(ConditionEvents events) {
+      int[] component = components();
+      int[] sizes = new int[this.names.length];
+      int[] parent = new int[this.names.length];
+      int[] queue = new int[this.names.length];
+      Arrays.fill(parent, -1);
+
+      for (int slice = 0; slice < this.names.length; slice++) {
+        sizes[component[slice]]++;
+      }
+
+      boolean[] reported = new boolean[this.names.length];
+
+      // Slices are numbered by name, so the first slice of a component is its first by name.
+      for (int slice = 0; slice < this.names.length; slice++) {
+        int slices = sizes[component[slice]];
+
+        if (slices > 1 && !reported[component[slice]]) {
+          reported[component[slice]] = true;
+          events.add(SimpleConditionEvent.violated(this.names[slice],
+              describe(shortestCycle(slice, component, parent, queue), slices)));
+        }
+      }
+    }
+
+    /**
+     * Returns the strongly connected component of every slice, found with an iterative version of
+     * Tarjan's algorithm.
+     */
+    private int[] components() {
+      int size = this.names.length;
+      int[] index = new int[size];
+      int[] low = new int[size];
+      int[] component = new int[size];
+      int[] next = new int[size];
+      int[] stack = new int[size];
+      int[] path = new int[size];
+      boolean[] onStack = new boolean[size];
+      int nextIndex = 0;
+      int components = 0;
+      int stackSize = 0;
+      Arrays.fill(index, -1);
+
+      for (int root = 0; root < size; root++) {
+        if (index[root] >= 0) {
+          continue;
+        }
+
+        int depth = 0;
+        path[depth++] = root;
+        index[root] = low[root] = nextIndex++;
+        next[root] = this.offsets[root];
+        stack[stackSize++] = root;
+        onStack[root] = true;
+
+        while (depth > 0) {
+          int slice = path[depth - 1];
+
+          if (next[slice] < this.offsets[slice + 1]) {
+            int target = this.targets[next[slice]++];
+
+            if (index[target] < 0) {
+              index[target] = low[target] = nextIndex++;
+              next[target] = this.offsets[target];
+              stack[stackSize++] = target;
+              onStack[target] = true;
+              path[depth++] = target;
+            } else if (onStack[target]) {
+              low[slice] = Math.min(low[slice], index[target]);
+            }
+            continue;
+          }
+
+          depth--;
+
+          if (low[slice] == index[slice]) {
+            int member;
+
+            do {
+              member = stack[--stackSize];
+              onStack[member] = false;
+              component[member] = components;
+            } while (member != slice);
+
+            components++;
+          }
+
+          if (depth > 0) {
+            int caller = path[depth - 1];
+            low[caller] = Math.min(low[caller], low[slice]);
+          }
+        }
+      }
+
+      return component;
+    }
+
+    /**
+     * Returns the slices of the shortest cycle through the given slice, found by a breadth-first
+     * search within its component, starting and ending with the slice.
+     */
+    private int[] shortestCycle(int start, int[] component, int[] parent, int[] queue) {
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = start;
+      parent[start] = start;
+
+      while (head < tail) {
+        int slice = queue[head++];
+
+        for (int edge = this.offsets[slice]; edge < this.offsets[slice + 1]; edge++) {
+          int target = this.targets[edge];
+
+          if (target == start) {
+            int length = 1;
+
+            for (int step = slice; step != start; step = parent[step]) {
+              length++;
+            }
+
+            int[] cycle = new int[length + 1];
+            cycle[0] = start;
+            cycle[length] = start;
+
+            for (int step = slice, position = length - 1; step != start; step = parent[step]) {
+              cycle[position--] = step;
+            }
+
+            return cycle;
+          }
+
+          if (component[target] == component[start] && parent[target] < 0) {
+            parent[target] = slice;
+            queue[tail++] = target;
+          }
+        }
+      }
+
+      throw new IllegalStateException("No cycle through slice " + this.names[start]);
+    }
+
+    private String describe(int[] cycle, int slices) {
+      StringBuilder description = new StringBuilder("Cycle detected: ");
+
+      for (int i = 0; i < cycle.length; i++) {
+        description.append(i > 0 ? " -> " : "").append("Slice ").append(this.names[cycle[i]]);
+      }
+
+      description.append(" (%d of %d cyclically dependent slices)"
+          .formatted(cycle.length - 1, slices));
+
+      for (int i = 0; i + 1 < cycle.length; i++) {
+        long example = this.examples[edge(cycle[i], cycle[i + 1])];
+
+        description.append(System.lineSeparator())
+            .append("    Class <").append(this.classNames[(int) (example >>> 32)])
+            .append("> depends on class <").append(this.classNames[(int) example])
+            .append('>');
+      }
+
+      return description.toString();
+    }
+
+    private int edge(int from, int to) {
+      return Arrays.binarySearch(this.targets, this.offsets[from], this.offsets[from + 1], to);
+    }
+  }
+}
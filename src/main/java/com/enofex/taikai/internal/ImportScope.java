@@ -0,0 +1,144 @@
+package com.enofex.taikai.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaPackage;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Internal store of the indexes built for the classes of one import, such as the
+ * {@link DependencyGraph} of the import.
+ * <p>
+ * Indexes reference the imported classes, so they must not be kept in a static map keyed by
+ * those classes. Instead, the scope of an import is owned by whoever holds the import, for example
+ * the cache of {@link com.enofex.taikai.Namespace}, and lives exactly as long as its owner keeps
+ * it. Scopes are found from any class of the import through the root package of the import, and
+ * the registry references them weakly. A scope of an import without an owner, such as classes
+ * imported directly with ArchUnit, is referenced softly instead, so it is rebuilt only after
+ * memory pressure.
+ * <p>
+ * An import does not change once loaded, so the indexes of a scope are read without locking.
+ * <p>
+ * This class is intended for internal use only and is not part of the public API. Developers should
+ * not rely on this class for any public API usage.
+ */
+public final class ImportScope {
+
+  private static final Map<JavaPackage, Reference<ImportScope>> SCOPES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private static volatile Reference<ImportScope> last = new WeakReference<>(null);
+
+  private final JavaPackage root;
+  private final Map<Object, Object> values;
+
+  private ImportScope(JavaPackage root) {
+    this.root = root;
+    this.values = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the scope of the import of the classes, making the caller its owner. The scope is only
+   * referenced weakly by the registry, so the caller has to keep it for as long as its indexes
+   * should be reused, typically together with the imported classes.
+   *
+   * @param javaClasses the imported classes
+   * @return the scope of the import, or {@code null} if no classes were imported
+   */
+  public static @Nullable ImportScope register(JavaClasses javaClasses) {
+    if (javaClasses.isEmpty()) {
+      return null;
+    }
+
+    JavaPackage root = root(javaClasses.iterator().next());
+
+    synchronized (SCOPES) {
+      Reference<ImportScope> reference = SCOPES.get(root);
+      ImportScope scope = reference != null ? reference.get() : null;
+
+      if (scope == null) {
+        scope = new ImportScope(root);
+      }
+
+      if (!(reference instanceof WeakReference<?>) || reference.get() == null) {
+        SCOPES.put(root, new WeakReference<>(scope));
+      }
+
+      return scope;
+    }
+  }
+
+  /**
+   * Returns the scope of the import the class belongs to, creating one held softly if the import
+   * has no owner.
+   *
+   * @param javaClass any class of the import
+   * @return the scope of the import
+   */
+  public static ImportScope of(JavaClass javaClass) {
+    JavaPackage root = root(javaClass);
+    ImportScope scope = last.get();
+
+    if (scope != null && scope.root == root) {
+      return scope;
+    }
+
+    synchronized (SCOPES) {
+      Reference<ImportScope> reference = SCOPES.get(root);
+      scope = reference != null ? reference.get() : null;
+
+      if (scope == null) {
+        scope = new ImportScope(root);
+        SCOPES.put(root, new SoftReference<>(scope));
+      }
+    }
+
+    last = new WeakReference<>(scope);
+
+    return scope;
+  }
+
+  private static JavaPackage root(JavaClass javaClass) {
+    JavaPackage root = javaClass.getPackage();
+
+    while (root.getParent().isPresent()) {
+      root = root.getParent().get();
+    }
+
+    return root;
+  }
+
+  /**
+   * Returns the root package of the import, which contains all imported classes and the classes
+   * they depend on.
+   */
+  public JavaPackage root() {
+    return this.root;
+  }
+
+  /**
+   * Returns the value stored under the key, computing it from the root package of the import on
+   * first use. The computation must not access other values of this scope.
+   *
+   * @param key     the key of the value, usually a constant of the class owning the value
+   * @param factory the function computing the value
+   * @param <T>     the type of the value
+   * @return the value stored under the key
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Function<JavaPackage, T> factory) {
+    Object value = this.values.get(key);
+
+    return value != null
+        ? (T) value
+        : (T) this.values.computeIfAbsent(key, k -> factory.apply(this.root));
+  }
+}
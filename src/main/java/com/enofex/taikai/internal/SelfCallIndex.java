@@ -0,0 +1,142 @@
+package com.enofex.taikai.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal index of the calls of a class to methods of the same class.
+ * <p>
+ * Rules on self invocations would otherwise walk all method calls of a class, resolve the target
+ * of every call and test it again for every rule. This index keeps only the calls whose target is
+ * owned by the class and resolves, together with the distinct called methods, once per class. A
+ * rule tests each called method once and only looks at the calls if one of them matched. The
+ * indexes reference the calls and thus the imported classes, so they are kept in the
+ * {@link ImportScope} of the import and dropped together with it.
+ * <p>
+ * This class is intended for internal use only and is not part of the public API. Developers should
+ * not rely on this class for any public API usage.
+ */
+public final class SelfCallIndex {
+
+  private static final SelfCallIndex EMPTY = new SelfCallIndex(new JavaMethodCall[0],
+      new int[0], List.of());
+  private static final Object INDEXES = new Object();
+  private static final Comparator<JavaMethodCall> CALL_ORDER =
+      Comparator.comparingInt(JavaMethodCall::getLineNumber)
+          .thenComparing(call -> call.getOrigin().getFullName());
+
+  private final JavaMethodCall[] calls;
+  private final int[] targetIds;
+  private final List<JavaMethod> targets;
+
+  private SelfCallIndex(JavaMethodCall[] calls, int[] targetIds, List<JavaMethod> targets) {
+    this.calls = calls;
+    this.targetIds = targetIds;
+    this.targets = targets;
+  }
+
+  /**
+   * Returns the index of the class, building it on first use.
+   *
+   * @param javaClass the class whose calls to its own methods are indexed
+   * @return the index of the class
+   */
+  public static SelfCallIndex of(JavaClass javaClass) {
+    Map<JavaClass, SelfCallIndex> indexes = ImportScope.of(javaClass)
+        .get(INDEXES, root -> new ConcurrentHashMap<>());
+    SelfCallIndex index = indexes.get(javaClass);
+
+    return index != null ? index : indexes.computeIfAbsent(javaClass, SelfCallIndex::build);
+  }
+
+  private static SelfCallIndex build(JavaClass javaClass) {
+    List<JavaMethodCall> calls = new ArrayList<>();
+    int[] targetIds = new int[0];
+    List<JavaMethod> targets = new ArrayList<>();
+    Map<JavaMethod, Integer> ids = new IdentityHashMap<>();
+
+    for (JavaMethodCall call : selfCalls(javaClass)) {
+      Optional<JavaMethod> target = call.getTarget().resolveMember();
+
+      if (target.isEmpty()) {
+        continue;
+      }
+
+      Integer id = ids.get(target.get());
+
+      if (id == null) {
+        id = targets.size();
+        ids.put(target.get(), id);
+        targets.add(target.get());
+      }
+
+      if (targetIds.length == calls.size()) {
+        targetIds = Arrays.copyOf(targetIds, Math.max(8, targetIds.length * 2));
+      }
+
+      targetIds[calls.size()] = id;
+      calls.add(call);
+    }
+
+    return calls.isEmpty()
+        ? EMPTY
+        : new SelfCallIndex(calls.toArray(new JavaMethodCall[0]),
+            Arrays.copyOf(targetIds, calls.size()), List.copyOf(targets));
+  }
+
+  /**
+   * Returns the calls of the class to its own methods ordered by line number and calling method,
+   * as ArchUnit returns the calls in no particular order.
+   */
+  private static List<JavaMethodCall> selfCalls(JavaClass javaClass) {
+    return javaClass.getMethodCallsFromSelf().stream()
+        .filter(call -> call.getTargetOwner().equals(javaClass))
+        .sorted(CALL_ORDER)
+        .toList();
+  }
+
+  /**
+   * Returns whether the class calls none of its own methods.
+   */
+  public boolean isEmpty() {
+    return this.calls.length == 0;
+  }
+
+  /**
+   * Returns the distinct methods the class calls on itself, in the order of their first call. The
+   * position of a method in the list is its id.
+   */
+  public List<JavaMethod> targets() {
+    return this.targets;
+  }
+
+  /**
+   * Returns the number of calls of the class to its own methods.
+   */
+  public int size() {
+    return this.calls.length;
+  }
+
+  /**
+   * Returns the call with the given index. Calls are ordered by line number and calling method.
+   */
+  public JavaMethodCall call(int index) {
+    return this.calls[index];
+  }
+
+  /**
+   * Returns the id of the method the call with the given index resolves to.
+   */
+  public int target(int index) {
+    return this.targetIds[index];
+  }
+}
@@ -1,15 +1,18 @@
 package com.enofex.taikai.java;
 
 import static com.enofex.taikai.TaikaiRule.Configuration.defaultConfiguration;
+import static com.enofex.taikai.internal.ArchConditions.dependOnClassesThat;
+import static com.enofex.taikai.internal.ArchConditions.notDependOnClassesThat;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.nameMatching;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
-import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
-import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
 
 import com.enofex.taikai.TaikaiException;
 import com.enofex.taikai.TaikaiRule;
 import com.enofex.taikai.TaikaiRule.Configuration;
 import com.enofex.taikai.configures.AbstractConfigurer;
 import com.enofex.taikai.configures.ConfigurerContext;
+import com.enofex.taikai.internal.FreeOfCyclesRule;
 import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 
@@ -60,9 +63,8 @@ public class ImportsConfigurer extends AbstractConfigurer {
    * @see #shouldNotImport(String)
    */
   public ImportsConfigurer shouldNotImport(String packageIdentifier, Configuration configuration) {
-    return addRule(TaikaiRule.of(noClasses()
-            .should().dependOnClassesThat()
-            .resideInAPackage(packageIdentifier)
+    return addRule(TaikaiRule.of(classes()
+            .should(notDependOnClassesThat(resideInAPackage(packageIdentifier)))
             .as("No classes should have imports from package %s".formatted(packageIdentifier)),
         configuration));
   }
@@ -92,10 +94,9 @@ public class ImportsConfigurer extends AbstractConfigurer {
    */
   public ImportsConfigurer shouldNotImport(String regex, String notImportClassesRegex,
       Configuration configuration) {
-    return addRule(TaikaiRule.of(noClasses()
+    return addRule(TaikaiRule.of(classes()
         .that().haveNameMatching(regex)
-        .should().dependOnClassesThat()
-        .haveNameMatching(notImportClassesRegex)
+        .should(notDependOnClassesThat(nameMatching(notImportClassesRegex)))
         .as("No classes that have name matching %s should have imports %s".formatted(
             regex, notImportClassesRegex)), configuration));
   }
@@ -126,8 +127,7 @@ public class ImportsConfigurer extends AbstractConfigurer {
       Configuration configuration) {
     return addRule(TaikaiRule.of(classes()
         .that().haveNameMatching(regex)
-        .should().dependOnClassesThat()
-        .haveNameMatching(importClassesRegex)
+        .should(dependOnClassesThat(nameMatching(importClassesRegex)))
         .as("Classes that have name matching %s should have imports %s".formatted(
             regex, importClassesRegex)), configuration));
   }
@@ -152,6 +152,39 @@ public class ImportsConfigurer extends AbstractConfigurer {
    * @see #shouldHaveNoCycles()
    */
   public ImportsConfigurer shouldHaveNoCycles(@Nullable Configuration configuration) {
+    return shouldHaveNoCycles(1, configuration);
+  }
+
+  /**
+   * Ensures that the project's namespace has no cyclic dependencies between slices of the given
+   * depth. A slice consists of the classes sharing the first {@code sliceDepth} packages below the
+   * namespace, so a depth of {@code 1} compares the top level packages and a depth of {@code 0}
+   * compares the top level classes.
+   *
+   * @param sliceDepth the number of packages below the namespace forming a slice
+   * @return the updated {@link ImportsConfigurer} instance
+   * @see #shouldHaveNoCycles(int, Configuration)
+   */
+  public ImportsConfigurer shouldHaveNoCycles(int sliceDepth) {
+    return shouldHaveNoCycles(sliceDepth, null);
+  }
+
+  /**
+   * Ensures that the project's namespace has no cyclic dependencies between slices of the given
+   * depth, using the specified {@link Configuration}.
+   *
+   * <p>Each group of cyclically dependent slices is reported once, with the shortest cycle
+   * through its first slice and a class dependency for every step of that cycle.</p>
+   *
+   * @param sliceDepth    the number of packages below the namespace forming a slice
+   * @param configuration the rule configuration
+   * @return the updated {@link ImportsConfigurer} instance
+   * @throws IllegalArgumentException if the slice depth is negative
+   * @throws TaikaiException          if the namespace is not set
+   * @see #shouldHaveNoCycles(int)
+   */
+  public ImportsConfigurer shouldHaveNoCycles(int sliceDepth,
+      @Nullable Configuration configuration) {
     String namespace = (configuration != null && configuration.namespace() != null)
         ? configuration.namespace()
         : Optional.ofNullable(configurerContext())
@@ -162,9 +195,14 @@ public class ImportsConfigurer extends AbstractConfigurer {
       throw new TaikaiException("Namespace is not set");
     }
 
-    return addRule(TaikaiRule.of(slices()
-        .matching(namespace + ".(*)..")
-        .should().beFreeOfCycles()
-        .as("Namespace %s should be free of cycles".formatted(namespace)), configuration));
+    String description = switch (sliceDepth) {
+      case 0 -> "Classes of namespace %s should be free of cycles".formatted(namespace);
+      case 1 -> "Namespace %s should be free of cycles".formatted(namespace);
+      default -> "Namespace %s should be free of cycles between packages of depth %d"
+          .formatted(namespace, sliceDepth);
+    };
+
+    return addRule(TaikaiRule.of(FreeOfCyclesRule.slicesOf(namespace, sliceDepth)
+        .as(description), configuration));
   }
 }
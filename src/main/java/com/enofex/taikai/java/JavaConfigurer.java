@@ -5,6 +5,7 @@ import static com.enofex.taikai.internal.ArchConditions.hasClassModifiers;
 import static com.enofex.taikai.internal.ArchConditions.hasFieldModifiers;
 import static com.enofex.taikai.internal.ArchConditions.hasMethodsModifiers;
 import static com.enofex.taikai.internal.ArchConditions.notBePublicUnlessStatic;
+import static com.enofex.taikai.internal.ArchConditions.notDependOnClassesThat;
 import static com.enofex.taikai.internal.ArchConditions.notHasClassModifiers;
 import static com.enofex.taikai.internal.ArchConditions.notHasFieldModifiers;
 import static com.enofex.taikai.internal.ArchConditions.notHasMethodModifiers;
@@ -19,12 +20,12 @@ import static com.enofex.taikai.java.SerialVersionUID.beStaticFinalLong;
 import static com.enofex.taikai.java.SerialVersionUID.namedSerialVersionUID;
 import static com.enofex.taikai.java.UtilityClasses.havePrivateConstructor;
 import static com.enofex.taikai.java.UtilityClasses.utilityClasses;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.assignableTo;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.be;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.beFinal;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.fields;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
-import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 
 import com.enofex.taikai.TaikaiRule;
 import com.enofex.taikai.TaikaiRule.Configuration;
@@ -1817,15 +1818,15 @@ public final class JavaConfigurer extends AbstractConfigurer implements Disablea
   public JavaConfigurer noUsageOf(String typeName, @Nullable String packageIdentifier,
       Configuration configuration) {
     if (packageIdentifier != null) {
-      return addRule(TaikaiRule.of(noClasses()
+      return addRule(TaikaiRule.of(classes()
           .that().resideInAPackage(packageIdentifier)
-          .should().dependOnClassesThat().areAssignableTo(typeName)
+          .should(notDependOnClassesThat(assignableTo(typeName)))
           .as("Classes %s reside in %s should not be used".formatted(
               typeName, packageIdentifier)), configuration));
     }
 
-    return addRule(TaikaiRule.of(noClasses()
-        .should().dependOnClassesThat().areAssignableTo(typeName)
+    return addRule(TaikaiRule.of(classes()
+        .should(notDependOnClassesThat(assignableTo(typeName)))
         .as("Classes %s should not be used".formatted(typeName)), configuration));
   }
 
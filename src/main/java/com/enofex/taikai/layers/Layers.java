@@ -0,0 +1,134 @@
+package com.enofex.taikai.layers;
+
+import static java.util.Objects.requireNonNull;
+
+import com.enofex.taikai.internal.DependencyGraph;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.conditions.ArchConditions;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * The layers declared on a {@link LayersConfigurer}.
+ *
+ * <p>The classes of a layer are computed once per import as a set of ids of its
+ * {@link DependencyGraph}, so the package patterns or annotations of a layer are tested once per
+ * class, however many rules refer to it. A rule combines the sets of its layers once into the set
+ * of classes it forbids, so checking a dependency is a single bit lookup.</p>
+ */
+final class Layers {
+
+  private final Map<String, DescribedPredicate<JavaClass>> layers = new LinkedHashMap<>();
+
+  void add(String name, DescribedPredicate<JavaClass> predicate) {
+    requireNonNull(name);
+    requireNonNull(predicate);
+
+    if (name.isBlank()) {
+      throw new IllegalArgumentException("Layer name must not be blank");
+    }
+
+    if (this.layers.putIfAbsent(name, predicate) != null) {
+      throw new IllegalArgumentException("Layer %s is already declared".formatted(name));
+    }
+  }
+
+  void requireDeclared(Collection<String> names) {
+    for (String name : names) {
+      if (!this.layers.containsKey(requireNonNull(name))) {
+        throw new IllegalArgumentException("Layer %s is not declared".formatted(name));
+      }
+    }
+  }
+
+  Map<String, DescribedPredicate<JavaClass>> asMap() {
+    return Collections.unmodifiableMap(this.layers);
+  }
+
+  /**
+   * Returns a predicate for the classes of any of the given layers.
+   */
+  DescribedPredicate<JavaClass> in(Collection<String> names) {
+    return DescribedPredicate.describe("in layers %s".formatted(names),
+        javaClass -> isIn(javaClass, names));
+  }
+
+  /**
+   * Returns a predicate for the classes of any declared layer other than the given layers. Layers
+   * declared after the rule are taken into account as well.
+   */
+  DescribedPredicate<JavaClass> inOtherThan(Collection<String> names) {
+    return DescribedPredicate.describe("in layers other than %s".formatted(names),
+        javaClass -> isIn(javaClass, this.layers.keySet()) && !isIn(javaClass, names));
+  }
+
+  private boolean isIn(JavaClass javaClass, Collection<String> names) {
+    DependencyGraph graph = DependencyGraph.of(javaClass);
+    int id = graph.id(javaClass);
+
+    for (String name : names) {
+      DescribedPredicate<JavaClass> layer = this.layers.get(name);
+
+      if (id >= 0 ? graph.matching(layer).get(id) : layer.test(javaClass)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the ids of the classes of any of the given layers.
+   */
+  BitSet ids(DependencyGraph graph, Collection<String> names) {
+    BitSet ids = new BitSet(graph.size());
+
+    for (String name : names) {
+      ids.or(graph.matching(this.layers.get(name)));
+    }
+
+    return ids;
+  }
+
+  /**
+   * Returns the ids of the classes of any declared layer other than the given layers.
+   */
+  BitSet idsOtherThan(DependencyGraph graph, Collection<String> names) {
+    BitSet ids = ids(graph, this.layers.keySet());
+    ids.andNot(ids(graph, names));
+
+    return ids;
+  }
+
+  /**
+   * Creates a condition that a class does not depend on the classes the function computes for the
+   * graph of its import. The predicate must match the same classes; it only describes the
+   * condition and reports the dependencies of violating classes.
+   */
+  static ArchCondition<JavaClass> notDependOnClassesIn(DescribedPredicate<JavaClass> predicate,
+      Function<DependencyGraph, BitSet> classes) {
+    ArchCondition<JavaClass> condition = ArchConditions.not(
+        ArchConditions.dependOnClassesThat(predicate));
+    Map<DependencyGraph, BitSet> idsByGraph = Collections.synchronizedMap(new WeakHashMap<>());
+
+    return new ArchCondition<>(condition.getDescription()) {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        DependencyGraph graph = DependencyGraph.of(javaClass);
+        int id = graph.id(javaClass);
+
+        if (id < 0 || graph.dependsOn(id, idsByGraph.computeIfAbsent(graph, classes))) {
+          condition.check(javaClass, events);
+        }
+      }
+    };
+  }
+}
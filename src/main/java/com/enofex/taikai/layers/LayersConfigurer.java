@@ -0,0 +1,207 @@
+package com.enofex.taikai.layers;
+
+import static com.enofex.taikai.TaikaiRule.Configuration.defaultConfiguration;
+import static com.enofex.taikai.internal.DescribedPredicates.annotatedWith;
+import static com.enofex.taikai.layers.Layers.notDependOnClassesIn;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAnyPackage;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.util.Objects.requireNonNull;
+
+import com.enofex.taikai.TaikaiRule;
+import com.enofex.taikai.TaikaiRule.Configuration;
+import com.enofex.taikai.configures.AbstractConfigurer;
+import com.enofex.taikai.configures.ConfigurerContext;
+import com.enofex.taikai.configures.DisableableConfigurer;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configures and enforces the dependencies between the layers of an application using
+ * {@link com.tngtech.archunit ArchUnit} through the Taikai framework.
+ *
+ * <p>Layers are declared by package patterns or by an annotation, before the rules referring to
+ * them. Only dependencies between classes of declared layers are checked, and a layer may always
+ * access itself. Layer membership is computed once per import, so rules on many layers stay
+ * cheap.</p>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * Taikai.builder()
+ *     .namespace("com.example.project")
+ *     .layers(layers -> layers
+ *         .layer("Controller", "..controller..")
+ *         .layer("Service", "..service..")
+ *         .annotatedLayer("Repository", "org.springframework.stereotype.Repository")
+ *         .layerShouldOnlyBeAccessedBy("Controller")
+ *         .layerShouldOnlyBeAccessedBy("Service", "Controller")
+ *         .layerShouldOnlyBeAccessedBy("Repository", "Service")
+ *     );
+ * }</pre>
+ */
+public final class LayersConfigurer extends AbstractConfigurer implements DisableableConfigurer {
+
+  private final Layers layers;
+
+  public LayersConfigurer(ConfigurerContext configurerContext) {
+    super(configurerContext);
+    this.layers = new Layers();
+  }
+
+  /**
+   * Declares a layer consisting of the classes residing in any of the given packages.
+   *
+   * @param name               the unique name of the layer
+   * @param packageIdentifiers the package patterns of the layer, e.g. {@code ..service..}
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if the name is blank or already declared, or no package is
+   *                                  given
+   */
+  public LayersConfigurer layer(String name, String... packageIdentifiers) {
+    requireNonNull(packageIdentifiers);
+
+    if (packageIdentifiers.length == 0) {
+      throw new IllegalArgumentException("Layer %s must have a package".formatted(name));
+    }
+
+    this.layers.add(name, resideInAnyPackage(packageIdentifiers));
+    return this;
+  }
+
+  /**
+   * Declares a layer consisting of the classes annotated or meta-annotated with the given
+   * annotation.
+   *
+   * @param name       the unique name of the layer
+   * @param annotation the annotation of the layer
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if the name is blank or already declared
+   */
+  public LayersConfigurer annotatedLayer(String name, Class<? extends Annotation> annotation) {
+    return annotatedLayer(name, annotation.getName());
+  }
+
+  /**
+   * Declares a layer consisting of the classes annotated or meta-annotated with the given
+   * annotation.
+   *
+   * @param name       the unique name of the layer
+   * @param annotation the fully qualified name of the annotation of the layer
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if the name is blank or already declared
+   */
+  public LayersConfigurer annotatedLayer(String name, String annotation) {
+    requireNonNull(annotation);
+
+    this.layers.add(name, annotatedWith(annotation, true).<JavaClass>forSubtype());
+    return this;
+  }
+
+  /**
+   * Adds a rule that the classes of a layer are only accessed by classes of the same layer or of
+   * the given layers. Without accessing layers, no other layer may access the layer.
+   *
+   * @param layer           the name of the accessed layer
+   * @param accessingLayers the names of the layers allowed to access it
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if a layer is not declared
+   */
+  public LayersConfigurer layerShouldOnlyBeAccessedBy(String layer, String... accessingLayers) {
+    return layerShouldOnlyBeAccessedBy(layer, Arrays.asList(accessingLayers),
+        defaultConfiguration());
+  }
+
+  /**
+   * See {@link #layerShouldOnlyBeAccessedBy(String, String...)}, but with {@link Configuration}
+   * for customization.
+   *
+   * @param layer           the name of the accessed layer
+   * @param accessingLayers the names of the layers allowed to access it
+   * @param configuration   the configuration for rule customization
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if a layer is not declared
+   */
+  public LayersConfigurer layerShouldOnlyBeAccessedBy(String layer,
+      Collection<String> accessingLayers, Configuration configuration) {
+    List<String> accessed = List.of(layer);
+    Set<String> allowed = allowed(layer, accessingLayers);
+
+    return addRule(TaikaiRule.of(classes()
+            .that(this.layers.inOtherThan(allowed))
+            .should(notDependOnClassesIn(this.layers.in(accessed),
+                graph -> this.layers.ids(graph, accessed)))
+            .as(accessingLayers.isEmpty()
+                ? "Layer %s should not be accessed by any other layer".formatted(layer)
+                : "Layer %s should only be accessed by layers %s".formatted(layer,
+                    accessingLayers)),
+        configuration));
+  }
+
+  /**
+   * Adds a rule that the classes of a layer only access classes of the same layer or of the given
+   * layers. Without accessed layers, the layer may not access any other layer.
+   *
+   * @param layer          the name of the accessing layer
+   * @param accessedLayers the names of the layers it is allowed to access
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if a layer is not declared
+   */
+  public LayersConfigurer layerShouldOnlyAccess(String layer, String... accessedLayers) {
+    return layerShouldOnlyAccess(layer, Arrays.asList(accessedLayers), defaultConfiguration());
+  }
+
+  /**
+   * See {@link #layerShouldOnlyAccess(String, String...)}, but with {@link Configuration} for
+   * customization.
+   *
+   * @param layer          the name of the accessing layer
+   * @param accessedLayers the names of the layers it is allowed to access
+   * @param configuration  the configuration for rule customization
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if a layer is not declared
+   */
+  public LayersConfigurer layerShouldOnlyAccess(String layer, Collection<String> accessedLayers,
+      Configuration configuration) {
+    Set<String> allowed = allowed(layer, accessedLayers);
+
+    return addRule(TaikaiRule.of(classes()
+            .that(this.layers.in(List.of(layer)))
+            .should(notDependOnClassesIn(this.layers.inOtherThan(allowed),
+                graph -> this.layers.idsOtherThan(graph, allowed)))
+            .as(accessedLayers.isEmpty()
+                ? "Layer %s should not access any other layer".formatted(layer)
+                : "Layer %s should only access layers %s".formatted(layer, accessedLayers)),
+        configuration));
+  }
+
+  private Set<String> allowed(String layer, Collection<String> layers) {
+    Set<String> allowed = new LinkedHashSet<>();
+    allowed.add(requireNonNull(layer));
+    allowed.addAll(layers);
+
+    this.layers.requireDeclared(allowed);
+    return Set.copyOf(allowed);
+  }
+
+  /**
+   * Returns the declared layers, in the order they were declared.
+   *
+   * @return the predicates matching the classes of each layer, by layer name
+   */
+  public Map<String, DescribedPredicate<JavaClass>> layers() {
+    return this.layers.asMap();
+  }
+
+  @Override
+  public LayersConfigurer disable() {
+    disable(LayersConfigurer.class);
+
+    return this;
+  }
+}
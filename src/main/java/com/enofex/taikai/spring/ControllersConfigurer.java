@@ -1,6 +1,8 @@
 package com.enofex.taikai.spring;
 
 import static com.enofex.taikai.TaikaiRule.Configuration.defaultConfiguration;
+import static com.enofex.taikai.internal.ArchConditions.notDependOnClassesThat;
+import static com.enofex.taikai.internal.ArchConditions.notReachClassesThat;
 import static com.enofex.taikai.spring.ValidatedController.beAnnotatedWithValidated;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.ANNOTATION_CONTROLLER;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.ANNOTATION_REST_CONTROLLER;
@@ -10,7 +12,6 @@ import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithCo
 import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithRepository;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithRestController;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.be;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClassesThat;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.not;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentClassesThat;
 import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
@@ -255,11 +256,43 @@ public final class ControllersConfigurer extends AbstractConfigurer implements D
   public ControllersConfigurer shouldNotDependOnRepositories(Configuration configuration) {
     return addRule(TaikaiRule.of(classes()
             .that(are(annotatedWithControllerOrRestController(true)))
-            .should(not(dependOnClassesThat(annotatedWithRepository(true))))
+            .should(notDependOnClassesThat(annotatedWithRepository(true)))
             .as("Controllers should not depend on Repositories"),
         configuration));
   }
 
+  /**
+   * Adds a rule enforcing that controller classes should not reach repository classes (annotated
+   * with {@code @Repository}) through at most the given number of dependencies, so that the
+   * service layer is not bypassed through helper classes either. A direct dependency is one step,
+   * so {@code shouldNotReachRepositories(1)} is equivalent to {@link #shouldNotDependOnRepositories()}.
+   *
+   * @param maxDependencies the maximum number of dependencies to follow
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if the number of dependencies is not positive
+   */
+  public ControllersConfigurer shouldNotReachRepositories(int maxDependencies) {
+    return shouldNotReachRepositories(maxDependencies, defaultConfiguration());
+  }
+
+  /**
+   * See {@link #shouldNotReachRepositories(int)}, but with {@link Configuration} for customization.
+   *
+   * @param maxDependencies the maximum number of dependencies to follow
+   * @param configuration the configuration for rule customization
+   * @return this configurer instance for fluent chaining
+   * @throws IllegalArgumentException if the number of dependencies is not positive
+   */
+  public ControllersConfigurer shouldNotReachRepositories(int maxDependencies,
+      Configuration configuration) {
+    return addRule(TaikaiRule.of(classes()
+            .that(are(annotatedWithControllerOrRestController(true)))
+            .should(notReachClassesThat(annotatedWithRepository(true), maxDependencies))
+            .as("Controllers should not reach Repositories within %d dependencies".formatted(
+                maxDependencies)),
+        configuration));
+  }
+
   /**
    * Adds a rule enforcing that controller classes matching the given regex
    * should be annotated with {@code @Validated} when they contain validation annotations
@@ -1,13 +1,12 @@
 package com.enofex.taikai.spring;
 
 import static com.enofex.taikai.TaikaiRule.Configuration.defaultConfiguration;
+import static com.enofex.taikai.internal.ArchConditions.notDependOnClassesThat;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.ANNOTATION_REPOSITORY;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithControllerOrRestController;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithRepository;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithService;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.be;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClassesThat;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.not;
 import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 
@@ -159,7 +158,7 @@ public final class RepositoriesConfigurer extends AbstractConfigurer implements
   public RepositoriesConfigurer shouldNotDependOnControllers(Configuration configuration) {
     return addRule(TaikaiRule.of(classes()
             .that(are(annotatedWithRepository(true)))
-            .should(not(dependOnClassesThat(annotatedWithControllerOrRestController(true))))
+            .should(notDependOnClassesThat(annotatedWithControllerOrRestController(true)))
             .as("Repositories should not depend on Controllers or RestControllers"),
         configuration));
   }
@@ -183,7 +182,7 @@ public final class RepositoriesConfigurer extends AbstractConfigurer implements
   public RepositoriesConfigurer shouldNotDependOnServices(Configuration configuration) {
     return addRule(TaikaiRule.of(classes()
             .that(are(annotatedWithRepository(true)))
-            .should(not(dependOnClassesThat(annotatedWithService(true))))
+            .should(notDependOnClassesThat(annotatedWithService(true)))
             .as("Repositories should not depend on Services"),
         configuration));
   }
@@ -1,20 +1,17 @@
 package com.enofex.taikai.spring;
 
-import static com.enofex.taikai.internal.DescribedPredicates.annotatedWith;
-
-import com.tngtech.archunit.base.DescribedPredicate;
+import com.enofex.taikai.internal.AnnotationIndex;
+import com.enofex.taikai.internal.SelfCallIndex;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.core.domain.JavaMethodCall;
-import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
 
 final class SelfInvokedProxiedMethods {
 
@@ -23,40 +20,71 @@ final class SelfInvokedProxiedMethods {
 
   static ArchCondition<JavaClass> notSelfInvokeMethodsAnnotatedWith(
       Collection<String> annotations) {
-    Map<String, DescribedPredicate<CanBeAnnotated>> predicates = new LinkedHashMap<>();
-
-    for (String annotation : annotations) {
-      predicates.put(annotation, annotatedWith(annotation, true));
-    }
+    List<String> proxyAnnotations = List.copyOf(annotations);
 
     return new ArchCondition<>("not self invoke methods annotated with %s".formatted(annotations)) {
       @Override
       public void check(JavaClass javaClass, ConditionEvents events) {
-        for (JavaMethodCall call : javaClass.getMethodCallsFromSelf()) {
-          if (!call.getTargetOwner().equals(javaClass)) {
-            continue;
-          }
+        SelfCallIndex index = SelfCallIndex.of(javaClass);
 
-          Optional<JavaMethod> target = call.getTarget().resolveMember();
+        if (index.isEmpty()) {
+          return;
+        }
 
-          if (target.isEmpty()) {
-            continue;
-          }
+        List<JavaMethod> targets = index.targets();
+        String[] proxied = null;
 
-          for (Entry<String, DescribedPredicate<CanBeAnnotated>> predicate : predicates.entrySet()) {
-            if (predicate.getValue().test(target.get())) {
-              events.add(SimpleConditionEvent.violated(javaClass,
-                  "Method %s calls %s in line %d, the self invocation bypasses the Spring proxy and %s has no effect.".formatted(
-                      call.getOrigin().getFullName(),
-                      target.get().getFullName(),
-                      call.getLineNumber(),
-                      predicate.getKey())));
+        // Intersect the called methods with the proxy annotated ones before looking at the calls.
+        for (int target = 0; target < targets.size(); target++) {
+          String annotation = proxyAnnotation(targets.get(target), proxyAnnotations);
 
-              break;
+          if (annotation != null) {
+            if (proxied == null) {
+              proxied = new String[targets.size()];
             }
+            proxied[target] = annotation;
+          }
+        }
+
+        if (proxied == null) {
+          return;
+        }
+
+        for (int call = 0; call < index.size(); call++) {
+          String annotation = proxied[index.target(call)];
+
+          if (annotation != null) {
+            JavaMethodCall methodCall = index.call(call);
+
+            events.add(SimpleConditionEvent.violated(javaClass,
+                "Method %s calls %s in line %d, the self invocation bypasses the Spring proxy and %s has no effect.".formatted(
+                    methodCall.getOrigin().getFullName(),
+                    targets.get(index.target(call)).getFullName(),
+                    methodCall.getLineNumber(),
+                    annotation)));
           }
         }
       }
     };
   }
+
+  /**
+   * Returns the first of the annotations the method is annotated or meta-annotated with, or
+   * {@code null} if it has none of them.
+   */
+  private static @Nullable String proxyAnnotation(JavaMethod method, List<String> annotations) {
+    Set<String> methodAnnotations = AnnotationIndex.metaAnnotations(method);
+
+    if (methodAnnotations.isEmpty()) {
+      return null;
+    }
+
+    for (String annotation : annotations) {
+      if (methodAnnotations.contains(annotation)) {
+        return annotation;
+      }
+    }
+
+    return null;
+  }
 }
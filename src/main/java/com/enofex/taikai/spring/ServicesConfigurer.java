@@ -1,12 +1,11 @@
 package com.enofex.taikai.spring;
 
 import static com.enofex.taikai.TaikaiRule.Configuration.defaultConfiguration;
+import static com.enofex.taikai.internal.ArchConditions.notDependOnClassesThat;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.ANNOTATION_SERVICE;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithControllerOrRestController;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.annotatedWithService;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.be;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClassesThat;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.not;
 import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 
@@ -157,7 +156,7 @@ public final class ServicesConfigurer extends AbstractConfigurer implements Disa
   public ServicesConfigurer shouldNotDependOnOtherServices(Configuration configuration) {
     return addRule(TaikaiRule.of(classes()
             .that(are(annotatedWithService(true)))
-            .should(not(dependOnClassesThat(annotatedWithService(true))))
+            .should(notDependOnClassesThat(annotatedWithService(true)))
             .as("Services should not depend on other Services"),
         configuration));
   }
@@ -181,7 +180,7 @@ public final class ServicesConfigurer extends AbstractConfigurer implements Disa
   public ServicesConfigurer shouldNotDependOnControllers(Configuration configuration) {
     return addRule(TaikaiRule.of(classes()
             .that(are(annotatedWithService(true)))
-            .should(not(dependOnClassesThat(annotatedWithControllerOrRestController(true))))
+            .should(notDependOnClassesThat(annotatedWithControllerOrRestController(true)))
             .as("Services should not depend on Controllers or RestControllers"),
         configuration));
   }
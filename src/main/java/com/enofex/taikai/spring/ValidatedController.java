@@ -1,5 +1,6 @@
 package com.enofex.taikai.spring;
 
+import static com.enofex.taikai.internal.AnnotationIndex.isMetaAnnotatedWith;
 import static com.enofex.taikai.spring.SpringDescribedPredicates.ANNOTATION_VALIDATED;
 
 import com.tngtech.archunit.core.domain.JavaClass;
@@ -36,12 +37,12 @@ final class ValidatedController {
         "be annotated with @Validated if @RequestParam or @PathVariable has validation annotations") {
       @Override
       public void check(JavaClass controllerClass, ConditionEvents events) {
-        boolean hasValidatedAnnotation = controllerClass.isMetaAnnotatedWith(ANNOTATION_VALIDATED);
+        boolean hasValidatedAnnotation = isMetaAnnotatedWith(controllerClass, ANNOTATION_VALIDATED);
 
         for (JavaMethod method : controllerClass.getMethods()) {
           for (JavaParameter parameter : method.getParameters()) {
-            if ((parameter.isMetaAnnotatedWith(REQUEST_PARAM)
-                || parameter.isMetaAnnotatedWith(PATH_VARIABLE))
+            if ((isMetaAnnotatedWith(parameter, REQUEST_PARAM)
+                || isMetaAnnotatedWith(parameter, PATH_VARIABLE))
                 && (hasJavaXValidationAnnotations(parameter)
                 || hasJakartaValidationAnnotations(parameter))
             ) {
@@ -58,21 +59,21 @@ final class ValidatedController {
       }
 
       private boolean hasJavaXValidationAnnotations(JavaParameter parameter) {
-        return parameter.isMetaAnnotatedWith(JAVAX_VALIDATION_NOT_NULL)
-            || parameter.isMetaAnnotatedWith(JAVAX_VALIDATION_MIN)
-            || parameter.isMetaAnnotatedWith(JAVAX_VALIDATION_MAX)
-            || parameter.isMetaAnnotatedWith(JAVAX_VALIDATION_SIZE)
-            || parameter.isMetaAnnotatedWith(JAVAX_VALIDATION_NOT_BLANK)
-            || parameter.isMetaAnnotatedWith(JAVAX_VALIDATION_PATTERN);
+        return isMetaAnnotatedWith(parameter, JAVAX_VALIDATION_NOT_NULL)
+            || isMetaAnnotatedWith(parameter, JAVAX_VALIDATION_MIN)
+            || isMetaAnnotatedWith(parameter, JAVAX_VALIDATION_MAX)
+            || isMetaAnnotatedWith(parameter, JAVAX_VALIDATION_SIZE)
+            || isMetaAnnotatedWith(parameter, JAVAX_VALIDATION_NOT_BLANK)
+            || isMetaAnnotatedWith(parameter, JAVAX_VALIDATION_PATTERN);
       }
 
       private boolean hasJakartaValidationAnnotations(JavaParameter parameter) {
-        return parameter.isMetaAnnotatedWith(JAKARTA_VALIDATION_NOT_NULL)
-            || parameter.isMetaAnnotatedWith(JAKARTA_VALIDATION_MIN)
-            || parameter.isMetaAnnotatedWith(JAKARTA_VALIDATION_MAX)
-            || parameter.isMetaAnnotatedWith(JAKARTA_VALIDATION_SIZE)
-            || parameter.isMetaAnnotatedWith(JAKARTA_VALIDATION_NOT_BLANK)
-            || parameter.isMetaAnnotatedWith(JAKARTA_VALIDATION_PATTERN);
+        return isMetaAnnotatedWith(parameter, JAKARTA_VALIDATION_NOT_NULL)
+            || isMetaAnnotatedWith(parameter, JAKARTA_VALIDATION_MIN)
+            || isMetaAnnotatedWith(parameter, JAKARTA_VALIDATION_MAX)
+            || isMetaAnnotatedWith(parameter, JAKARTA_VALIDATION_SIZE)
+            || isMetaAnnotatedWith(parameter, JAKARTA_VALIDATION_NOT_BLANK)
+            || isMetaAnnotatedWith(parameter, JAKARTA_VALIDATION_PATTERN);
       }
     };
   }
@@ -1,5 +1,6 @@
 package com.enofex.taikai.test;
 
+import static com.enofex.taikai.internal.AnnotationIndex.isMetaAnnotatedWith;
 import static com.enofex.taikai.internal.DescribedPredicates.annotatedWith;
 
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -29,8 +30,8 @@ final class JUnitDescribedPredicates {
       @Override
       public boolean test(JavaClass javaClass) {
         return javaClass.getMethods().stream()
-            .anyMatch(method -> method.isMetaAnnotatedWith(ANNOTATION_TEST)
-                || method.isMetaAnnotatedWith(ANNOTATION_PARAMETRIZED_TEST));
+            .anyMatch(method -> isMetaAnnotatedWith(method, ANNOTATION_TEST)
+                || isMetaAnnotatedWith(method, ANNOTATION_PARAMETRIZED_TEST));
       }
     };
   }
@@ -0,0 +1,185 @@
+package com.enofex.taikai;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BaselineTest {
+
+  private static final TaikaiRule RULE = TaikaiRule.of(classes().should().bePublic());
+  private static final TaikaiRule OTHER_RULE = TaikaiRule.of(classes().should().beInterfaces());
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldRecordViolationsIfFileDoesNotExist() {
+    Path file = this.directory.resolve("baseline");
+    Baseline baseline = Baseline.load(file);
+
+    assertTrue(baseline.isRecording());
+    assertFalse(baseline.newViolations(RULE).test("Class <a.A> is not public in (A.java:0)"));
+
+    baseline.store(true);
+
+    assertTrue(Files.exists(file));
+    assertFalse(Baseline.load(file).isRecording());
+  }
+
+  @Test
+  void shouldNotRecordIncompleteRun() {
+    Path file = this.directory.resolve("baseline");
+    Baseline baseline = Baseline.load(file);
+
+    baseline.newViolations(RULE).test("Class <a.A> is not public in (A.java:0)");
+    baseline.store(false);
+
+    assertFalse(Files.exists(file));
+  }
+
+  @Test
+  void shouldOnlyAcceptNewViolations() {
+    Path file = record("Class <a.A> is not public in (A.java:0)");
+    Predicate<String> newViolations = Baseline.load(file).newViolations(RULE);
+
+    assertFalse(newViolations.test("Class <a.A> is not public in (A.java:0)"));
+    assertTrue(newViolations.test("Class <a.B> is not public in (B.java:0)"));
+  }
+
+  @Test
+  void shouldAcceptFurtherOccurrencesOfKnownMessage() {
+    Path file = record("Method <a.A.run()> calls <b.B.run()> in (A.java:12)",
+        "Method <a.A.run()> calls <b.B.run()> in (A.java:14)");
+    Predicate<String> newViolations = Baseline.load(file).newViolations(RULE);
+
+    assertFalse(newViolations.test("Method <a.A.run()> calls <b.B.run()> in (A.java:12)"));
+    assertFalse(newViolations.test("Method <a.A.run()> calls <b.B.run()> in (A.java:14)"));
+    assertTrue(newViolations.test("Method <a.A.run()> calls <b.B.run()> in (A.java:16)"));
+  }
+
+  @Test
+  void shouldCountViolationsAnewForEachEvaluationOfRule() {
+    Path file = record("Class <a.A> is not public in (A.java:0)");
+    Baseline baseline = Baseline.load(file);
+
+    assertFalse(baseline.newViolations(RULE).test("Class <a.A> is not public in (A.java:0)"));
+    assertFalse(baseline.newViolations(RULE).test("Class <a.A> is not public in (A.java:0)"));
+
+    baseline.store(true);
+
+    assertFalse(Baseline.load(file).newViolations(RULE)
+        .test("Class <a.A> is not public in (A.java:0)"));
+  }
+
+  @Test
+  void shouldKeepCountOfRemainingViolationsAfterCompleteRun() {
+    Path file = record("Class <a.A> is not public in (A.java:0)",
+        "Class <a.A> is not public in (A.java:0)");
+
+    Baseline baseline = Baseline.load(file);
+    baseline.newViolations(RULE).test("Class <a.A> is not public in (A.java:0)");
+    baseline.store(true);
+
+    Predicate<String> newViolations = Baseline.load(file).newViolations(RULE);
+    assertFalse(newViolations.test("Class <a.A> is not public in (A.java:0)"));
+    assertTrue(newViolations.test("Class <a.A> is not public in (A.java:0)"));
+  }
+
+  @Test
+  void shouldReadFileOfFirstVersion() throws Exception {
+    Path file = this.directory.resolve("baseline");
+
+    try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(file))) {
+      output.writeInt(0x544B424C);
+      output.writeInt(1);
+      output.writeInt(1);
+      output.writeLong(Baseline.hash(RULE.archRule().getDescription()));
+      output.writeInt(1);
+      output.writeLong(Baseline.hash("Class <a.A> is not public in (A.java)"));
+    }
+
+    Predicate<String> newViolations = Baseline.load(file).newViolations(RULE);
+
+    assertFalse(newViolations.test("Class <a.A> is not public in (A.java:0)"));
+    assertTrue(newViolations.test("Class <a.A> is not public in (A.java:0)"));
+  }
+
+  @Test
+  void shouldMatchViolationsPerRule() {
+    Path file = record("Class <a.A> is not public in (A.java:0)");
+
+    assertTrue(Baseline.load(file).newViolations(OTHER_RULE)
+        .test("Class <a.A> is not public in (A.java:0)"));
+  }
+
+  @Test
+  void shouldIgnoreLineNumbersAndGeneratedNumbers() {
+    Path file = record("Method <a.A.lambda$run$3()> calls <b.B.run()> in (A.java:12)");
+
+    assertFalse(Baseline.load(file).newViolations(RULE)
+        .test("Method <a.A.lambda$run$7()> calls <b.B.run()> in (A.java:48)"));
+  }
+
+  @Test
+  void shouldRemoveFixedViolationsAfterCompleteRun() {
+    Path file = record("Class <a.A> is not public in (A.java:0)",
+        "Class <a.B> is not public in (B.java:0)");
+
+    Baseline baseline = Baseline.load(file);
+    baseline.newViolations(RULE).test("Class <a.A> is not public in (A.java:0)");
+    baseline.store(true);
+
+    assertTrue(Baseline.load(file).newViolations(RULE)
+        .test("Class <a.B> is not public in (B.java:0)"));
+  }
+
+  @Test
+  void shouldKeepFixedViolationsAfterIncompleteRun() {
+    Path file = record("Class <a.A> is not public in (A.java:0)",
+        "Class <a.B> is not public in (B.java:0)");
+
+    Baseline baseline = Baseline.load(file);
+    baseline.newViolations(RULE).test("Class <a.A> is not public in (A.java:0)");
+    baseline.store(false);
+
+    assertFalse(Baseline.load(file).newViolations(RULE)
+        .test("Class <a.B> is not public in (B.java:0)"));
+  }
+
+  @Test
+  void shouldThrowExceptionForUnsupportedFile() throws Exception {
+    Path file = this.directory.resolve("baseline");
+    Files.writeString(file, "Class <a.A> is not public");
+
+    assertThrows(TaikaiException.class, () -> Baseline.load(file));
+  }
+
+  @Test
+  void shouldHashDifferentMessagesDifferently() {
+    assertEquals(Baseline.hash("Class <a.A>"), Baseline.hash("Class <a.A>"));
+    assertNotEquals(Baseline.hash("Class <a.A>"), Baseline.hash("Class <a.B>"));
+  }
+
+  private Path record(String... violations) {
+    Path file = this.directory.resolve("baseline");
+    Baseline baseline = Baseline.load(file);
+    Predicate<String> recorded = baseline.newViolations(RULE);
+
+    for (String violation : violations) {
+      recorded.test(violation);
+    }
+
+    baseline.store(true);
+    return file;
+  }
+}
@@ -0,0 +1,81 @@
+package com.enofex.taikai;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ClassExclusionsTest {
+
+  @Test
+  void shouldBeEmptyWithoutPatterns() {
+    assertTrue(ClassExclusions.of(null).isEmpty());
+    assertTrue(ClassExclusions.of(List.of()).isEmpty());
+    assertFalse(ClassExclusions.of(null).excludes("com.enofex.taikai.Taikai"));
+  }
+
+  @Test
+  void shouldExcludeFullyQualifiedClassNames() {
+    ClassExclusions exclusions = ClassExclusions.of(
+        List.of("com.enofex.taikai.Taikai", "com.enofex.taikai.Taikai$Builder"));
+
+    assertFalse(exclusions.isEmpty());
+    assertTrue(exclusions.excludes("com.enofex.taikai.Taikai"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.Taikai$Builder"));
+    assertFalse(exclusions.excludes("com.enofex.taikai.TaikaiRule"));
+  }
+
+  @Test
+  void shouldExcludeClassesOfSinglePackage() {
+    ClassExclusions exclusions = ClassExclusions.of(List.of("com.enofex.taikai.*"));
+
+    assertTrue(exclusions.excludes("com.enofex.taikai.Taikai"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.Taikai$Builder"));
+    assertFalse(exclusions.excludes("com.enofex.taikai.java.JavaConfigurer"));
+    assertFalse(exclusions.excludes("com.enofex.taikaifoo.Taikai"));
+  }
+
+  @Test
+  void shouldExcludeClassesOfPackageRecursively() {
+    ClassExclusions exclusions = ClassExclusions.of(List.of("com.enofex.taikai.java.."));
+
+    assertTrue(exclusions.excludes("com.enofex.taikai.java"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.java.JavaConfigurer"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.java.naming.Foo"));
+    assertFalse(exclusions.excludes("com.enofex.taikai.javax.Foo"));
+    assertFalse(exclusions.excludes("com.enofex.taikai.Taikai"));
+  }
+
+  @Test
+  void shouldExcludeClassesMatchingAnyRegex() {
+    ClassExclusions exclusions = ClassExclusions.of(List.of(".*Patterns", ".*\\.internal\\..*"));
+
+    assertTrue(exclusions.excludes("com.enofex.taikai.java.ImportPatterns"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.internal.Modifiers"));
+    assertFalse(exclusions.excludes("com.enofex.taikai.java.PatternsConfigurer"));
+  }
+
+  @Test
+  void shouldKeepBackreferencesOfEachRegex() {
+    ClassExclusions exclusions = ClassExclusions.of(List.of("(.*)Patterns", ".*\\.(\\w+)\\.\\1"));
+
+    assertTrue(exclusions.excludes("com.enofex.Taikai.Taikai"));
+    assertFalse(exclusions.excludes("com.enofex.Taikai.TaikaiRule"));
+  }
+
+  @Test
+  void shouldCombineAllKindsOfPatterns() {
+    ClassExclusions exclusions = ClassExclusions.of(List.of(
+        "com.enofex.taikai.Taikai",
+        "com.enofex.taikai.spring.*",
+        "com.enofex.taikai.java..",
+        ".*Exception"));
+
+    assertTrue(exclusions.excludes("com.enofex.taikai.Taikai"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.spring.SpringConfigurer"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.java.naming.Foo"));
+    assertTrue(exclusions.excludes("com.enofex.taikai.TaikaiException"));
+    assertFalse(exclusions.excludes("com.enofex.taikai.TaikaiRule"));
+  }
+}
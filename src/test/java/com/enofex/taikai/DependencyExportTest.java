@@ -0,0 +1,170 @@
+package com.enofex.taikai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.enofex.taikai.internal.cycles.a.A;
+import com.enofex.taikai.internal.cycles.b.B;
+import com.enofex.taikai.internal.cycles.c.C;
+import java.io.StringWriter;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DependencyExportTest {
+
+  private static final String PACKAGE = "com.enofex.taikai.internal.cycles";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldExportPackagesAsDot() {
+    Taikai taikai = Taikai.builder()
+        .classes(A.class, B.class, C.class)
+        .build();
+
+    assertEquals("""
+            digraph dependencies {
+              "%1$s.a";
+              "%1$s.b";
+              "%1$s.c";
+              "%1$s.a" -> "%1$s.b";
+              "%1$s.b" -> "%1$s.a";
+              "%1$s.b" -> "%1$s.c";
+              "%1$s.c" -> "%1$s.a";
+            }
+            """.formatted(PACKAGE),
+        export(taikai, DependencyExport.builder().build()));
+  }
+
+  @Test
+  void shouldExportClassesWithLayersAsJson() {
+    Taikai taikai = Taikai.builder()
+        .classes(C.class, A.class)
+        .layers(layers -> layers
+            .layer("Core", "..cycles.a..")
+            .layer("Client", "..cycles.c.."))
+        .build();
+
+    assertEquals("""
+            {"level":"classes","nodes":[
+            {"id":"%1$s.a.A","layers":["Core"]},
+            {"id":"%1$s.c.C","layers":["Client"]}
+            ],"edges":[
+            {"source":"%1$s.c.C","target":"%1$s.a.A"}
+            ]}
+            """.formatted(PACKAGE),
+        export(taikai, DependencyExport.builder()
+            .format(DependencyExport.Format.JSON)
+            .level(DependencyExport.Level.CLASSES)
+            .layers(true)
+            .build()));
+  }
+
+  @Test
+  void shouldExportViolationsAsGraphMl() {
+    Taikai taikai = Taikai.builder()
+        .classes(A.class, C.class)
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .layer("C", "..cycles.c..")
+            .layerShouldOnlyAccess("C"))
+        .build();
+
+    assertEquals("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <graphml xmlns="http://graphml.graphdrawing.org/xmlns">
+              <key id="violation" for="node" attr.name="violation" attr.type="boolean"/>
+              <graph id="dependencies" edgedefault="directed">
+                <node id="%1$s.a"><data key="violation">false</data></node>
+                <node id="%1$s.c"><data key="violation">true</data></node>
+                <edge source="%1$s.c" target="%1$s.a"/>
+              </graph>
+            </graphml>
+            """.formatted(PACKAGE),
+        export(taikai, DependencyExport.builder()
+            .format(DependencyExport.Format.GRAPHML)
+            .violations(true)
+            .build()));
+  }
+
+  @Test
+  void shouldExportStereotypes() {
+    Taikai taikai = Taikai.builder()
+        .classes(Controller.class, Service.class)
+        .build();
+
+    assertEquals("""
+            digraph dependencies {
+              "%1$s" [stereotypes="Web"];
+              "%2$s" [stereotypes=""];
+              "%1$s" -> "%2$s";
+            }
+            """.formatted(Controller.class.getName(), Service.class.getName()),
+        export(taikai, DependencyExport.builder()
+            .level(DependencyExport.Level.CLASSES)
+            .stereotype("Web", Web.class)
+            .build()));
+  }
+
+  @Test
+  void shouldExportToFile() throws Exception {
+    Path file = this.directory.resolve("reports").resolve("dependencies.json");
+    Taikai taikai = Taikai.builder()
+        .classes(A.class)
+        .build();
+
+    taikai.exportDependencies(file, DependencyExport.builder()
+        .format(DependencyExport.Format.JSON)
+        .build());
+
+    assertEquals("""
+            {"level":"packages","nodes":[
+            {"id":"%s.a"}
+            ],"edges":[
+            ]}
+            """.formatted(PACKAGE),
+        Files.readString(file));
+  }
+
+  @Test
+  void shouldThrowWhenNamespaceIsNotProvided() {
+    Taikai taikai = Taikai.builder().build();
+
+    assertThrows(TaikaiException.class,
+        () -> taikai.exportDependencies(new StringWriter(), DependencyExport.builder().build()));
+  }
+
+  @Test
+  void shouldThrowWhenStereotypeIsAddedTwice() {
+    assertThrows(IllegalArgumentException.class, () -> DependencyExport.builder()
+        .stereotype("Web", Web.class)
+        .stereotype("Web", Web.class));
+  }
+
+  private static String export(Taikai taikai, DependencyExport export) {
+    StringWriter writer = new StringWriter();
+    taikai.exportDependencies(writer, export);
+
+    return writer.toString();
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Web {
+
+  }
+
+  @Web
+  static class Controller {
+
+    private Service service;
+  }
+
+  static class Service {
+
+  }
+}
@@ -0,0 +1,94 @@
+package com.enofex.taikai;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EvaluationListenerTest {
+
+  private static final TaikaiRule FAST_RULE = TaikaiRule.of(
+      classes().should().bePublic());
+  private static final TaikaiRule SLOW_RULE = TaikaiRule.of(
+      noClasses().should().haveSimpleName("Slow"));
+  private static final TaikaiRule SLOWEST_RULE = TaikaiRule.of(
+      noClasses().should().haveSimpleName("Slowest"));
+
+  @Test
+  void shouldReportSlowestRulesInDescendingOrder() {
+    List<String> reports = new ArrayList<>();
+    EvaluationListener listener = EvaluationListener.slowestRules(2, reports::add);
+
+    listener.ruleFinished(event(FAST_RULE, 1));
+    listener.ruleFinished(event(SLOWEST_RULE, 300));
+    listener.ruleFinished(event(SLOW_RULE, 20));
+    listener.evaluationFinished();
+
+    assertEquals(1, reports.size());
+
+    List<String> lines = reports.get(0).lines().toList();
+
+    assertEquals(3, lines.size());
+    assertEquals("Slowest 2 of 3 Taikai rules:", lines.get(0));
+    assertTrue(lines.get(1).contains("300 ms"));
+    assertTrue(lines.get(1).endsWith(SLOWEST_RULE.archRule().getDescription()));
+    assertTrue(lines.get(2).endsWith(SLOW_RULE.archRule().getDescription()));
+  }
+
+  @Test
+  void shouldStartEachRunWithoutPreviousRules() {
+    List<String> reports = new ArrayList<>();
+    EvaluationListener listener = EvaluationListener.slowestRules(5, reports::add);
+
+    listener.ruleFinished(event(FAST_RULE, 1));
+    listener.evaluationFinished();
+    listener.ruleFinished(event(SLOW_RULE, 20));
+    listener.evaluationFinished();
+
+    assertEquals(2, reports.size());
+    assertTrue(reports.get(1).startsWith("Slowest 1 of 1 Taikai rules:"));
+    assertFalse(reports.get(1).contains(FAST_RULE.archRule().getDescription()));
+  }
+
+  @Test
+  void shouldNotReportRunsWithoutRules() {
+    List<String> reports = new ArrayList<>();
+
+    EvaluationListener.slowestRules(5, reports::add).evaluationFinished();
+
+    assertTrue(reports.isEmpty());
+  }
+
+  @Test
+  void shouldReportUnmeasuredAllocations() {
+    List<String> reports = new ArrayList<>();
+    EvaluationListener listener = EvaluationListener.slowestRules(1, reports::add);
+
+    listener.ruleFinished(new EvaluationListener.RuleEvent(FAST_RULE, 1, 0,
+        Duration.ofMillis(1), -1));
+    listener.evaluationFinished();
+
+    assertTrue(reports.get(0).contains("n/a"));
+  }
+
+  @Test
+  void shouldThrowExceptionForInvalidLimit() {
+    assertThrows(IllegalArgumentException.class, () -> EvaluationListener.slowestRules(0));
+  }
+
+  @Test
+  void shouldThrowExceptionForNullOutput() {
+    assertThrows(NullPointerException.class, () -> EvaluationListener.slowestRules(1, null));
+  }
+
+  private static EvaluationListener.RuleEvent event(TaikaiRule rule, long millis) {
+    return new EvaluationListener.RuleEvent(rule, 10, 0, Duration.ofMillis(millis), 1024);
+  }
+}
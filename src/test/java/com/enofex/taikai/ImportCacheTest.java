@@ -0,0 +1,150 @@
+package com.enofex.taikai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.enofex.taikai.ImportCache.Fingerprint;
+import com.tngtech.archunit.core.importer.Location;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImportCacheTest {
+
+  private static final String VALID_NAMESPACE = "com.enofex.taikai";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldFingerprintClassFilesOfNamespace() {
+    Fingerprint fingerprint = ImportCache.fingerprint(VALID_NAMESPACE,
+        Namespace.IMPORT.WITHOUT_TESTS);
+
+    assertTrue(fingerprint.classes().containsKey(Taikai.class.getName()));
+    assertFalse(fingerprint.classes().containsKey(ImportCacheTest.class.getName()));
+  }
+
+  @Test
+  void shouldFingerprintOnlyTestClassFiles() {
+    Fingerprint fingerprint = ImportCache.fingerprint(VALID_NAMESPACE,
+        Namespace.IMPORT.ONLY_TESTS);
+
+    assertTrue(fingerprint.classes().containsKey(ImportCacheTest.class.getName()));
+    assertFalse(fingerprint.classes().containsKey(Taikai.class.getName()));
+  }
+
+  @Test
+  void shouldProduceStableFingerprints() {
+    assertEquals(
+        ImportCache.fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITH_TESTS),
+        ImportCache.fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITH_TESTS));
+  }
+
+  @Test
+  void shouldFingerprintClassFilesOfLocations() throws Exception {
+    Path location = Path.of(Taikai.class.getProtectionDomain().getCodeSource().getLocation()
+        .toURI());
+
+    assertEquals(
+        ImportCache.fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS),
+        ImportCache.fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+            List.of(location)));
+  }
+
+  @Test
+  void shouldFingerprintClassFilesOfJar() throws Exception {
+    Path jar = this.directory.resolve("classes.jar");
+
+    try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+      output.putNextEntry(new JarEntry("com/enofex/taikai/Taikai.class"));
+      output.write(new byte[] {1, 2, 3});
+      output.closeEntry();
+      output.putNextEntry(new JarEntry("com/example/Other.class"));
+      output.closeEntry();
+    }
+
+    Fingerprint fingerprint = ImportCache.fingerprint(VALID_NAMESPACE,
+        Namespace.IMPORT.WITHOUT_TESTS, List.of(jar));
+
+    assertEquals(Set.of(Taikai.class.getName()), fingerprint.classes().keySet());
+  }
+
+  @Test
+  void shouldHashClasspathOutsideOfNamespace() throws Exception {
+    Path jar = Files.write(this.directory.resolve("dependency.jar"), new byte[] {1});
+    Path classes = this.directory.resolve("classes");
+    Path namespaceClass = Files.createDirectories(classes.resolve("com/enofex/taikai"))
+        .resolve("Taikai.class");
+    Path otherClass = Files.createDirectories(classes.resolve("com/example"))
+        .resolve("Other.class");
+    Files.write(namespaceClass, new byte[] {1});
+    Files.write(otherClass, new byte[] {1});
+
+    List<Location> classpath = List.of(Location.of(jar), Location.of(classes));
+    long hash = ImportCache.classpath(VALID_NAMESPACE, classpath);
+
+    assertEquals(hash, ImportCache.classpath(VALID_NAMESPACE, classpath));
+
+    Files.write(namespaceClass, new byte[] {1, 2});
+    assertEquals(hash, ImportCache.classpath(VALID_NAMESPACE, classpath));
+
+    Files.write(otherClass, new byte[] {1, 2});
+    long changedClass = ImportCache.classpath(VALID_NAMESPACE, classpath);
+    assertNotEquals(hash, changedClass);
+
+    Files.write(jar, new byte[] {1, 2});
+    assertNotEquals(changedClass, ImportCache.classpath(VALID_NAMESPACE, classpath));
+  }
+
+  @Test
+  void shouldNotBeUpToDateWhenClasspathChanges() {
+    ImportCache cache = new ImportCache(this.directory);
+    cache.store("configuration", List.of(
+        new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS, Map.of("a.A", 1L), 0L)));
+
+    assertFalse(cache.isUpToDate("configuration", List.of(
+        new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS, Map.of("a.A", 1L), 1L))));
+  }
+
+  @Test
+  void shouldBeUpToDateAfterStoring() {
+    ImportCache cache = new ImportCache(this.directory);
+    List<Fingerprint> fingerprints = List.of(
+        new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS, Map.of("a.A", 1L), 0L));
+
+    assertFalse(cache.isUpToDate("configuration", fingerprints));
+
+    cache.store("configuration", fingerprints);
+
+    assertTrue(cache.isUpToDate("configuration", fingerprints));
+  }
+
+  @Test
+  void shouldNotBeUpToDateWhenClassesChange() {
+    ImportCache cache = new ImportCache(this.directory);
+    cache.store("configuration", List.of(
+        new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS, Map.of("a.A", 1L), 0L)));
+
+    assertFalse(cache.isUpToDate("configuration", List.of(
+        new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS, Map.of("a.A", 2L), 0L))));
+  }
+
+  @Test
+  void shouldNotBeUpToDateWhenConfigurationChanges() {
+    ImportCache cache = new ImportCache(this.directory);
+    List<Fingerprint> fingerprints = List.of(
+        new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS, Map.of("a.A", 1L), 0L));
+    cache.store("configuration", fingerprints);
+
+    assertFalse(cache.isUpToDate("another configuration", fingerprints));
+  }
+}
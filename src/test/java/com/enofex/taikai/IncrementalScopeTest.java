@@ -0,0 +1,88 @@
+package com.enofex.taikai;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.enofex.taikai.ImportCache.Fingerprint;
+import com.enofex.taikai.ImportCache.State;
+import com.tngtech.archunit.lang.ArchRule;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class IncrementalScopeTest {
+
+  private static final String VALID_NAMESPACE = "com.enofex.taikai";
+
+  private final TaikaiRule rule = TaikaiRule.of(mock(ArchRule.class));
+  private final Fingerprint current = ImportCache.fingerprint(VALID_NAMESPACE,
+      Namespace.IMPORT.WITHOUT_TESTS);
+
+  @Test
+  void shouldEvaluateAllClassesWithoutPreviousState() {
+    IncrementalScope scope = new IncrementalScope(null, List.of(this.current), false);
+
+    assertNull(scope.affectedClasses(this.rule, VALID_NAMESPACE));
+  }
+
+  @Test
+  void shouldEvaluateAllClassesIfRuleDidNotPassBefore() {
+    IncrementalScope scope = new IncrementalScope(
+        new State(List.of(this.current), Set.of()), List.of(this.current), false);
+
+    assertNull(scope.affectedClasses(this.rule, VALID_NAMESPACE));
+  }
+
+  @Test
+  void shouldSkipRuleIfNothingChanged() {
+    IncrementalScope scope = new IncrementalScope(
+        new State(List.of(this.current), Set.of(ImportCache.key(this.rule))),
+        List.of(this.current), false);
+
+    assertTrue(scope.affectedClasses(this.rule, VALID_NAMESPACE).isEmpty());
+  }
+
+  @Test
+  void shouldEvaluateChangedClassesAndTheirDependents() {
+    Map<String, Long> previousClasses = new HashMap<>(this.current.classes());
+    previousClasses.put(TaikaiException.class.getName(), 0L);
+
+    IncrementalScope scope = new IncrementalScope(
+        new State(List.of(new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+            previousClasses, this.current.classpath())), Set.of(ImportCache.key(this.rule))),
+        List.of(this.current), false);
+
+    Set<String> affectedClasses = scope.affectedClasses(this.rule, VALID_NAMESPACE);
+
+    assertTrue(affectedClasses.contains(TaikaiException.class.getName()));
+    assertTrue(affectedClasses.contains(Taikai.class.getName()));
+    assertTrue(affectedClasses.contains(RuntimeException.class.getName()));
+  }
+
+  @Test
+  void shouldEvaluateAllClassesIfClassesWereRemoved() {
+    Map<String, Long> previousClasses = new HashMap<>(this.current.classes());
+    previousClasses.put("com.enofex.taikai.Removed", 0L);
+
+    IncrementalScope scope = new IncrementalScope(
+        new State(List.of(new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+            previousClasses, this.current.classpath())), Set.of(ImportCache.key(this.rule))),
+        List.of(this.current), false);
+
+    assertNull(scope.affectedClasses(this.rule, VALID_NAMESPACE));
+  }
+
+  @Test
+  void shouldEvaluateAllClassesIfClasspathChanged() {
+    IncrementalScope scope = new IncrementalScope(
+        new State(List.of(new Fingerprint(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+            this.current.classes(), this.current.classpath() + 1)),
+            Set.of(ImportCache.key(this.rule))),
+        List.of(this.current), false);
+
+    assertNull(scope.affectedClasses(this.rule, VALID_NAMESPACE));
+  }
+}
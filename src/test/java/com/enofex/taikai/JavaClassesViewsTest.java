@@ -0,0 +1,73 @@
+package com.enofex.taikai;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.enofex.taikai.TaikaiRule.Configuration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JavaClassesViewsTest {
+
+  private static final String VALID_NAMESPACE = "com.enofex.taikai";
+
+  @Test
+  void shouldShareViewBetweenRulesWithSameConfiguration() {
+    JavaClassesViews views = new JavaClassesViews(
+        ClassExclusions.of(List.of(TaikaiException.class.getName())), false);
+
+    TaikaiRule first = TaikaiRule.of(mock(ArchRule.class));
+    TaikaiRule second = TaikaiRule.of(mock(ArchRule.class));
+
+    assertSame(first.javaClassesExcluding(VALID_NAMESPACE, null, views),
+        second.javaClassesExcluding(VALID_NAMESPACE, null, views));
+  }
+
+  @Test
+  void shouldNotShareViewBetweenRulesWithDifferentExclusions() {
+    JavaClassesViews views = new JavaClassesViews(ClassExclusions.of(null), false);
+
+    TaikaiRule first = TaikaiRule.of(mock(ArchRule.class));
+    TaikaiRule second = TaikaiRule.of(mock(ArchRule.class),
+        Configuration.of(List.of(Taikai.class.getName())));
+
+    assertNotSame(first.javaClassesExcluding(VALID_NAMESPACE, null, views),
+        second.javaClassesExcluding(VALID_NAMESPACE, null, views));
+  }
+
+  @Test
+  void shouldDropViewsOfEvictedImports() {
+    JavaClassesViews views = new JavaClassesViews(ClassExclusions.of(null), false);
+    JavaClasses javaClasses = views.view(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+        List.of(), ClassExclusions.of(null));
+
+    assertSame(javaClasses, views.view(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+        List.of(), ClassExclusions.of(null)));
+
+    Namespace.evict(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+
+    JavaClasses reimported = views.view(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+        List.of(), ClassExclusions.of(null));
+
+    assertNotSame(javaClasses, reimported);
+    assertSame(Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS), reimported);
+  }
+
+  @Test
+  void shouldApplyGlobalAndRuleExclusions() {
+    JavaClassesViews views = new JavaClassesViews(
+        ClassExclusions.of(List.of(TaikaiException.class.getName())), false);
+
+    JavaClasses javaClasses = views.view(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS,
+        List.of(Taikai.class.getName()), ClassExclusions.of(List.of(Taikai.class.getName())));
+
+    assertFalse(javaClasses.contain(TaikaiException.class));
+    assertFalse(javaClasses.contain(Taikai.class));
+    assertTrue(javaClasses.contain(TaikaiRule.class));
+  }
+}
@@ -0,0 +1,156 @@
+package com.enofex.taikai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class NamespaceCacheTest {
+
+  private static final NamespaceCache.Key FIRST =
+      new NamespaceCache.Key("com.example.first", Namespace.IMPORT.WITHOUT_TESTS, List.of());
+  private static final NamespaceCache.Key SECOND =
+      new NamespaceCache.Key("com.example.second", Namespace.IMPORT.WITHOUT_TESTS, List.of());
+  private static final NamespaceCache.Key THIRD =
+      new NamespaceCache.Key("com.example.third", Namespace.IMPORT.WITHOUT_TESTS, List.of());
+
+  @Test
+  void shouldImportEachKeyOnce() {
+    NamespaceCache cache = new NamespaceCache(Namespace.CachePolicy.unbounded());
+    AtomicInteger imports = new AtomicInteger();
+
+    JavaClasses first = cache.get(FIRST, counting(imports));
+
+    assertSame(first, cache.get(FIRST, counting(imports)));
+    assertEquals(1, imports.get());
+    assertEquals(1, cache.statistics().hits());
+    assertEquals(1, cache.statistics().misses());
+    assertEquals(1, cache.statistics().entries());
+    assertTrue(cache.statistics().estimatedBytes() > 0);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    NamespaceCache cache = new NamespaceCache(
+        Namespace.CachePolicy.unbounded().withMaxEntries(2));
+    AtomicInteger imports = new AtomicInteger();
+
+    cache.get(FIRST, counting(imports));
+    cache.get(SECOND, counting(imports));
+    cache.get(FIRST, counting(imports));
+    cache.get(THIRD, counting(imports));
+
+    assertEquals(3, imports.get());
+    assertEquals(1, cache.statistics().evictions());
+
+    cache.get(FIRST, counting(imports));
+    cache.get(SECOND, counting(imports));
+
+    assertEquals(4, imports.get());
+  }
+
+  @Test
+  void shouldEvictEntriesExceedingMaxBytes() {
+    NamespaceCache cache = new NamespaceCache(Namespace.CachePolicy.unbounded().withMaxBytes(1));
+
+    cache.get(FIRST, () -> classes());
+    cache.get(SECOND, () -> classes());
+
+    assertEquals(1, cache.statistics().entries());
+    assertEquals(1, cache.statistics().evictions());
+  }
+
+  @Test
+  void shouldApplyNewPolicyImmediately() {
+    NamespaceCache cache = new NamespaceCache(Namespace.CachePolicy.unbounded());
+
+    cache.get(FIRST, () -> classes());
+    cache.get(SECOND, () -> classes());
+    cache.policy(Namespace.CachePolicy.unbounded().withMaxEntries(1).withSoftReferences(true));
+
+    assertEquals(1, cache.statistics().entries());
+    assertTrue(cache.policy().softReferences());
+  }
+
+  @Test
+  void shouldEstimateCachedEntriesForNewMaxBytes() {
+    NamespaceCache cache = new NamespaceCache(Namespace.CachePolicy.unbounded());
+
+    cache.get(FIRST, () -> classes());
+    cache.get(SECOND, () -> classes());
+    cache.policy(Namespace.CachePolicy.unbounded().withMaxBytes(1));
+
+    assertEquals(1, cache.statistics().entries());
+    assertEquals(1, cache.statistics().evictions());
+    assertTrue(cache.statistics().estimatedBytes() > 0);
+  }
+
+  @Test
+  void shouldEvictMatchingKeys() {
+    NamespaceCache cache = new NamespaceCache(Namespace.CachePolicy.unbounded());
+    AtomicInteger imports = new AtomicInteger();
+
+    JavaClasses first = cache.get(FIRST, counting(imports));
+    cache.get(SECOND, counting(imports));
+    cache.evict(FIRST::equals);
+
+    assertEquals(1, cache.statistics().entries());
+    assertEquals(1, cache.statistics().evictions());
+    assertNotSame(first, cache.get(FIRST, counting(imports)));
+    assertEquals(3, imports.get());
+  }
+
+  @Test
+  void shouldStoreViewsWithTheirImport() {
+    NamespaceCache cache = new NamespaceCache(Namespace.CachePolicy.unbounded());
+    AtomicInteger filters = new AtomicInteger();
+
+    JavaClasses view = cache.view(FIRST, () -> classes(), Namespace.IMPORT.ONLY_TESTS,
+        javaClasses -> {
+          filters.incrementAndGet();
+          return javaClasses;
+        });
+
+    assertSame(view, cache.view(FIRST, () -> classes(), Namespace.IMPORT.ONLY_TESTS,
+        javaClasses -> javaClasses));
+    assertEquals(1, filters.get());
+    assertEquals(1, cache.statistics().entries());
+  }
+
+  @Test
+  void shouldNotCacheFailedImports() {
+    NamespaceCache cache = new NamespaceCache(Namespace.CachePolicy.unbounded());
+
+    assertThrows(IllegalStateException.class, () -> cache.get(FIRST, () -> {
+      throw new IllegalStateException();
+    }));
+    assertEquals(0, cache.statistics().entries());
+  }
+
+  @Test
+  void shouldThrowExceptionForNegativeLimits() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Namespace.CachePolicy.unbounded().withMaxEntries(-1));
+    assertThrows(IllegalArgumentException.class,
+        () -> Namespace.CachePolicy.unbounded().withMaxBytes(-1));
+  }
+
+  private static Supplier<JavaClasses> counting(AtomicInteger imports) {
+    return () -> {
+      imports.incrementAndGet();
+      return classes();
+    };
+  }
+
+  private static JavaClasses classes() {
+    return new ClassFileImporter().importClasses(NamespaceCacheTest.class);
+  }
+}
@@ -1,8 +1,12 @@
 package com.enofex.taikai;
 
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +47,108 @@ class NamespaceTest {
         .importPackages(VALID_NAMESPACE));
   }
 
+  @Test
+  void shouldDeriveAllImportModesFromSingleImport() {
+    for (Namespace.IMPORT importOption : Namespace.IMPORT.values()) {
+      assertEquals(
+          Namespace.from(VALID_NAMESPACE, importOption).stream().map(JavaClass::getName)
+              .collect(Collectors.toSet()),
+          Namespace.view(VALID_NAMESPACE, importOption).stream().map(JavaClass::getName)
+              .collect(Collectors.toSet()));
+    }
+  }
+
+  @Test
+  void shouldReuseViews() {
+    assertSame(Namespace.view(VALID_NAMESPACE, Namespace.IMPORT.ONLY_TESTS),
+        Namespace.view(VALID_NAMESPACE, Namespace.IMPORT.ONLY_TESTS));
+    assertSame(Namespace.withTests(VALID_NAMESPACE),
+        Namespace.view(VALID_NAMESPACE, Namespace.IMPORT.WITH_TESTS));
+  }
+
+  @Test
+  void shouldEvictNamespace() {
+    JavaClasses classes = Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+
+    Namespace.evict(VALID_NAMESPACE, Namespace.IMPORT.WITH_TESTS);
+    assertSame(classes, Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS));
+
+    Namespace.evict(VALID_NAMESPACE);
+    assertNotSame(classes, Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS));
+  }
+
+  @Test
+  void shouldEvictNamespaceOfLocations() throws Exception {
+    Path location = Path.of(Taikai.class.getProtectionDomain().getCodeSource().getLocation()
+        .toURI());
+    JavaClasses classes = Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+    JavaClasses locationClasses = Namespace.from(VALID_NAMESPACE,
+        Namespace.IMPORT.WITHOUT_TESTS, List.of(location));
+
+    Namespace.evict(VALID_NAMESPACE, List.of(location));
+
+    assertSame(classes, Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS));
+    assertNotSame(locationClasses, Namespace.from(VALID_NAMESPACE,
+        Namespace.IMPORT.WITHOUT_TESTS, List.of(location)));
+  }
+
+  @Test
+  void shouldCountCacheHitsAndMisses() {
+    Namespace.clear();
+    Namespace.CacheStatistics before = Namespace.statistics();
+
+    Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+    Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+    Namespace.CacheStatistics after = Namespace.statistics();
+
+    assertEquals(before.misses() + 1, after.misses());
+    assertEquals(before.hits() + 1, after.hits());
+    assertEquals(1, after.entries());
+    assertTrue(after.estimatedBytes() > 0);
+  }
+
+  @Test
+  void shouldSetCachePolicy() {
+    Namespace.CachePolicy policy = Namespace.cachePolicy();
+
+    try {
+      Namespace.cachePolicy(Namespace.CachePolicy.unbounded().withMaxEntries(1));
+      Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+      Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.ONLY_TESTS);
+
+      assertEquals(1, Namespace.cachePolicy().maxEntries());
+      assertEquals(1, Namespace.statistics().entries());
+    } finally {
+      Namespace.cachePolicy(policy);
+    }
+  }
+
+  @Test
+  void shouldImportFromLocations() throws Exception {
+    Path location = Path.of(Taikai.class.getProtectionDomain().getCodeSource().getLocation()
+        .toURI());
+
+    JavaClasses classes = Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITH_TESTS,
+        List.of(location));
+
+    assertTrue(classes.contain(Taikai.class));
+    assertFalse(classes.contain(NamespaceTest.class));
+    assertSame(classes, Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITH_TESTS,
+        List.of(location)));
+  }
+
+  @Test
+  void shouldImportFromClasspathWithoutLocations() {
+    assertSame(Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS),
+        Namespace.from(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS, List.of()));
+  }
+
+  @Test
+  void shouldThrowExceptionForMissingLocation() {
+    assertThrows(TaikaiException.class, () -> Namespace.from(VALID_NAMESPACE,
+        Namespace.IMPORT.WITHOUT_TESTS, List.of(Path.of("does-not-exist"))));
+  }
+
   @Test
   void shouldThrowExceptionForNullNamespace() {
     assertThrows(NullPointerException.class,
@@ -3,6 +3,7 @@ package com.enofex.taikai;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -11,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import com.enofex.taikai.TaikaiRule.Configuration;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -164,6 +166,46 @@ class TaikaiRuleTest {
         () -> Configuration.of(List.of(42)));
   }
 
+  @Test
+  void shouldCreateConfigurationWithTimeout() {
+    Configuration configuration = Configuration.of("com.example", Namespace.IMPORT.ONLY_TESTS,
+            List.of("com.example.Legacy"))
+        .withTimeout(Duration.ofSeconds(5));
+
+    assertEquals(Duration.ofSeconds(5), configuration.timeout());
+    assertEquals("com.example", configuration.namespace());
+    assertEquals(Namespace.IMPORT.ONLY_TESTS, configuration.namespaceImport());
+    assertEquals(List.of("com.example.Legacy"), configuration.excludedClasses());
+    assertNull(Configuration.defaultConfiguration().timeout());
+  }
+
+  @Test
+  void shouldThrowWhenTimeoutIsNotPositive() {
+    Configuration configuration = Configuration.defaultConfiguration();
+
+    assertThrows(IllegalArgumentException.class, () -> configuration.withTimeout(Duration.ZERO));
+    assertThrows(IllegalArgumentException.class,
+        () -> configuration.withTimeout(Duration.ofMillis(-1)));
+  }
+
+  @Test
+  void shouldCreateConfigurationWithMaxViolations() {
+    Configuration configuration = Configuration.of("com.example")
+        .withTimeout(Duration.ofSeconds(5))
+        .withMaxViolations(50);
+
+    assertEquals(50, configuration.maxViolations());
+    assertEquals(Duration.ofSeconds(5), configuration.timeout());
+    assertEquals(50, configuration.withTimeout(null).maxViolations());
+    assertEquals(0, Configuration.defaultConfiguration().maxViolations());
+  }
+
+  @Test
+  void shouldThrowWhenMaxViolationsIsNegative() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Configuration.defaultConfiguration().withMaxViolations(-1));
+  }
+
   @Test
   void shouldExcludeFullyQualifiedClassNameFromCheck() {
     Taikai taikai = Taikai.builder()
@@ -1,28 +1,61 @@
 
 package com.enofex.taikai;
 
-import static java.util.Collections.emptyList;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.enofex.taikai.TaikaiRule.Configuration;
 import com.enofex.taikai.configures.Customizer;
 import com.enofex.taikai.java.JavaConfigurer;
 import com.enofex.taikai.spring.SpringConfigurer;
 import com.enofex.taikai.test.TestConfigurer;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.opentest4j.TestAbortedException;
 
 class TaikaiTest {
 
@@ -132,7 +165,7 @@ class TaikaiTest {
         .build()
         .check();
 
-    verify(mockRule, times(1)).check(VALID_NAMESPACE, null, emptyList());
+    verify(mockRule, times(1)).check(eq(VALID_NAMESPACE), isNull(), any(JavaClassesViews.class));
   }
 
   @Test
@@ -226,6 +259,709 @@ class TaikaiTest {
     assertThrows(AssertionError.class, taikai::checkAll);
   }
 
+  @Test
+  void shouldDefaultToSequentialEvaluation() {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .build();
+
+    assertEquals(1, taikai.parallelism());
+  }
+
+  @Test
+  void shouldThrowExceptionForInvalidParallelism() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder().parallelism(0));
+  }
+
+  @Test
+  void shouldKeepParallelismWhenRebuilding() {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .parallelism(4)
+        .build();
+
+    assertEquals(4, taikai.toBuilder().build().parallelism());
+  }
+
+  @Test
+  void shouldReportViolationsInRuleOrderWhenEvaluatingInParallel() {
+    Taikai sequential = Taikai.builder()
+        .classes(ViolatingClass.class)
+        .java(java -> java
+            .methodsShouldNotDeclareGenericExceptions()
+            .naming(naming -> naming.methodsShouldMatch("#[A-Z].*")))
+        .build();
+
+    Taikai parallel = sequential.toBuilder()
+        .parallelism(4)
+        .build();
+
+    AssertionError expected = assertThrows(AssertionError.class, sequential::checkAll);
+    AssertionError actual = assertThrows(AssertionError.class, parallel::checkAll);
+
+    assertEquals(expected.getMessage(), actual.getMessage());
+  }
+
+  @Test
+  void shouldSkipUnchangedRunWhenCacheDirectoryIsSet(@TempDir Path cacheDirectory) {
+    ArchRule archRule = mock(ArchRule.class);
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .cacheDirectory(cacheDirectory)
+        .addRule(TaikaiRule.of(archRule))
+        .build();
+
+    taikai.check();
+    taikai.check();
+
+    verify(archRule, times(1)).check(any());
+  }
+
+  @Test
+  void shouldNotCacheFailedRuns(@TempDir Path cacheDirectory) {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .cacheDirectory(cacheDirectory)
+        .java(java -> java.naming(naming -> naming.classesShouldMatch("#[a-z].*")))
+        .build();
+
+    assertThrows(AssertionError.class, taikai::checkAll);
+    assertThrows(AssertionError.class, taikai::checkAll);
+  }
+
+  @Test
+  void shouldThrowExceptionForIncrementalWithoutCacheDirectory() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .incremental(true)
+        .build());
+  }
+
+  @Test
+  void shouldReportViolationsOfIncrementalRuns(@TempDir Path cacheDirectory) {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .cacheDirectory(cacheDirectory)
+        .incremental(true)
+        .java(java -> java.naming(naming -> naming.classesShouldMatch("#[a-z].*")))
+        .build();
+
+    assertTrue(taikai.incremental());
+    assertThrows(AssertionError.class, taikai::checkAll);
+    assertThrows(AssertionError.class, taikai::checkAll);
+  }
+
+  @Test
+  void shouldPassIncrementalRunsWhenRuleSelectsNoChangedClass(@TempDir Path directory)
+      throws Exception {
+    Path classes = directory.resolve("classes");
+    Path namespace = Files.createDirectories(classes.resolve("com/enofex/taikai"));
+    copyClassFile(TaikaiException.class, namespace);
+
+    Taikai taikai = Taikai.builder()
+        .namespace("com.enofex.taikai")
+        .locations(classes)
+        .cacheDirectory(directory.resolve("cache"))
+        .incremental(true)
+        .failOnEmpty(true)
+        .addRule(TaikaiRule.of(classes().that().haveSimpleName("TaikaiException")
+            .should().bePublic()))
+        .build();
+
+    assertDoesNotThrow(taikai::check);
+
+    copyClassFile(ViolationSink.class, namespace);
+    Namespace.evict("com.enofex.taikai");
+    Taikai changed = taikai.toBuilder().build();
+
+    assertDoesNotThrow(changed::check);
+    assertDoesNotThrow(changed::checkAll);
+  }
+
+  @Test
+  void shouldKeepSingleImportWhenRebuilding() {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .singleImport(true)
+        .build();
+
+    assertTrue(taikai.singleImport());
+    assertTrue(taikai.toBuilder().build().singleImport());
+    assertFalse(Taikai.builder().namespace(VALID_NAMESPACE).build().singleImport());
+  }
+
+  @Test
+  void shouldCheckRulesOfAllImportModesWithSingleImport() {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .singleImport(true)
+        .java(java -> java
+            .noUsageOfSystemOutOrErr()
+            .naming(naming -> naming.classesShouldNotMatch(".*Impl")))
+        .addRule(TaikaiRule.of(noClasses().should().haveSimpleName("DoesNotExist"),
+            Configuration.of(Namespace.IMPORT.ONLY_TESTS)))
+        .build();
+
+    assertDoesNotThrow(taikai::checkAll);
+  }
+
+  @Test
+  void shouldNotifyListenersOfRuleEvaluations() {
+    EvaluationListener listener = mock(EvaluationListener.class);
+
+    Taikai taikai = Taikai.builder()
+        .classes(ViolatingClass.class)
+        .addListener(listener)
+        .java(java -> java
+            .methodsShouldNotDeclareGenericExceptions()
+            .naming(naming -> naming.classesShouldMatch(".*")))
+        .build();
+
+    assertThrows(AssertionError.class, taikai::checkAll);
+
+    ArgumentCaptor<EvaluationListener.RuleEvent> events =
+        ArgumentCaptor.forClass(EvaluationListener.RuleEvent.class);
+    verify(listener, times(2)).ruleStarted(any());
+    verify(listener, times(2)).ruleFinished(events.capture());
+    verify(listener, times(1)).evaluationFinished();
+
+    assertEquals(1, events.getAllValues().get(0).violations());
+    assertEquals(0, events.getAllValues().get(1).violations());
+    assertEquals(1, events.getAllValues().get(1).classes());
+  }
+
+  @Test
+  void shouldMeasureAllocationsOfRulesWithTimeout() {
+    EvaluationListener listener = mock(EvaluationListener.class);
+
+    Taikai taikai = Taikai.builder()
+        .classes(ViolatingClass.class)
+        .addListener(listener)
+        .addRule(TaikaiRule.of(classes().should(allocate(1 << 20)),
+            Configuration.defaultConfiguration().withTimeout(Duration.ofSeconds(30))))
+        .build();
+
+    assertDoesNotThrow(taikai::checkAll);
+
+    ArgumentCaptor<EvaluationListener.RuleEvent> events =
+        ArgumentCaptor.forClass(EvaluationListener.RuleEvent.class);
+    verify(listener, times(1)).ruleFinished(events.capture());
+
+    long allocatedBytes = events.getValue().allocatedBytes();
+    assertTrue(allocatedBytes == -1 || allocatedBytes >= 1 << 20);
+  }
+
+  @Test
+  void shouldNotifyListenersOfImportsOncePerNamespace() {
+    EvaluationListener listener = mock(EvaluationListener.class);
+
+    Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .addListener(listener)
+        .java(java -> java
+            .noUsageOfSystemOutOrErr()
+            .naming(naming -> naming.classesShouldNotMatch(".*Impl")))
+        .build()
+        .check();
+
+    verify(listener, times(1)).importStarted(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+    verify(listener, times(1)).importFinished(any());
+    verify(listener, times(2)).ruleFinished(any());
+    verify(listener, times(1)).evaluationFinished();
+  }
+
+  @Test
+  void shouldStopCheckAtFirstViolationWithListeners() {
+    EvaluationListener listener = mock(EvaluationListener.class);
+
+    Taikai taikai = Taikai.builder()
+        .classes(ViolatingClass.class)
+        .addListener(listener)
+        .java(java -> java
+            .methodsShouldNotDeclareGenericExceptions()
+            .naming(naming -> naming.classesShouldMatch(".*")))
+        .build();
+
+    assertThrows(AssertionError.class, taikai::check);
+
+    verify(listener, times(1)).ruleFinished(any());
+    verify(listener, times(1)).evaluationFinished();
+  }
+
+  @Test
+  void shouldKeepListenersWhenRebuilding() {
+    EvaluationListener listener = mock(EvaluationListener.class);
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .addListener(listener)
+        .build();
+
+    assertEquals(1, taikai.listeners().size());
+    assertEquals(2, taikai.toBuilder().addListener(listener).build().listeners().size());
+  }
+
+  @Test
+  void shouldThrowExceptionForNullListener() {
+    assertThrows(NullPointerException.class, () -> Taikai.builder().addListener(null));
+  }
+
+  @Test
+  void shouldReportRulesExceedingTheirTimeout() {
+    Taikai taikai = Taikai.builder()
+        .classes(TaikaiTest.class)
+        .addRule(TaikaiRule.of(classes().should(sleep(Duration.ofSeconds(30))),
+            Configuration.defaultConfiguration().withTimeout(Duration.ofMillis(50))))
+        .build();
+
+    AssertionError error = assertThrows(AssertionError.class, taikai::checkAll);
+
+    assertTrue(error.getMessage().contains("Rule evaluation timed out after 50 ms"));
+  }
+
+  @Test
+  void shouldFailCheckOnRuleExceedingItsTimeout() {
+    Taikai taikai = Taikai.builder()
+        .classes(TaikaiTest.class)
+        .addRule(TaikaiRule.of(classes().should(sleep(Duration.ofSeconds(30))),
+            Configuration.defaultConfiguration().withTimeout(Duration.ofMillis(50))))
+        .build();
+
+    assertThrows(AssertionError.class, taikai::check);
+  }
+
+  @Test
+  void shouldReportRulesStartingAfterTheGlobalTimeout() {
+    Taikai taikai = Taikai.builder()
+        .classes(TaikaiTest.class)
+        .timeout(Duration.ofMillis(50))
+        .addRule(TaikaiRule.of(classes().should(sleep(Duration.ofSeconds(30)))))
+        .addRule(TaikaiRule.of(noClasses().should().haveSimpleName("DoesNotExist")))
+        .build();
+
+    AssertionError error = assertThrows(AssertionError.class, taikai::checkAll);
+
+    assertTrue(error.getMessage().contains("Found 2 Taikai violations for 2 rules!"));
+    assertTrue(error.getMessage().contains("Rule was not evaluated"));
+  }
+
+  @Test
+  void shouldPassRulesWithinTheirTimeout() {
+    Taikai taikai = Taikai.builder()
+        .classes(TaikaiTest.class)
+        .timeout(Duration.ofMinutes(1))
+        .addRule(TaikaiRule.of(noClasses().should().haveSimpleName("DoesNotExist"),
+            Configuration.defaultConfiguration().withTimeout(Duration.ofMinutes(1))))
+        .build();
+
+    assertDoesNotThrow(taikai::check);
+    assertDoesNotThrow(taikai::checkAll);
+  }
+
+  @Test
+  void shouldKeepTimeoutWhenRebuilding() {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .timeout(Duration.ofSeconds(30))
+        .build();
+
+    assertEquals(Duration.ofSeconds(30), taikai.toBuilder().build().timeout());
+    assertNull(Taikai.builder().namespace(VALID_NAMESPACE).build().timeout());
+  }
+
+  @Test
+  void shouldThrowExceptionForInvalidTimeout() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Taikai.builder().timeout(Duration.ZERO));
+  }
+
+  @Test
+  void shouldImportNamespacesConcurrently() {
+    EvaluationListener listener = mock(EvaluationListener.class);
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .parallelImport(true)
+        .addListener(listener)
+        .addRule(TaikaiRule.of(classes().should().bePublic().orShould().notBePublic(),
+            Configuration.of(Namespace.IMPORT.WITHOUT_TESTS)))
+        .addRule(TaikaiRule.of(classes().should().bePublic().orShould().notBePublic(),
+            Configuration.of(Namespace.IMPORT.ONLY_TESTS)))
+        .build();
+
+    assertDoesNotThrow(taikai::checkAll);
+    assertTrue(taikai.toBuilder().build().parallelImport());
+    verify(listener, times(1)).importStarted(VALID_NAMESPACE, Namespace.IMPORT.WITHOUT_TESTS);
+    verify(listener, times(1)).importStarted(VALID_NAMESPACE, Namespace.IMPORT.ONLY_TESTS);
+    verify(listener, times(2)).importFinished(any());
+  }
+
+  @Test
+  void shouldImportSequentiallyByDefault() {
+    assertFalse(Taikai.builder().namespace(VALID_NAMESPACE).build().parallelImport());
+  }
+
+  @Test
+  void shouldStreamViolationsToSink() {
+    ViolationSink sink = mock(ViolationSink.class);
+    when(sink.description()).thenReturn("violations.sarif");
+    TaikaiRule passing = TaikaiRule.of(classes().should().haveNameNotMatching("Invalid"));
+    TaikaiRule violated = TaikaiRule.of(classes().should().haveSimpleName("Invalid"));
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .violationSink(sink)
+        .addRule(passing)
+        .addRule(violated)
+        .build();
+
+    AssertionError error = assertThrows(AssertionError.class, taikai::checkAll);
+
+    assertTrue(error.getMessage().endsWith("The violations were written to violations.sarif"));
+    assertSame(sink, taikai.toBuilder().build().violationSink());
+    verify(sink, times(1)).started();
+    verify(sink, times(1)).violations(eq(violated), any());
+    verify(sink, never()).violations(eq(passing), any());
+    verify(sink, times(1)).finished();
+  }
+
+  @Test
+  void shouldTruncateViolationsOfRule() {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .maxViolations(2)
+        .addRule(TaikaiRule.of(classes().should().haveSimpleName("Invalid")))
+        .build();
+
+    AssertionError error = assertThrows(AssertionError.class, taikai::checkAll);
+
+    assertTrue(error.getMessage().startsWith("Found 3 Taikai violations for 1 rules!"));
+    assertTrue(error.getMessage().contains("Evaluation stopped after 2 violations"));
+    assertEquals(2, taikai.toBuilder().build().maxViolations());
+  }
+
+  @Test
+  void shouldPreferSmallerRuleMaxViolations() {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .maxViolations(10)
+        .addRule(TaikaiRule.of(classes().should().haveSimpleName("Invalid"),
+            Configuration.defaultConfiguration().withMaxViolations(1)))
+        .build();
+
+    AssertionError error = assertThrows(AssertionError.class, taikai::check);
+
+    assertTrue(error.getMessage().contains("Evaluation stopped after 1 violations"));
+  }
+
+  @Test
+  void shouldThrowExceptionForNegativeMaxViolations() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder().maxViolations(-1));
+  }
+
+  @Test
+  void shouldOnlyReportViolationsMissingFromBaseline(@TempDir Path directory) {
+    Path baseline = directory.resolve("taikai.baseline");
+    TaikaiRule rule = TaikaiRule.of(classes().should().haveSimpleName("Invalid"));
+
+    Taikai recording = Taikai.builder()
+        .classes(Taikai.class)
+        .baseline(baseline)
+        .addRule(rule)
+        .build();
+    Taikai checking = Taikai.builder()
+        .classes(Taikai.class, TaikaiRule.class)
+        .baseline(baseline)
+        .addRule(rule)
+        .build();
+
+    assertDoesNotThrow(recording::check);
+    assertDoesNotThrow(recording::checkAll);
+
+    AssertionError error = assertThrows(AssertionError.class, checking::checkAll);
+
+    assertTrue(error.getMessage().startsWith("Found 1 Taikai violations for 1 rules!"));
+    assertTrue(error.getMessage().contains(TaikaiRule.class.getName()));
+    assertEquals(baseline, checking.toBuilder().build().baseline());
+  }
+
+  @TestFactory
+  Stream<DynamicTest> shouldRunRulesAsDynamicTests() {
+    return Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .addRule(TaikaiRule.of(classes().should().haveNameNotMatching("Invalid")))
+        .addRule(TaikaiRule.of(classes().should().haveSimpleNameNotEndingWith("Invalid")))
+        .build()
+        .dynamicTests();
+  }
+
+  @Test
+  void shouldCreateOneDynamicTestPerRule() {
+    EvaluationListener listener = mock(EvaluationListener.class);
+    TaikaiRule passing = TaikaiRule.of(classes().should().haveNameNotMatching("Invalid"));
+    TaikaiRule violated = TaikaiRule.of(classes().should().haveSimpleName("Invalid"));
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .addListener(listener)
+        .addRule(passing)
+        .addRule(violated)
+        .build();
+
+    try (Stream<DynamicTest> stream = taikai.dynamicTests()) {
+      List<DynamicTest> tests = stream.toList();
+
+      assertEquals(List.of(passing.archRule().getDescription(),
+              violated.archRule().getDescription()),
+          tests.stream().map(DynamicTest::getDisplayName).toList());
+      assertDoesNotThrow(() -> tests.get(0).getExecutable().execute());
+      verify(listener, never()).evaluationFinished();
+      assertThrows(AssertionError.class, () -> tests.get(1).getExecutable().execute());
+      verify(listener, times(1)).evaluationFinished();
+    }
+
+    verify(listener, times(1)).evaluationFinished();
+  }
+
+  @Test
+  void shouldAbortDynamicTestsOfUnchangedRun(@TempDir Path cacheDirectory) {
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .cacheDirectory(cacheDirectory)
+        .addRule(TaikaiRule.of(classes().should().haveNameNotMatching("Invalid")))
+        .build();
+
+    try (Stream<DynamicTest> stream = taikai.dynamicTests()) {
+      DynamicTest test = stream.findFirst().orElseThrow();
+
+      assertDoesNotThrow(() -> test.getExecutable().execute());
+    }
+
+    try (Stream<DynamicTest> stream = taikai.dynamicTests()) {
+      DynamicTest test = stream.findFirst().orElseThrow();
+
+      assertThrows(TestAbortedException.class, () -> test.getExecutable().execute());
+    }
+  }
+
+  @Test
+  void shouldStreamViolationsOfDynamicTestsToSink() {
+    ViolationSink sink = mock(ViolationSink.class);
+    TaikaiRule violated = TaikaiRule.of(classes().should().haveSimpleName("Invalid"));
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .violationSink(sink)
+        .addRule(violated)
+        .build();
+
+    try (Stream<DynamicTest> stream = taikai.dynamicTests()) {
+      DynamicTest test = stream.findFirst().orElseThrow();
+
+      assertThrows(AssertionError.class, () -> test.getExecutable().execute());
+    }
+
+    verify(sink, times(1)).started();
+    verify(sink, times(1)).violations(eq(violated), any());
+    verify(sink, times(1)).finished();
+  }
+
+  @Test
+  void shouldReportViolationsOfDynamicTestsInRegistrationOrderAfterLastTest() {
+    ViolationSink sink = mock(ViolationSink.class);
+    TaikaiRule first = TaikaiRule.of(classes().should().haveSimpleName("Invalid"));
+    TaikaiRule second = TaikaiRule.of(classes().should().haveSimpleName("AlsoInvalid"));
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .violationSink(sink)
+        .addRule(first)
+        .addRule(second)
+        .build();
+
+    try (Stream<DynamicTest> stream = taikai.dynamicTests()) {
+      List<DynamicTest> tests = stream.toList();
+
+      assertThrows(AssertionError.class, () -> tests.get(1).getExecutable().execute());
+      verify(sink, never()).started();
+      assertThrows(AssertionError.class, () -> tests.get(0).getExecutable().execute());
+    }
+
+    InOrder order = inOrder(sink);
+    order.verify(sink).started();
+    order.verify(sink).violations(eq(first), any());
+    order.verify(sink).violations(eq(second), any());
+    order.verify(sink).finished();
+  }
+
+  @Test
+  void shouldFinishDynamicTestsRunInParallelAfterLastTest() {
+    ViolationSink sink = mock(ViolationSink.class);
+    EvaluationListener listener = mock(EvaluationListener.class);
+    AtomicInteger evaluatedRules = new AtomicInteger();
+    AtomicInteger evaluatedRulesWhenFinished = new AtomicInteger(-1);
+    TaikaiRule violated = TaikaiRule.of(classes().should().haveSimpleName("Invalid"));
+
+    doAnswer(invocation -> {
+      evaluatedRulesWhenFinished.set(evaluatedRules.get());
+      return null;
+    }).when(sink).finished();
+
+    ParallelDynamicTests.taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .violationSink(sink)
+        .addListener(listener)
+        .addRule(TaikaiRule.of(classes().should(count(evaluatedRules, Duration.ofMillis(200)))))
+        .addRule(TaikaiRule.of(classes().should(count(evaluatedRules, Duration.ofMillis(400)))))
+        .addRule(violated)
+        .build();
+
+    try {
+      EngineTestKit.engine("junit-jupiter")
+          .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+          .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+          .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default",
+              "concurrent")
+          .selectors(selectClass(ParallelDynamicTests.class))
+          .execute()
+          .testEvents()
+          .assertStatistics(statistics -> statistics.started(3).succeeded(2).failed(1));
+    } finally {
+      ParallelDynamicTests.taikai = null;
+    }
+
+    assertEquals(2, evaluatedRulesWhenFinished.get());
+    verify(sink, times(1)).started();
+    verify(sink, times(1)).violations(eq(violated), any());
+    verify(sink, times(1)).finished();
+    verify(listener, times(1)).evaluationFinished();
+  }
+
+  @Test
+  void shouldNotCallSinkForUnchangedDynamicTests(@TempDir Path cacheDirectory) {
+    ViolationSink sink = mock(ViolationSink.class);
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .cacheDirectory(cacheDirectory)
+        .violationSink(sink)
+        .addRule(TaikaiRule.of(classes().should().haveNameNotMatching("Invalid")))
+        .build();
+
+    try (Stream<DynamicTest> stream = taikai.dynamicTests()) {
+      DynamicTest test = stream.findFirst().orElseThrow();
+
+      assertDoesNotThrow(() -> test.getExecutable().execute());
+    }
+
+    try (Stream<DynamicTest> stream = taikai.dynamicTests()) {
+      DynamicTest test = stream.findFirst().orElseThrow();
+
+      assertThrows(TestAbortedException.class, () -> test.getExecutable().execute());
+    }
+
+    verify(sink, times(1)).started();
+    verify(sink, times(1)).finished();
+  }
+
+  @Test
+  void shouldLoadWithoutJUnit() throws Exception {
+    URL[] urls = {
+        Taikai.class.getProtectionDomain().getCodeSource().getLocation(),
+        ArchRule.class.getProtectionDomain().getCodeSource().getLocation(),
+        org.slf4j.Logger.class.getProtectionDomain().getCodeSource().getLocation()
+    };
+
+    try (URLClassLoader classLoader = new URLClassLoader(urls,
+        ClassLoader.getPlatformClassLoader())) {
+      assertThrows(ClassNotFoundException.class,
+          () -> classLoader.loadClass(DynamicTest.class.getName()));
+
+      Class<?> taikai = Class.forName(Taikai.class.getName(), true, classLoader);
+      Object builder = taikai.getMethod("builder").invoke(null);
+      Object instance = builder.getClass().getMethod("build").invoke(builder);
+
+      assertDoesNotThrow(() -> taikai.getMethod("checkAll").invoke(instance));
+    }
+  }
+
+  @Test
+  void shouldOnlyImportClassesOfLocations() throws Exception {
+    Path location = Path.of(Taikai.class.getProtectionDomain().getCodeSource().getLocation()
+        .toURI());
+
+    Taikai taikai = Taikai.builder()
+        .namespace(VALID_NAMESPACE)
+        .locations(location)
+        .addRule(TaikaiRule.of(noClasses().should().haveSimpleName("TaikaiTest"),
+            Configuration.of(Namespace.IMPORT.WITH_TESTS)))
+        .build();
+
+    assertDoesNotThrow(taikai::check);
+    assertEquals(List.of(location), taikai.toBuilder().build().locations());
+  }
+
+  @Test
+  void shouldThrowExceptionIfClassesAndLocations() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder()
+        .classes(Taikai.class)
+        .locations(Path.of("target/classes"))
+        .build());
+  }
+
+  private static void copyClassFile(Class<?> type, Path directory) throws IOException {
+    try (InputStream input = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+      Files.copy(requireNonNull(input), directory.resolve(type.getSimpleName() + ".class"));
+    }
+  }
+
+  private static ArchCondition<JavaClass> sleep(Duration duration) {
+    return new ArchCondition<>("sleep") {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        try {
+          Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+  }
+
+  private static ArchCondition<JavaClass> count(AtomicInteger evaluatedRules, Duration duration) {
+    return new ArchCondition<>("be counted") {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        sleep(duration).check(javaClass, events);
+      }
+
+      @Override
+      public void finish(ConditionEvents events) {
+        evaluatedRules.incrementAndGet();
+      }
+    };
+  }
+
+  private static ArchCondition<JavaClass> allocate(int bytes) {
+    return new ArchCondition<>("allocate") {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        events.add(SimpleConditionEvent.satisfied(javaClass, new String(new byte[bytes])));
+      }
+    };
+  }
+
+  static class ParallelDynamicTests {
+
+    static Taikai taikai;
+
+    @TestFactory
+    Stream<DynamicTest> rules() {
+      return taikai != null ? taikai.dynamicTests() : Stream.empty();
+    }
+  }
+
   static class ViolatingClass {
 
     public void method() throws Exception {
@@ -222,6 +222,8 @@ class Usage {
             .imports(imports -> imports
                 .shouldHaveNoCycles()
                 .shouldHaveNoCycles(defaultConfiguration())
+                .shouldHaveNoCycles(2)
+                .shouldHaveNoCycles(2, defaultConfiguration())
 
                 .shouldImport(".*ImportsConfigurer", "com.enofex.taikai.TaikaiException")
                 .shouldImport(".*ImportsConfigurer", "com.enofex.taikai.TaikaiException",
@@ -311,6 +313,17 @@ class Usage {
                 List.of(PRIVATE, FINAL), defaultConfiguration())
 
         )
+        .layers(layers -> layers
+            .layer("Configures", "com.enofex.taikai.configures..")
+            .layer("Java", "com.enofex.taikai.java..")
+            .annotatedLayer("Deprecated", Deprecated.class)
+            .annotatedLayer("Tests", "org.junit.jupiter.api.Test")
+
+            .layerShouldOnlyBeAccessedBy("Configures", "Java")
+            .layerShouldOnlyBeAccessedBy("Configures", List.of("Java"), defaultConfiguration())
+
+            .layerShouldOnlyAccess("Java", "Configures")
+            .layerShouldOnlyAccess("Java", List.of("Configures"), defaultConfiguration()))
         .test(test -> test
             .junit(junit -> junit
                 .methodsShouldNotDeclareExceptions()
@@ -396,6 +409,8 @@ class Usage {
 
                 .shouldNotDependOnRepositories()
                 .shouldNotDependOnRepositories(defaultConfiguration())
+                .shouldNotReachRepositories(3)
+                .shouldNotReachRepositories(3, defaultConfiguration())
 
                 .shouldBePackagePrivate()
                 .shouldBePackagePrivate(defaultConfiguration())
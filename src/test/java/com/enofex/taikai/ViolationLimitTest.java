@@ -0,0 +1,95 @@
+package com.enofex.taikai;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ViolationLimitTest {
+
+  private static final JavaClasses CLASSES =
+      Namespace.from("com.enofex.taikai", Namespace.IMPORT.WITHOUT_TESTS);
+
+  @Test
+  void shouldStopAtMaxViolations() {
+    ArchRule rule = classes().should().haveSimpleName("Invalid");
+
+    List<String> details = ViolationLimit.evaluate(rule, CLASSES, 5)
+        .getFailureReport().getDetails();
+
+    assertEquals(6, details.size());
+    assertEquals("Evaluation stopped after 5 violations, further violations are not reported",
+        details.get(5));
+  }
+
+  @Test
+  void shouldReportAllViolationsBelowMaxViolations() {
+    ArchRule rule = classes().should().haveSimpleNameNotEndingWith("Exception");
+
+    assertEquals(rule.evaluate(CLASSES).getFailureReport().getDetails(),
+        ViolationLimit.evaluate(rule, CLASSES, Integer.MAX_VALUE).getFailureReport().getDetails());
+  }
+
+  @Test
+  void shouldPassRulesWithoutViolations() {
+    ArchRule rule = classes().should().haveNameNotMatching("Invalid");
+
+    assertFalse(ViolationLimit.evaluate(rule, CLASSES, 1).hasViolation());
+  }
+
+  @Test
+  void shouldFailRulesWithoutMatchingClasses() {
+    ArchRule rule = classes().that().haveSimpleName("Invalid").should().bePublic()
+        .allowEmptyShould(false);
+
+    assertThrows(AssertionError.class, () -> ViolationLimit.evaluate(rule, CLASSES, 1));
+  }
+
+  @Test
+  void shouldAllowBatchesWithoutMatchingClasses() {
+    ArchRule rule = classes().that().haveSimpleName("Taikai").should().bePublic()
+        .allowEmptyShould(false);
+
+    assertFalse(ViolationLimit.evaluate(rule, CLASSES, 1).hasViolation());
+  }
+
+  @Test
+  void shouldEvaluateBatchesWithoutMatchingClassesOnce() {
+    AtomicInteger selections = new AtomicInteger();
+    ArchRule rule = classes()
+        .that(DescribedPredicate.describe("are Taikai", javaClass -> {
+          selections.incrementAndGet();
+          return javaClass.isEquivalentTo(Taikai.class);
+        }))
+        .should().haveSimpleName("Invalid")
+        .allowEmptyShould(false);
+
+    assertTrue(ViolationLimit.evaluate(rule, CLASSES, 10).hasViolation());
+    assertEquals(CLASSES.size(), selections.get());
+  }
+
+  @Test
+  void shouldRethrowErrorsOfConditions() {
+    ArchRule rule = classes().should(new ArchCondition<>("fail for Taikai") {
+      @Override
+      public void check(JavaClass javaClass, ConditionEvents events) {
+        if (javaClass.isEquivalentTo(Taikai.class)) {
+          throw new AssertionError("Condition failed to check any classes");
+        }
+      }
+    });
+
+    assertThrows(AssertionError.class, () -> ViolationLimit.evaluate(rule, CLASSES, 1));
+  }
+}
@@ -0,0 +1,91 @@
+package com.enofex.taikai;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ViolationSinkTest {
+
+  private static final TaikaiRule RULE = TaikaiRule.of(classes().should().bePublic());
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldWriteOneJsonObjectPerViolation() throws Exception {
+    Path file = this.directory.resolve("violations.jsonl");
+    ViolationSink sink = ViolationSink.jsonLines(file);
+
+    sink.started();
+    sink.violations(RULE, List.of("first", "second \"quoted\"\n"));
+    sink.finished();
+
+    assertEquals(List.of(
+            "{\"rule\":\"classes should be public\",\"violation\":\"first\"}",
+            "{\"rule\":\"classes should be public\",\"violation\":\"second \\\"quoted\\\"\\n\"}"),
+        Files.readAllLines(file));
+  }
+
+  @Test
+  void shouldWriteSarifLog() throws Exception {
+    Path file = this.directory.resolve("reports").resolve("violations.sarif");
+    ViolationSink sink = ViolationSink.sarif(file);
+
+    sink.started();
+    sink.violations(RULE, List.of("first", "second"));
+    sink.finished();
+
+    String log = Files.readString(file);
+    String ruleId = HexFormat.of().toHexDigits(ImportCache.key(RULE));
+
+    assertTrue(log.startsWith("{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\""));
+    assertTrue(log.contains("{\"ruleId\":\"%s\",\"level\":\"error\",".formatted(ruleId)
+        + "\"message\":{\"text\":\"first\"}},"));
+    assertTrue(log.contains("\"message\":{\"text\":\"second\"}}],"));
+    assertTrue(log.contains("{\"id\":\"%s\",".formatted(ruleId)
+        + "\"shortDescription\":{\"text\":\"classes should be public\"},"
+        + "\"fullDescription\":{\"text\":\"classes should be public\"}}]}}}]}"));
+  }
+
+  @Test
+  void shouldReplaceFileOnEveryRun() throws Exception {
+    Path file = this.directory.resolve("violations.jsonl");
+    ViolationSink sink = ViolationSink.jsonLines(file);
+
+    sink.started();
+    sink.violations(RULE, List.of("first"));
+    sink.finished();
+    sink.started();
+    sink.finished();
+
+    assertEquals(List.of(), Files.readAllLines(file));
+  }
+
+  @Test
+  void shouldDescribeFile() {
+    Path file = this.directory.resolve("violations.sarif");
+
+    assertEquals(file.toString(), ViolationSink.sarif(file).description());
+  }
+
+  @Test
+  void shouldThrowExceptionIfNotStarted() {
+    ViolationSink sink = ViolationSink.jsonLines(this.directory.resolve("violations.jsonl"));
+
+    assertThrows(IllegalStateException.class, () -> sink.violations(RULE, List.of("first")));
+  }
+
+  @Test
+  void shouldThrowExceptionForNullFile() {
+    assertThrows(NullPointerException.class, () -> ViolationSink.jsonLines(null));
+    assertThrows(NullPointerException.class, () -> ViolationSink.sarif(null));
+  }
+}
@@ -0,0 +1,128 @@
+package com.enofex.taikai.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AnnotationIndexTest {
+
+  private static final JavaClasses CLASSES = new ClassFileImporter()
+      .importClasses(AnnotatedClass.class, Stereotype.class, Component.class);
+
+  @Test
+  void shouldFindDirectAnnotations() {
+    JavaClass javaClass = CLASSES.get(AnnotatedClass.class);
+
+    assertTrue(AnnotationIndex.isMetaAnnotatedWith(javaClass, Stereotype.class.getName()));
+  }
+
+  @Test
+  void shouldFindTransitiveMetaAnnotations() {
+    JavaClass javaClass = CLASSES.get(AnnotatedClass.class);
+
+    assertTrue(AnnotationIndex.isMetaAnnotatedWith(javaClass, Component.class.getName()));
+    assertTrue(AnnotationIndex.isMetaAnnotatedWith(javaClass, Retention.class.getName()));
+    assertFalse(AnnotationIndex.isMetaAnnotatedWith(javaClass, Deprecated.class.getName()));
+  }
+
+  @Test
+  void shouldIndexMembers() {
+    JavaClass javaClass = CLASSES.get(AnnotatedClass.class);
+    JavaMethod method = javaClass.getMethod("method");
+    JavaField field = javaClass.getField("field");
+
+    assertTrue(AnnotationIndex.isMetaAnnotatedWith(method, Component.class.getName()));
+    assertFalse(AnnotationIndex.isMetaAnnotatedWith(field, Component.class.getName()));
+  }
+
+  @Test
+  void shouldAnswerLikeArchUnit() {
+    JavaClass javaClass = CLASSES.get(AnnotatedClass.class);
+
+    for (CanBeAnnotated element : List.of(javaClass, javaClass.getMethod("method"),
+        javaClass.getField("field"))) {
+      for (String annotation : List.of(Stereotype.class.getName(), Component.class.getName(),
+          Retention.class.getName(), Deprecated.class.getName())) {
+        assertEquals(element.isMetaAnnotatedWith(annotation),
+            AnnotationIndex.isMetaAnnotatedWith(element, annotation));
+      }
+    }
+  }
+
+  @Test
+  void shouldReuseIndexedAnnotations() {
+    JavaClass javaClass = CLASSES.get(AnnotatedClass.class);
+
+    assertSame(AnnotationIndex.metaAnnotations(javaClass),
+        AnnotationIndex.metaAnnotations(javaClass));
+    assertSame(AnnotationIndex.metaAnnotations(javaClass.getMethod("method")),
+        AnnotationIndex.metaAnnotations(javaClass.getMethod("method")));
+  }
+
+  @Test
+  void shouldNotKeepIndexedImportReachable() throws InterruptedException {
+    WeakReference<JavaClass> reference = indexedClass();
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertNull(reference.get());
+  }
+
+  @Test
+  void shouldDelegateForElementsWithoutAnnotations() {
+    CanBeAnnotated canBeAnnotated = mock(CanBeAnnotated.class);
+    when(canBeAnnotated.isMetaAnnotatedWith("MyAnnotation")).thenReturn(true);
+
+    assertTrue(AnnotationIndex.isMetaAnnotatedWith(canBeAnnotated, "MyAnnotation"));
+  }
+
+  private static WeakReference<JavaClass> indexedClass() {
+    JavaClasses classes = new ClassFileImporter()
+        .importClasses(AnnotatedClass.class, Stereotype.class, Component.class);
+    ImportScope scope = ImportScope.register(classes);
+    JavaClass javaClass = classes.get(AnnotatedClass.class);
+
+    assertTrue(AnnotationIndex.isMetaAnnotatedWith(javaClass, Component.class.getName()));
+    assertSame(scope, ImportScope.of(javaClass));
+
+    return new WeakReference<>(javaClass);
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Component {
+  }
+
+  @Component
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Stereotype {
+  }
+
+  @Stereotype
+  static class AnnotatedClass {
+
+    private String field;
+
+    @Stereotype
+    void method() {
+    }
+  }
+}
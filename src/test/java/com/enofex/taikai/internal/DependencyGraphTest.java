@@ -0,0 +1,198 @@
+package com.enofex.taikai.internal;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.assignableTo;
+import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.nameMatching;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.enofex.taikai.Namespace;
+import com.enofex.taikai.internal.cycles.a.A;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphTest {
+
+  private static final JavaClasses CLASSES = new ClassFileImporter()
+      .importClasses(Controller.class, Service.class, Repository.class);
+
+  @Test
+  void shouldBuildOneGraphPerImport() {
+    DependencyGraph graph = DependencyGraph.of(CLASSES.get(Controller.class));
+
+    assertSame(graph, DependencyGraph.of(CLASSES.get(Repository.class)));
+  }
+
+  @Test
+  void shouldStoreTargetsAndSources() {
+    DependencyGraph graph = DependencyGraph.of(CLASSES.get(Controller.class));
+    int controller = graph.id(CLASSES.get(Controller.class));
+    int service = graph.id(CLASSES.get(Service.class));
+    int repository = graph.id(CLASSES.get(Repository.class));
+
+    assertTrue(contains(graph.targets(controller), service));
+    assertFalse(contains(graph.targets(controller), repository));
+    assertTrue(contains(graph.targets(service), repository));
+    assertTrue(contains(graph.sources(repository), service));
+    assertFalse(contains(graph.sources(repository), controller));
+    assertSame(CLASSES.get(Service.class), graph.javaClass(service));
+  }
+
+  @Test
+  void shouldStoreDistinctTargets() {
+    DependencyGraph graph = DependencyGraph.of(CLASSES.get(Controller.class));
+    int[] targets = graph.targets(graph.id(CLASSES.get(Service.class)));
+
+    assertEquals(targets.length, Arrays.stream(targets).distinct().count());
+  }
+
+  @Test
+  void shouldAnswerLikeArchUnit() {
+    DependencyGraph graph = DependencyGraph.of(CLASSES.get(Controller.class));
+
+    for (JavaClass javaClass : CLASSES) {
+      assertEquals(javaClass.getDirectDependenciesFromSelf().stream()
+              .anyMatch(dependency -> dependency.getTargetClass().isAssignableTo(Repository.class)),
+          graph.dependsOn(javaClass, assignableTo(Repository.class)));
+    }
+  }
+
+  @Test
+  void shouldMatchEachPredicateOnce() {
+    DependencyGraph graph = DependencyGraph.of(CLASSES.get(Controller.class));
+    DescribedPredicate<JavaClass> repositories = assignableTo(Repository.class);
+    BitSet matching = graph.matching(repositories);
+
+    assertSame(matching, graph.matching(repositories));
+    assertTrue(matching.get(graph.id(CLASSES.get(Repository.class))));
+    assertTrue(graph.dependsOn(graph.id(CLASSES.get(Service.class)), matching));
+    assertFalse(graph.dependsOn(graph.id(CLASSES.get(Controller.class)), matching));
+  }
+
+  @Test
+  void shouldBoundCachedPredicates() {
+    DependencyGraph graph = DependencyGraph.of(new ClassFileImporter()
+        .importClasses(Controller.class).get(Controller.class));
+    DescribedPredicate<JavaClass> controllers = assignableTo(Controller.class);
+    BitSet matching = graph.matching(controllers);
+
+    for (int i = 0; i < 256; i++) {
+      graph.matching(nameMatching(".*" + i));
+    }
+
+    assertNotSame(matching, graph.matching(controllers));
+    assertEquals(matching, graph.matching(controllers));
+  }
+
+  @Test
+  void shouldDropGraphWithEvictedImport() throws InterruptedException {
+    String namespace = A.class.getPackageName();
+    WeakReference<DependencyGraph> reference = new WeakReference<>(DependencyGraph.of(
+        Namespace.from(namespace, Namespace.IMPORT.WITH_TESTS).get(A.class)));
+
+    Namespace.evict(namespace);
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertNull(reference.get());
+  }
+
+  @Test
+  void shouldComputeReachingClassesOncePerDepth() {
+    DependencyGraph graph = DependencyGraph.of(CLASSES.get(Controller.class));
+    DescribedPredicate<JavaClass> repositories = assignableTo(Repository.class);
+    int controller = graph.id(CLASSES.get(Controller.class));
+    int service = graph.id(CLASSES.get(Service.class));
+
+    assertTrue(graph.reaching(repositories, 1).get(service));
+    assertFalse(graph.reaching(repositories, 1).get(controller));
+    assertTrue(graph.reaching(repositories, 2).get(controller));
+    assertSame(graph.reaching(repositories, 2), graph.reaching(repositories, 2));
+  }
+
+  @Test
+  void shouldFindShortestPath() {
+    DependencyGraph graph = DependencyGraph.of(CLASSES.get(Controller.class));
+    BitSet repositories = graph.matching(assignableTo(Repository.class));
+    int controller = graph.id(CLASSES.get(Controller.class));
+    int service = graph.id(CLASSES.get(Service.class));
+    int repository = graph.id(CLASSES.get(Repository.class));
+
+    assertArrayEquals(new int[]{controller, service, repository},
+        graph.path(controller, repositories, 2));
+    assertArrayEquals(new int[0], graph.path(controller, repositories, 1));
+  }
+
+  @Test
+  void shouldReportSameViolationsAsArchUnit() {
+    List<String> expected = noClasses()
+        .should().dependOnClassesThat(nameMatching(".*Repository"))
+        .evaluate(CLASSES).getFailureReport().getDetails();
+
+    List<String> actual = classes()
+        .should(ArchConditions.notDependOnClassesThat(nameMatching(".*Repository")))
+        .evaluate(CLASSES).getFailureReport().getDetails();
+
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void shouldReportClassesWithoutRequiredDependencyLikeArchUnit() {
+    List<String> expected = classes()
+        .should().dependOnClassesThat(nameMatching(".*Service"))
+        .evaluate(CLASSES).getFailureReport().getDetails();
+
+    List<String> actual = classes()
+        .should(ArchConditions.dependOnClassesThat(nameMatching(".*Service")))
+        .evaluate(CLASSES).getFailureReport().getDetails();
+
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, actual);
+  }
+
+  private static boolean contains(int[] ids, int id) {
+    return Arrays.stream(ids).anyMatch(value -> value == id);
+  }
+
+  static class Controller {
+
+    private final Service service = new Service();
+
+    String handle() {
+      return this.service.find();
+    }
+  }
+
+  static class Service {
+
+    private final Repository repository = new Repository();
+
+    String find() {
+      return this.repository.load() + this.repository.load();
+    }
+  }
+
+  static class Repository {
+
+    String load() {
+      return "";
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.enofex.taikai.internal;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.belongToAnyOf;
+import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.enofex.taikai.internal.cycles.a.A;
+import com.enofex.taikai.internal.cycles.b.B;
+import com.enofex.taikai.internal.cycles.c.C;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.EvaluationResult;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FreeOfCyclesRuleTest {
+
+  private static final String NAMESPACE = "com.enofex.taikai.internal.cycles";
+
+  private static final JavaClasses CLASSES = new ClassFileImporter()
+      .importPackages(NAMESPACE);
+
+  @Test
+  void shouldReportShortestCycleOnce() {
+    List<String> details = FreeOfCyclesRule.slicesOf(NAMESPACE, 1)
+        .evaluate(CLASSES)
+        .getFailureReport()
+        .getDetails();
+
+    assertEquals(1, details.size());
+    assertEquals(String.join(System.lineSeparator(),
+        "Cycle detected: Slice a -> Slice b -> Slice a (2 of 3 cyclically dependent slices)",
+        "    Class <%s> depends on class <%s>".formatted(A.class.getName(), B.class.getName()),
+        "    Class <%s> depends on class <%s>".formatted(B.class.getName(), A.class.getName())),
+        details.get(0));
+  }
+
+  @Test
+  void shouldDetectCyclesLikeArchUnit() {
+    assertTrue(slices().matching(NAMESPACE + ".(*)..").should().beFreeOfCycles()
+        .evaluate(CLASSES).hasViolation());
+    assertTrue(FreeOfCyclesRule.slicesOf(NAMESPACE, 1).evaluate(CLASSES).hasViolation());
+  }
+
+  @Test
+  void shouldDetectCyclesBetweenClasses() {
+    EvaluationResult result = FreeOfCyclesRule.slicesOf(NAMESPACE + ".b", 0).evaluate(CLASSES);
+
+    assertEquals(List.of(String.join(System.lineSeparator(),
+            "Cycle detected: Slice B -> Slice Helper -> Slice B"
+                + " (2 of 2 cyclically dependent slices)",
+            "    Class <%s> depends on class <%s.Helper>".formatted(
+                B.class.getName(), NAMESPACE + ".b"),
+            "    Class <%s.Helper> depends on class <%s>".formatted(
+                NAMESPACE + ".b", B.class.getName()))),
+        result.getFailureReport().getDetails());
+  }
+
+  @Test
+  void shouldOnlyCheckGivenClasses() {
+    JavaClasses classes = CLASSES.that(belongToAnyOf(A.class, C.class));
+
+    assertFalse(FreeOfCyclesRule.slicesOf(NAMESPACE, 1).evaluate(classes).hasViolation());
+  }
+
+  @Test
+  void shouldFailOnEmptyShould() {
+    FreeOfCyclesRule rule = FreeOfCyclesRule.slicesOf(NAMESPACE, 2);
+
+    assertThrows(AssertionError.class, () -> rule.allowEmptyShould(false).check(CLASSES));
+    assertDoesNotThrow(() -> rule.allowEmptyShould(true).check(CLASSES));
+  }
+
+  @Test
+  void shouldUseDescription() {
+    AssertionError error = assertThrows(AssertionError.class,
+        () -> FreeOfCyclesRule.slicesOf(NAMESPACE, 1).as("Cycles").because("of reasons")
+            .check(CLASSES));
+
+    assertTrue(error.getMessage().startsWith("Architecture Violation [Priority: MEDIUM] - "
+        + "Rule 'Cycles, because of reasons' was violated (1 times)"));
+  }
+
+  @Test
+  void shouldRejectNegativeSliceDepth() {
+    assertThrows(IllegalArgumentException.class, () -> FreeOfCyclesRule.slicesOf(NAMESPACE, -1));
+  }
+}
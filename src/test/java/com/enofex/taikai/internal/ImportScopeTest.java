@@ -0,0 +1,60 @@
+package com.enofex.taikai.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ImportScopeTest {
+
+  @Test
+  void shouldShareScopeBetweenClassesOfOneImport() {
+    JavaClasses classes = new ClassFileImporter().importClasses(First.class, Second.class);
+    ImportScope scope = ImportScope.register(classes);
+
+    assertSame(scope, ImportScope.of(classes.get(First.class)));
+    assertSame(scope, ImportScope.of(classes.get(Second.class)));
+    assertSame(scope, ImportScope.register(classes));
+  }
+
+  @Test
+  void shouldSeparateScopesOfImports() {
+    JavaClasses first = new ClassFileImporter().importClasses(First.class);
+    JavaClasses second = new ClassFileImporter().importClasses(First.class);
+
+    assertNotSame(ImportScope.of(first.get(First.class)), ImportScope.of(second.get(First.class)));
+  }
+
+  @Test
+  void shouldComputeValueOnce() {
+    JavaClasses classes = new ClassFileImporter().importClasses(First.class);
+    ImportScope scope = ImportScope.of(classes.get(First.class));
+    Object key = new Object();
+    AtomicInteger computations = new AtomicInteger();
+
+    String first = scope.get(key, root -> "value" + computations.incrementAndGet());
+    String second = scope.get(key, root -> "value" + computations.incrementAndGet());
+
+    assertEquals("value1", first);
+    assertSame(first, second);
+    assertEquals(1, computations.get());
+  }
+
+  @Test
+  void shouldNotRegisterEmptyImport() {
+    assertNull(ImportScope.register(new ClassFileImporter().importClasses()));
+  }
+
+  static class First {
+
+  }
+
+  static class Second {
+
+  }
+}
@@ -0,0 +1,94 @@
+package com.enofex.taikai.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SelfCallIndexTest {
+
+  private static final JavaClasses CLASSES = new ClassFileImporter()
+      .importClasses(SelfCalling.class, Other.class);
+
+  @Test
+  void shouldIndexCallsToOwnMethods() {
+    JavaClass javaClass = CLASSES.get(SelfCalling.class);
+    SelfCallIndex index = SelfCallIndex.of(javaClass);
+
+    assertEquals(List.of(javaClass.getMethod("first"), javaClass.getMethod("second")),
+        index.targets());
+    assertEquals(3, index.size());
+    assertEquals(List.of(0, 1, 0),
+        List.of(index.target(0), index.target(1), index.target(2)));
+    assertEquals("run", index.call(0).getOrigin().getName());
+  }
+
+  @Test
+  void shouldIgnoreCallsToOtherClasses() {
+    SelfCallIndex index = SelfCallIndex.of(CLASSES.get(Other.class));
+
+    assertTrue(index.isEmpty());
+    assertTrue(index.targets().isEmpty());
+  }
+
+  @Test
+  void shouldBuildIndexOncePerClass() {
+    JavaClass javaClass = CLASSES.get(SelfCalling.class);
+
+    assertSame(SelfCallIndex.of(javaClass), SelfCallIndex.of(javaClass));
+  }
+
+  @Test
+  void shouldNotKeepIndexedImportReachable() throws InterruptedException {
+    WeakReference<JavaClass> reference = indexedClass();
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertNull(reference.get());
+  }
+
+  private static WeakReference<JavaClass> indexedClass() {
+    JavaClasses classes = new ClassFileImporter().importClasses(SelfCalling.class);
+    ImportScope scope = ImportScope.register(classes);
+    JavaClass javaClass = classes.get(SelfCalling.class);
+
+    assertFalse(SelfCallIndex.of(javaClass).isEmpty());
+    assertSame(scope, ImportScope.of(javaClass));
+
+    return new WeakReference<>(javaClass);
+  }
+
+  static class SelfCalling {
+
+    void run() {
+      first();
+      second();
+      first();
+    }
+
+    void first() {
+    }
+
+    void second() {
+    }
+  }
+
+  static class Other {
+
+    void run(SelfCalling selfCalling) {
+      selfCalling.first();
+      toString();
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.enofex.taikai.internal.cycles.a;
+
+import com.enofex.taikai.internal.cycles.b.B;
+
+public class A {
+
+  B b;
+}
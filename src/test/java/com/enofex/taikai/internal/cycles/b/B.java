@@ -0,0 +1,11 @@
+package com.enofex.taikai.internal.cycles.b;
+
+import com.enofex.taikai.internal.cycles.a.A;
+import com.enofex.taikai.internal.cycles.c.C;
+
+public class B {
+
+  A a;
+  C c;
+  Helper helper;
+}
@@ -0,0 +1,6 @@
+package com.enofex.taikai.internal.cycles.b;
+
+class Helper {
+
+  B b;
+}
@@ -0,0 +1,8 @@
+package com.enofex.taikai.internal.cycles.c;
+
+import com.enofex.taikai.internal.cycles.a.A;
+
+public class C {
+
+  A a;
+}
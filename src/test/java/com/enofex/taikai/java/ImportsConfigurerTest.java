@@ -84,6 +84,36 @@ class ImportsConfigurerTest {
     assertDoesNotThrow(taikai::check);
   }
 
+  @Test
+  void shouldThrowWhenSlicesHaveCycles() {
+    Taikai taikai = Taikai.builder()
+        .java(java -> java.imports(
+            imports -> imports.shouldHaveNoCycles(1, TaikaiRule.Configuration.of(
+                "com.enofex.taikai.internal.cycles", Namespace.IMPORT.ONLY_TESTS))))
+        .build();
+
+    assertThrows(AssertionError.class, taikai::check);
+  }
+
+  @Test
+  void shouldNotThrowWhenClassesHaveNoCycles() {
+    Taikai taikai = Taikai.builder()
+        .java(java -> java.imports(
+            imports -> imports.shouldHaveNoCycles(0, TaikaiRule.Configuration.of(
+                "com.enofex.taikai.internal.cycles.a", Namespace.IMPORT.ONLY_TESTS))))
+        .build();
+
+    assertDoesNotThrow(taikai::check);
+  }
+
+  @Test
+  void shouldThrowWhenSliceDepthIsNegative() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder()
+        .namespace("com.enofex.taikai")
+        .java(java -> java.imports(imports -> imports.shouldHaveNoCycles(-1)))
+        .build());
+  }
+
   @Test
   void shouldAllowValidImports() {
     Taikai taikai = Taikai.builder()
@@ -0,0 +1,171 @@
+package com.enofex.taikai.layers;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.enofex.taikai.Taikai;
+import com.enofex.taikai.internal.cycles.a.A;
+import com.enofex.taikai.internal.cycles.b.B;
+import com.enofex.taikai.internal.cycles.c.C;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import org.junit.jupiter.api.Test;
+
+class LayersConfigurerTest {
+
+  @Test
+  void shouldAllowAccessByPermittedLayer() {
+    Taikai taikai = Taikai.builder()
+        .classes(A.class, B.class, C.class)
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .layer("B", "..cycles.b..")
+            .layer("C", "..cycles.c..")
+            .layerShouldOnlyBeAccessedBy("C", "B")
+            .layerShouldOnlyAccess("C", "A"))
+        .build();
+
+    assertDoesNotThrow(taikai::check);
+  }
+
+  @Test
+  void shouldThrowWhenAccessedByOtherLayer() {
+    Taikai taikai = Taikai.builder()
+        .classes(A.class, B.class, C.class)
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .layer("B", "..cycles.b..")
+            .layer("C", "..cycles.c..")
+            .layerShouldOnlyBeAccessedBy("A", "C"))
+        .build();
+
+    AssertionError error = assertThrows(AssertionError.class, taikai::check);
+    assertTrue(error.getMessage().contains("Layer A should only be accessed by layers [C]"));
+    assertTrue(error.getMessage().contains(B.class.getName()));
+  }
+
+  @Test
+  void shouldThrowWhenAccessingOtherLayer() {
+    Taikai taikai = Taikai.builder()
+        .classes(A.class, B.class, C.class)
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .layer("B", "..cycles.b..")
+            .layerShouldOnlyAccess("A"))
+        .build();
+
+    AssertionError error = assertThrows(AssertionError.class, taikai::check);
+    assertTrue(error.getMessage().contains("Layer A should not access any other layer"));
+  }
+
+  @Test
+  void shouldIgnoreClassesOutsideOfLayers() {
+    Taikai taikai = Taikai.builder()
+        .classes(A.class, B.class, C.class)
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .layer("C", "..cycles.c..")
+            .layerShouldOnlyBeAccessedBy("A", "C")
+            .layerShouldOnlyAccess("A"))
+        .build();
+
+    assertDoesNotThrow(taikai::check);
+  }
+
+  @Test
+  void shouldCheckAnnotatedLayers() {
+    Taikai taikai = Taikai.builder()
+        .classes(Controller.class, Service.class, Repository.class)
+        .layers(layers -> layers
+            .annotatedLayer("Web", Web.class)
+            .annotatedLayer("Domain", Domain.class)
+            .annotatedLayer("Persistence", Persistence.class)
+            .layerShouldOnlyBeAccessedBy("Domain", "Web")
+            .layerShouldOnlyBeAccessedBy("Persistence", "Domain"))
+        .build();
+
+    assertDoesNotThrow(taikai::check);
+  }
+
+  @Test
+  void shouldThrowWhenAnnotatedLayerAccessesOtherLayer() {
+    Taikai taikai = Taikai.builder()
+        .classes(Controller.class, Service.class, Repository.class)
+        .layers(layers -> layers
+            .annotatedLayer("Web", Web.class)
+            .annotatedLayer("Domain", Domain.class)
+            .annotatedLayer("Persistence", Persistence.class)
+            .layerShouldOnlyAccess("Domain", "Web"))
+        .build();
+
+    assertThrows(AssertionError.class, taikai::check);
+  }
+
+  @Test
+  void shouldThrowWhenLayerIsNotDeclared() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder()
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .layerShouldOnlyBeAccessedBy("A", "B")));
+  }
+
+  @Test
+  void shouldThrowWhenLayerIsDeclaredTwice() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder()
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .annotatedLayer("A", Web.class)));
+  }
+
+  @Test
+  void shouldThrowWhenLayerHasNoPackage() {
+    assertThrows(IllegalArgumentException.class, () -> Taikai.builder()
+        .layers(layers -> layers.layer("A")));
+  }
+
+  @Test
+  void shouldDisableRules() {
+    Taikai taikai = Taikai.builder()
+        .classes(A.class, B.class, C.class)
+        .layers(layers -> layers
+            .layer("A", "..cycles.a..")
+            .layerShouldOnlyAccess("A")
+            .disable())
+        .build();
+
+    assertTrue(taikai.rules().isEmpty());
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Web {
+
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Domain {
+
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Persistence {
+
+  }
+
+  @Web
+  static class Controller {
+
+    private Service service;
+  }
+
+  @Domain
+  static class Service {
+
+    private Repository repository;
+  }
+
+  @Persistence
+  static class Repository {
+
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.enofex.taikai.Taikai;
 import com.enofex.taikai.TaikaiRule.Configuration;
@@ -455,6 +456,63 @@ class ControllersConfigurerTest {
     }
   }
 
+  @Nested
+  class ShouldNotReachRepositories {
+
+    @Test
+    void shouldThrowWhenControllerReachesRepositoryThroughHelper() {
+      Taikai taikai = Taikai.builder()
+          .classes(ControllerReachingRepository.class, HandlerDependingOnRepository.class,
+              OrderRepository.class)
+          .spring(spring -> spring.controllers(ctrl -> ctrl.shouldNotReachRepositories(2)))
+          .build();
+
+      AssertionError error = assertThrows(AssertionError.class, taikai::check);
+      assertTrue(error.getMessage().contains("<%s> -> <%s> -> <%s>".formatted(
+          ControllerReachingRepository.class.getName(),
+          HandlerDependingOnRepository.class.getName(),
+          OrderRepository.class.getName())));
+    }
+
+    @Test
+    void shouldNotThrowWhenRepositoryIsFurtherAway() {
+      Taikai taikai = Taikai.builder()
+          .classes(ControllerReachingRepository.class, HandlerDependingOnRepository.class,
+              OrderRepository.class)
+          .spring(spring -> spring.controllers(ctrl -> ctrl.shouldNotReachRepositories(1)))
+          .build();
+
+      assertDoesNotThrow(taikai::check);
+    }
+
+    @Test
+    void shouldNotThrowWhenControllerDependsOnService() {
+      Taikai taikai = Taikai.builder()
+          .classes(ControllerDependingOnService.class, OrderService.class)
+          .spring(spring -> spring.controllers(ctrl -> ctrl.shouldNotReachRepositories(5)))
+          .build();
+
+      assertDoesNotThrow(taikai::check);
+    }
+
+    @Test
+    void shouldThrowWhenControllerDependsOnRepositoryWithConfiguration() {
+      Taikai taikai = Taikai.builder()
+          .classes(RestControllerDependingOnRepository.class, OrderRepository.class)
+          .spring(spring -> spring.controllers(
+              ctrl -> ctrl.shouldNotReachRepositories(1, Configuration.defaultConfiguration())))
+          .build();
+
+      assertThrows(AssertionError.class, taikai::check);
+    }
+
+    @Test
+    void shouldThrowWhenMaxDependenciesIsNotPositive() {
+      assertThrows(IllegalArgumentException.class, () -> Taikai.builder()
+          .spring(spring -> spring.controllers(ctrl -> ctrl.shouldNotReachRepositories(0))));
+    }
+  }
+
   @Nested
   class ShouldBeAnnotatedWithValidatedByRegex {
 
@@ -572,6 +630,16 @@ class ControllersConfigurerTest {
     }
   }
 
+  @RestController
+  static class ControllerReachingRepository {
+
+    private final HandlerDependingOnRepository handler;
+
+    ControllerReachingRepository(HandlerDependingOnRepository handler) {
+      this.handler = handler;
+    }
+  }
+
   @Nested
   class ConfigurationOverloads {
 